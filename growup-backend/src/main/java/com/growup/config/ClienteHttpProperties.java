@@ -0,0 +1,37 @@
+package com.growup.config;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Configuração do pool de conexões e dos timeouts de um cliente HTTP de integração
+ * ({@code http.jira.*}, {@code http.ia.*}). Os padrões valem para uma API remota lenta:
+ * nenhuma requisição espera indefinidamente por conexão ou por resposta.
+ */
+@Data
+public class ClienteHttpProperties {
+
+    /** Conexões simultâneas por destino (com HTTP/2, conexões multiplexadas). */
+    private int maxConexoes = 50;
+
+    /** Requisições aguardando conexão livre; acima disso a requisição falha na hora. */
+    private int maxPendentes = 100;
+
+    private Duration timeoutAquisicao = Duration.ofSeconds(5);
+    private Duration timeoutConexao = Duration.ofSeconds(5);
+    private Duration timeoutResposta = Duration.ofSeconds(30);
+
+    /** Menor que o timeout de ociosidade do servidor/balanceador, para não reutilizar conexões já fechadas. */
+    private Duration maxOcioso = Duration.ofSeconds(30);
+
+    /** Renova as conexões periodicamente para acompanhar mudanças de DNS. */
+    private Duration maxVida = Duration.ofMinutes(5);
+
+    private Duration intervaloLimpeza = Duration.ofSeconds(30);
+
+    /** Negocia HTTP/2 via ALPN em destinos HTTPS; HTTP/1.1 continua disponível. */
+    private boolean http2 = true;
+
+    private boolean compressao = true;
+}
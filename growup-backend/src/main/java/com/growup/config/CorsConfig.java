@@ -13,6 +13,8 @@ public class CorsConfig implements WebMvcConfigurer {
                 .allowedOrigins("*")
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                 .allowedHeaders("*")
+                // Clientes em outra origem precisam ler o ETag para enviar If-None-Match
+                .exposedHeaders("ETag")
                 .maxAge(3600);
     }
 }
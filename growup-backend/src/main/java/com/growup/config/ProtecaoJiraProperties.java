@@ -0,0 +1,44 @@
+package com.growup.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Limite de taxa, novas tentativas e circuit breaker das chamadas ao Jira
+ * ({@code jira.protecao.*}). A taxa começa em {@code taxaInicial} e se ajusta sozinha
+ * entre {@code taxaMinima} e {@code taxaMaxima} conforme o Jira aceita ou limita as
+ * requisições.
+ */
+@Data
+@Component
+@ConfigurationProperties("jira.protecao")
+public class ProtecaoJiraProperties {
+
+    /** Requisições por segundo, somando todas as chamadas da instância. */
+    private double taxaInicial = 10;
+    private double taxaMinima = 1;
+    private double taxaMaxima = 50;
+
+    /** Quanto a taxa sobe (req/s) a cada segundo de respostas aceitas. */
+    private double incremento = 1;
+
+    /** Multiplicador aplicado à taxa quando o Jira responde 429 ou avisa que está perto do limite. */
+    private double fatorReducao = 0.5;
+
+    /** Tentativas por chamada, contando a primeira. */
+    private int tentativas = 4;
+
+    private Duration esperaInicial = Duration.ofMillis(500);
+
+    /** Teto do backoff e da espera por vaga; um {@code Retry-After} maior que isso falha a chamada. */
+    private Duration esperaMaxima = Duration.ofSeconds(30);
+
+    /** Falhas seguidas (5xx ou erro de conexão) que abrem o circuito. */
+    private int limiarFalhas = 5;
+
+    /** Tempo com o circuito aberto antes de deixar passar uma chamada de teste. */
+    private Duration esperaCircuito = Duration.ofSeconds(30);
+}
@@ -0,0 +1,77 @@
+package com.growup.config;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Abre um span para cada método de controller, service e repositório, nomeado
+ * {@code Classe.metodo}. Usa a API de Observation (e não o Tracer direto) para que os
+ * spans de SQL e das chamadas do {@code WebClient} fiquem aninhados no método que os
+ * originou. O timer que a Observation criaria ({@value #OBSERVACAO}) é desligado em
+ * {@code management.metrics.enable}: a latência por endpoint já vem de
+ * {@code http.server.requests}.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class RastreamentoAspect {
+
+    static final String OBSERVACAO = "growup.metodo";
+
+    private final ObservationRegistry observationRegistry;
+    private final Map<Class<?>, String> nomesClasse = new ConcurrentHashMap<>();
+
+    @Around("@within(org.springframework.web.bind.annotation.RestController)")
+    public Object rastrearController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return rastrear(joinPoint, "controller");
+    }
+
+    @Around("@within(org.springframework.stereotype.Service)")
+    public Object rastrearService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return rastrear(joinPoint, "service");
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object rastrearRepositorio(ProceedingJoinPoint joinPoint) throws Throwable {
+        return rastrear(joinPoint, "repository");
+    }
+
+    private Object rastrear(ProceedingJoinPoint joinPoint, String camada) throws Throwable {
+        if (observationRegistry.isNoop()) {
+            return joinPoint.proceed();
+        }
+        String nome = nomesClasse.computeIfAbsent(joinPoint.getThis().getClass(), classe -> nomeClasse(joinPoint))
+                + "." + joinPoint.getSignature().getName();
+        return Observation.createNotStarted(OBSERVACAO, observationRegistry)
+                .contextualName(nome)
+                .lowCardinalityKeyValue("camada", camada)
+                .observeChecked((Observation.CheckedCallable<Object, Throwable>) joinPoint::proceed);
+    }
+
+    /**
+     * Para repositórios, o método costuma ser declarado em {@code CrudRepository}; o nome
+     * útil é o da interface do projeto implementada pelo proxy.
+     */
+    private static String nomeClasse(ProceedingJoinPoint joinPoint) {
+        if (!Proxy.isProxyClass(joinPoint.getThis().getClass())) {
+            return ClassUtils.getUserClass(joinPoint.getThis()).getSimpleName();
+        }
+        return Arrays.stream(AopProxyUtils.proxiedUserInterfaces(joinPoint.getThis()))
+                .filter(interfaceProxy -> interfaceProxy.getName().startsWith("com.growup."))
+                .findFirst()
+                .map(Class::getSimpleName)
+                .orElseGet(() -> joinPoint.getSignature().getDeclaringType().getSimpleName());
+    }
+}
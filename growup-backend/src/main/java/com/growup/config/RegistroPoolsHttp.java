@@ -0,0 +1,81 @@
+package com.growup.config;
+
+import com.growup.dto.PoolHttpDTO;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.netty.resources.ConnectionPoolMetrics;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.SocketAddress;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Guarda as métricas dos pools de conexão dos clientes HTTP. O Reactor Netty cria um
+ * pool por destino e o registra aqui ao abri-lo; os valores são lidos na hora da
+ * consulta, então o retrato está sempre atualizado. Os mesmos valores são publicados
+ * no Micrometer como {@value #METRICA_CONEXOES}, com as tags {@code pool},
+ * {@code destino} e {@code estado} ({@code em_uso}, {@code ociosas}, {@code pendentes}).
+ */
+@Component
+@RequiredArgsConstructor
+public class RegistroPoolsHttp implements ConnectionProvider.MeterRegistrar {
+
+    static final String METRICA_CONEXOES = "growup.http.pool.conexoes";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Pool> pools = new ConcurrentHashMap<>();
+
+    @Override
+    public void registerMetrics(String nome, String id, SocketAddress destino, ConnectionPoolMetrics metricas) {
+        String endereco = destino.toString();
+        List<Meter> medidores = List.of(
+                medidor(nome, endereco, "em_uso", metricas, ConnectionPoolMetrics::acquiredSize),
+                medidor(nome, endereco, "ociosas", metricas, ConnectionPoolMetrics::idleSize),
+                medidor(nome, endereco, "pendentes", metricas, ConnectionPoolMetrics::pendingAcquireSize));
+        pools.put(id, new Pool(nome, endereco, metricas, medidores));
+    }
+
+    @Override
+    public void deRegisterMetrics(String nome, String id, SocketAddress destino) {
+        Pool pool = pools.remove(id);
+        if (pool != null) {
+            pool.medidores().forEach(meterRegistry::remove);
+        }
+    }
+
+    public List<PoolHttpDTO> listar() {
+        return pools.values().stream()
+                .map(Pool::retrato)
+                .sorted(Comparator.comparing(PoolHttpDTO::getNome).thenComparing(PoolHttpDTO::getDestino))
+                .toList();
+    }
+
+    private Meter medidor(String nome, String destino, String estado, ConnectionPoolMetrics metricas,
+                          ToDoubleFunction<ConnectionPoolMetrics> valor) {
+        return Gauge.builder(METRICA_CONEXOES, metricas, valor)
+                .tags("pool", nome, "destino", destino, "estado", estado)
+                .register(meterRegistry);
+    }
+
+    private record Pool(String nome, String destino, ConnectionPoolMetrics metricas, List<Meter> medidores) {
+        PoolHttpDTO retrato() {
+            return PoolHttpDTO.builder()
+                    .nome(nome)
+                    .destino(destino)
+                    .emUso(metricas.acquiredSize())
+                    .ociosas(metricas.idleSize())
+                    .abertas(metricas.allocatedSize())
+                    .maxConexoes(metricas.maxAllocatedSize())
+                    .pendentes(metricas.pendingAcquireSize())
+                    .maxPendentes(metricas.maxPendingAcquireSize())
+                    .build();
+        }
+    }
+}
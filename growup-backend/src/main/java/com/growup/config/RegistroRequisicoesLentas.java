@@ -0,0 +1,234 @@
+package com.growup.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.growup.dto.RequisicaoLentaDTO;
+import com.growup.dto.SpanDTO;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Guarda a árvore de spans das requisições lentas. Os spans encerrados são agrupados
+ * por trace até o fim do span raiz local (a requisição HTTP, um job agendado); se ele
+ * durou mais que {@code rastreamento.lentas.limiar-ms}, a árvore vai para um buffer
+ * circular de {@code rastreamento.lentas.capacidade} entradas e, se
+ * {@code rastreamento.lentas.arquivo} estiver definido, é anexada ao arquivo em JSON
+ * Lines. Traces rápidos são descartados. Para não crescer sem limite, no máximo
+ * {@code rastreamento.lentas.max-traces-abertos} traces ficam em montagem (os mais
+ * antigos são descartados) e cada um guarda até {@code rastreamento.lentas.max-spans}.
+ */
+@Component
+@Slf4j
+public class RegistroRequisicoesLentas implements SpanProcessor {
+
+    /** Nome dado pelo datasource-micrometer aos spans de comandos SQL. */
+    static final String SPAN_SQL = "query";
+
+    private static final int TAMANHO_MAXIMO_ATRIBUTO = 1000;
+
+    private final ObjectMapper objectMapper;
+    private final long limiarNanos;
+    private final int capacidade;
+    private final int maxSpans;
+    private final Path arquivo;
+
+    private final Map<String, TraceEmMontagem> abertos;
+    private final Deque<RequisicaoLentaDTO> lentas = new ArrayDeque<>();
+
+    public RegistroRequisicoesLentas(ObjectMapper objectMapper,
+                                     @Value("${rastreamento.lentas.limiar-ms:2000}") long limiarMs,
+                                     @Value("${rastreamento.lentas.capacidade:100}") int capacidade,
+                                     @Value("${rastreamento.lentas.max-spans:2000}") int maxSpans,
+                                     @Value("${rastreamento.lentas.max-traces-abertos:1000}") int maxTracesAbertos,
+                                     @Value("${rastreamento.lentas.arquivo:}") String arquivo) {
+        this.objectMapper = objectMapper;
+        this.limiarNanos = limiarMs * 1_000_000;
+        this.capacidade = capacidade;
+        this.maxSpans = maxSpans;
+        this.arquivo = arquivo.isBlank() ? null : Path.of(arquivo);
+        this.abertos = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TraceEmMontagem> maisAntigo) {
+                return size() > maxTracesAbertos;
+            }
+        };
+    }
+
+    @Override
+    public void onStart(Context contextoPai, ReadWriteSpan span) {
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return false;
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        SpanData dados = span.toSpanData();
+        SpanContext pai = dados.getParentSpanContext();
+        boolean raizLocal = !pai.isValid() || pai.isRemote();
+
+        TraceEmMontagem trace;
+        synchronized (abertos) {
+            trace = raizLocal
+                    ? abertos.remove(dados.getTraceId())
+                    : abertos.computeIfAbsent(dados.getTraceId(), id -> new TraceEmMontagem());
+        }
+        if (!raizLocal) {
+            trace.adicionar(dados, maxSpans);
+            return;
+        }
+
+        if (dados.getEndEpochNanos() - dados.getStartEpochNanos() < limiarNanos) {
+            return;
+        }
+        RequisicaoLentaDTO lenta = montar(dados, trace == null ? new TraceEmMontagem() : trace);
+        synchronized (lentas) {
+            lentas.addFirst(lenta);
+            while (lentas.size() > capacidade) {
+                lentas.removeLast();
+            }
+        }
+        log.warn("Requisição lenta: {} levou {} ms ({} spans, {} SQLs, trace {})", lenta.getNome(),
+                Math.round(lenta.getDuracaoMs()), lenta.getTotalSpans(), lenta.getTotalSqls(), lenta.getTraceId());
+        exportar(lenta);
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    /** As requisições lentas guardadas, da mais recente para a mais antiga. */
+    public List<RequisicaoLentaDTO> listar() {
+        synchronized (lentas) {
+            return new ArrayList<>(lentas);
+        }
+    }
+
+    public void limpar() {
+        synchronized (lentas) {
+            lentas.clear();
+        }
+    }
+
+    private RequisicaoLentaDTO montar(SpanData raiz, TraceEmMontagem trace) {
+        List<SpanData> spans = trace.spans();
+        Map<String, List<SpanData>> filhosPorPai = new HashMap<>();
+        for (SpanData span : spans) {
+            filhosPorPai.computeIfAbsent(span.getParentSpanId(), id -> new ArrayList<>()).add(span);
+        }
+        // Spans cujo pai foi descartado (limite por trace) ficam sob a raiz
+        Set<String> conhecidos = new HashSet<>();
+        conhecidos.add(raiz.getSpanId());
+        spans.forEach(span -> conhecidos.add(span.getSpanId()));
+        for (SpanData span : spans) {
+            if (!conhecidos.contains(span.getParentSpanId())) {
+                filhosPorPai.computeIfAbsent(raiz.getSpanId(), id -> new ArrayList<>()).add(span);
+            }
+        }
+
+        SpanDTO arvore = converter(raiz, raiz.getStartEpochNanos(), filhosPorPai);
+        return RequisicaoLentaDTO.builder()
+                .traceId(raiz.getTraceId())
+                .nome(raiz.getName())
+                .inicio(Instant.ofEpochSecond(0, raiz.getStartEpochNanos()))
+                .duracaoMs(arvore.getDuracaoMs())
+                .totalSpans(spans.size() + 1)
+                .spansDescartados(trace.descartados())
+                .totalSqls(arvore.getSqls())
+                .raiz(arvore)
+                .build();
+    }
+
+    private SpanDTO converter(SpanData span, long inicioRaiz, Map<String, List<SpanData>> filhosPorPai) {
+        List<SpanDTO> filhos = filhosPorPai.getOrDefault(span.getSpanId(), List.of()).stream()
+                .sorted(Comparator.comparingLong(SpanData::getStartEpochNanos))
+                .map(filho -> converter(filho, inicioRaiz, filhosPorPai))
+                .toList();
+        int sqls = (SPAN_SQL.equals(span.getName()) ? 1 : 0) + filhos.stream().mapToInt(SpanDTO::getSqls).sum();
+
+        Map<String, String> atributos = new TreeMap<>();
+        span.getAttributes().forEach((chave, valor) -> atributos.put(chave.getKey(), truncar(String.valueOf(valor))));
+
+        return SpanDTO.builder()
+                .nome(span.getName())
+                .inicioMs(milissegundos(span.getStartEpochNanos() - inicioRaiz))
+                .duracaoMs(milissegundos(span.getEndEpochNanos() - span.getStartEpochNanos()))
+                .sqls(sqls)
+                .erro(span.getStatus().getStatusCode() == StatusCode.ERROR ? true : null)
+                .atributos(atributos)
+                .filhos(filhos)
+                .build();
+    }
+
+    private void exportar(RequisicaoLentaDTO lenta) {
+        if (arquivo == null) {
+            return;
+        }
+        try {
+            String linha = objectMapper.writeValueAsString(lenta) + System.lineSeparator();
+            synchronized (this) {
+                Files.writeString(arquivo, linha, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+        } catch (IOException e) {
+            log.warn("Erro ao exportar requisição lenta para {}", arquivo, e);
+        }
+    }
+
+    private static double milissegundos(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+
+    private static String truncar(String valor) {
+        return valor.length() <= TAMANHO_MAXIMO_ATRIBUTO ? valor : valor.substring(0, TAMANHO_MAXIMO_ATRIBUTO) + "…";
+    }
+
+    private static class TraceEmMontagem {
+        private final List<SpanData> spans = new ArrayList<>();
+        private int descartados;
+
+        synchronized void adicionar(SpanData span, int maxSpans) {
+            if (spans.size() < maxSpans) {
+                spans.add(span);
+            } else {
+                descartados++;
+            }
+        }
+
+        synchronized List<SpanData> spans() {
+            return new ArrayList<>(spans);
+        }
+
+        synchronized int descartados() {
+            return descartados;
+        }
+    }
+}
@@ -1,15 +1,89 @@
 package com.growup.config;
 
+import io.netty.channel.ChannelOption;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
+/**
+ * Um {@link WebClient} por integração, cada um com seu próprio pool de conexões, para
+ * que um Jira lento não esgote as conexões usadas pela IA (e vice-versa). Pools e
+ * timeouts são configurados em {@code http.jira.*} e {@code http.ia.*}.
+ */
 @Configuration
+@RequiredArgsConstructor
 public class WebClientConfig {
 
+    private final RegistroPoolsHttp registroPools;
+
+    /** O builder do Spring Boot já vem com as métricas {@code http.client.requests}. */
+    private final WebClient.Builder webClientBuilder;
+
+    @Bean
+    @ConfigurationProperties("http.jira")
+    public ClienteHttpProperties jiraHttpProperties() {
+        return new ClienteHttpProperties();
+    }
+
     @Bean
-    public WebClient webClient() {
-        return WebClient.builder()
+    @ConfigurationProperties("http.ia")
+    public ClienteHttpProperties iaHttpProperties() {
+        return new ClienteHttpProperties();
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider jiraConnectionProvider() {
+        return criarPool("jira", jiraHttpProperties(), registroPools);
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider iaConnectionProvider() {
+        return criarPool("ia", iaHttpProperties(), registroPools);
+    }
+
+    @Bean
+    public WebClient jiraWebClient() {
+        return criarWebClient(webClientBuilder.clone(), jiraConnectionProvider(), jiraHttpProperties());
+    }
+
+    @Bean
+    public WebClient iaWebClient() {
+        return criarWebClient(webClientBuilder.clone(), iaConnectionProvider(), iaHttpProperties());
+    }
+
+    static ConnectionProvider criarPool(String nome, ClienteHttpProperties config,
+                                        ConnectionProvider.MeterRegistrar registrar) {
+        return ConnectionProvider.builder(nome)
+                .maxConnections(config.getMaxConexoes())
+                .pendingAcquireMaxCount(config.getMaxPendentes())
+                .pendingAcquireTimeout(config.getTimeoutAquisicao())
+                .maxIdleTime(config.getMaxOcioso())
+                .maxLifeTime(config.getMaxVida())
+                .evictInBackground(config.getIntervaloLimpeza())
+                .metrics(true, () -> registrar)
+                .build();
+    }
+
+    static WebClient criarWebClient(WebClient.Builder builder, ConnectionProvider pool, ClienteHttpProperties config) {
+        HttpClient httpClient = HttpClient.create(pool)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) config.getTimeoutConexao().toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(config.getTimeoutResposta())
+                .keepAlive(true)
+                .compress(config.isCompressao());
+        if (config.isHttp2()) {
+            // H2 só é usado quando o servidor aceita via ALPN (HTTPS); senão, HTTP/1.1
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+        }
+
+        return builder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .build();
     }
 }
@@ -0,0 +1,144 @@
+package com.growup.controller;
+
+import com.growup.config.RegistroPoolsHttp;
+import com.growup.config.RegistroRequisicoesLentas;
+import com.growup.dto.CacheEstatisticasDTO;
+import com.growup.dto.PoolHttpDTO;
+import com.growup.dto.ProtecaoJiraDTO;
+import com.growup.dto.RequisicaoLentaDTO;
+import com.growup.integration.ProtecaoJira;
+import com.growup.service.AICacheService;
+import com.growup.service.CacheLeituraService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/admin")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+public class AdminController {
+
+    private final AICacheService aiCacheService;
+    private final CacheLeituraService cacheLeituraService;
+    private final RegistroPoolsHttp registroPoolsHttp;
+    private final ProtecaoJira protecaoJira;
+    private final RegistroRequisicoesLentas registroRequisicoesLentas;
+
+    @GetMapping("/cache/ia")
+    public ResponseEntity<CacheEstatisticasDTO> estatisticasCacheIA() {
+        log.info("Consultando estatísticas do cache de IA");
+
+        try {
+            return ResponseEntity.ok(aiCacheService.estatisticas());
+        } catch (Exception e) {
+            log.error("Erro ao consultar estatísticas do cache de IA", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @DeleteMapping("/cache/ia")
+    public ResponseEntity<Void> limparCacheIA() {
+        log.info("Limpando cache de IA");
+
+        try {
+            aiCacheService.limpar();
+            return ResponseEntity.noContent().build();
+        } catch (Exception e) {
+            log.error("Erro ao limpar cache de IA", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @DeleteMapping("/cache/ia/{chave}")
+    public ResponseEntity<Void> invalidarEntradaCacheIA(@PathVariable String chave) {
+        log.info("Invalidando entrada do cache de IA: {}", chave);
+
+        try {
+            aiCacheService.invalidar(chave);
+            return ResponseEntity.noContent().build();
+        } catch (Exception e) {
+            log.error("Erro ao invalidar entrada do cache de IA", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping("/cache/leitura")
+    public ResponseEntity<List<CacheEstatisticasDTO>> estatisticasCacheLeitura() {
+        log.info("Consultando estatísticas do cache de leitura");
+
+        try {
+            return ResponseEntity.ok(cacheLeituraService.estatisticas());
+        } catch (Exception e) {
+            log.error("Erro ao consultar estatísticas do cache de leitura", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @DeleteMapping("/cache/leitura")
+    public ResponseEntity<Void> limparCacheLeitura() {
+        log.info("Limpando cache de leitura");
+
+        try {
+            cacheLeituraService.limpar();
+            return ResponseEntity.noContent().build();
+        } catch (Exception e) {
+            log.error("Erro ao limpar cache de leitura", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping("/http/pools")
+    public ResponseEntity<List<PoolHttpDTO>> poolsHttp() {
+        log.info("Consultando pools de conexão HTTP");
+
+        try {
+            return ResponseEntity.ok(registroPoolsHttp.listar());
+        } catch (Exception e) {
+            log.error("Erro ao consultar pools de conexão HTTP", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping("/jira/protecao")
+    public ResponseEntity<ProtecaoJiraDTO> protecaoJira() {
+        log.info("Consultando limite de taxa e circuito do Jira");
+
+        try {
+            return ResponseEntity.ok(protecaoJira.estatisticas());
+        } catch (Exception e) {
+            log.error("Erro ao consultar limite de taxa e circuito do Jira", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping("/rastreamento/lentas")
+    public ResponseEntity<List<RequisicaoLentaDTO>> requisicoesLentas() {
+        log.info("Consultando requisições lentas");
+
+        try {
+            return ResponseEntity.ok(registroRequisicoesLentas.listar());
+        } catch (Exception e) {
+            log.error("Erro ao consultar requisições lentas", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @DeleteMapping("/rastreamento/lentas")
+    public ResponseEntity<Void> limparRequisicoesLentas() {
+        log.info("Limpando requisições lentas");
+
+        try {
+            registroRequisicoesLentas.limpar();
+            return ResponseEntity.noContent().build();
+        } catch (Exception e) {
+            log.error("Erro ao limpar requisições lentas", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+}
@@ -1,13 +1,23 @@
 package com.growup.controller;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.growup.dto.JiraSyncJobDTO;
 import com.growup.dto.JiraSyncRequest;
+import com.growup.dto.JiraSyncResultDTO;
+import com.growup.dto.PaginaDTO;
+import com.growup.dto.SincronizacaoJiraDTO;
+import com.growup.dto.UserStoryDTO;
 import com.growup.service.JiraService;
+import com.growup.service.JiraSyncJobService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
+import java.util.List;
+
 @RestController
 @RequestMapping("/jira")
 @RequiredArgsConstructor
@@ -16,24 +26,42 @@ import org.springframework.web.bind.annotation.*;
 public class JiraController {
 
     private final JiraService jiraService;
+    private final JiraSyncJobService jiraSyncJobService;
 
     @PostMapping("/sincronizar")
     public ResponseEntity<SyncResponse> sincronizarComJira(@RequestBody JiraSyncRequest request) {
         log.info("Sincronizando {} histórias com Jira", request.getHistoriaIds().size());
 
         try {
-            jiraService.sincronizarHistoriasComJira(request.getHistoriaIds(), request.getJiraProjectKey());
+            List<JiraSyncResultDTO> resultados = jiraService.sincronizarHistoriasComJira(
+                    request.getHistoriaIds(), request.getJiraProjectKey());
+
+            return ResponseEntity.ok(resumir(resultados));
+        } catch (Exception e) {
+            log.error("Erro ao sincronizar com Jira", e);
             
             SyncResponse response = SyncResponse.builder()
-                    .sucesso(true)
-                    .mensagem("Histórias sincronizadas com sucesso")
-                    .totalSincronizadas(request.getHistoriaIds().size())
+                    .sucesso(false)
+                    .mensagem("Erro ao sincronizar: " + e.getMessage())
+                    .totalSincronizadas(0)
                     .build();
 
-            return ResponseEntity.ok(response);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    @PostMapping("/sincronizar/paralelo")
+    public ResponseEntity<SyncResponse> sincronizarComJiraEmParalelo(@RequestBody JiraSyncRequest request) {
+        log.info("Sincronizando {} histórias com Jira em paralelo", request.getHistoriaIds().size());
+
+        try {
+            List<JiraSyncResultDTO> resultados = jiraService.sincronizarHistoriasEmParalelo(
+                    request.getHistoriaIds(), request.getJiraProjectKey());
+
+            return ResponseEntity.ok(resumir(resultados));
         } catch (Exception e) {
             log.error("Erro ao sincronizar com Jira", e);
-            
+
             SyncResponse response = SyncResponse.builder()
                     .sucesso(false)
                     .mensagem("Erro ao sincronizar: " + e.getMessage())
@@ -44,11 +72,89 @@ public class JiraController {
         }
     }
 
+    @PostMapping("/jobs")
+    public ResponseEntity<JiraSyncJobDTO> criarJobDeSincronizacao(@RequestBody JiraSyncRequest request) {
+        log.info("Criando job de sincronização para {} histórias", request.getHistoriaIds().size());
+
+        try {
+            JiraSyncJobDTO job = jiraSyncJobService.criarJob(request.getHistoriaIds(), request.getJiraProjectKey());
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/jira/jobs/" + job.getId()))
+                    .body(job);
+        } catch (Exception e) {
+            log.error("Erro ao criar job de sincronização", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping("/jobs/{id}")
+    public ResponseEntity<JiraSyncJobDTO> consultarJobDeSincronizacao(@PathVariable Long id) {
+        log.info("Consultando job de sincronização: {}", id);
+
+        try {
+            return jiraSyncJobService.buscarJob(id)
+                    .map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (Exception e) {
+            log.error("Erro ao consultar job de sincronização", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping("/projetos/{projetoId}/historias")
+    public ResponseEntity<PaginaDTO<UserStoryDTO>> listarHistoriasPorSincronizacao(
+            @PathVariable Long projetoId,
+            @RequestParam(defaultValue = "true") boolean sincronizadas,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int limite) {
+        log.info("Listando histórias {} do projeto: {}", sincronizadas ? "sincronizadas" : "não sincronizadas", projetoId);
+
+        try {
+            return ResponseEntity.ok(jiraService.listarPaginaPorSincronizacao(projetoId, sincronizadas, cursor, limite));
+        } catch (IllegalArgumentException e) {
+            log.warn("Cursor recusado: {}", cursor);
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Erro ao listar histórias por sincronização", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping("/projetos/{projetoId}/sincronizacao")
+    public ResponseEntity<SincronizacaoJiraDTO> consultarSincronizacao(@PathVariable Long projetoId) {
+        log.info("Consultando contadores de sincronização do projeto: {}", projetoId);
+
+        try {
+            return jiraService.contarSincronizacao(projetoId)
+                    .map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (Exception e) {
+            log.error("Erro ao consultar contadores de sincronização", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    private static SyncResponse resumir(List<JiraSyncResultDTO> resultados) {
+        int totalFalhas = (int) resultados.stream().filter(r -> !r.getSucesso()).count();
+        return SyncResponse.builder()
+                .sucesso(totalFalhas == 0)
+                .mensagem(totalFalhas == 0
+                        ? "Histórias sincronizadas com sucesso"
+                        : totalFalhas + " histórias não foram sincronizadas")
+                .totalSincronizadas(resultados.size() - totalFalhas)
+                .totalFalhas(totalFalhas)
+                .resultados(resultados)
+                .build();
+    }
+
     @lombok.Data
     @lombok.Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     public static class SyncResponse {
         private Boolean sucesso;
         private String mensagem;
         private Integer totalSincronizadas;
+        private Integer totalFalhas;
+        private List<JiraSyncResultDTO> resultados;
     }
 }
@@ -1,16 +1,19 @@
 package com.growup.controller;
 
+import com.growup.dto.AlocacaoEmLoteDTO;
+import com.growup.dto.AlocacaoEmLoteRequest;
 import com.growup.dto.SprintDTO;
 import com.growup.model.Sprint;
 import com.growup.service.SprintService;
+import com.growup.service.VersaoProjetoService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/sprints")
@@ -20,17 +23,22 @@ import java.util.stream.Collectors;
 public class RoadmapController {
 
     private final SprintService sprintService;
+    private final VersaoProjetoService versaoProjetoService;
 
     @GetMapping("/projeto/{projetoId}")
-    public ResponseEntity<List<SprintDTO>> listarSprintsPorProjeto(@PathVariable Long projetoId) {
+    public ResponseEntity<List<SprintDTO>> listarSprintsPorProjeto(@PathVariable Long projetoId, WebRequest request) {
         log.info("Listando sprints do projeto: {}", projetoId);
 
         try {
-            List<Sprint> sprints = sprintService.listarSprintsPorProjeto(projetoId);
-            List<SprintDTO> dtos = sprints.stream()
-                    .map(this::converterParaDTO)
-                    .collect(Collectors.toList());
-            return ResponseEntity.ok(dtos);
+            // ETag calculado sem carregar sprints; com If-None-Match igual, responde 304 sem corpo
+            boolean naoModificado = versaoProjetoService.calcularEtag(projetoId)
+                    .map(request::checkNotModified)
+                    .orElse(false);
+            if (naoModificado) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+            }
+            // Contagens vêm da consulta agregada, sem inicializar a coleção de cada sprint
+            return ResponseEntity.ok(sprintService.listarResumosPorProjeto(projetoId));
         } catch (Exception e) {
             log.error("Erro ao listar sprints", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -70,6 +78,38 @@ public class RoadmapController {
         }
     }
 
+    @PostMapping("/{sprintId}/historias/alocar")
+    public ResponseEntity<AlocacaoEmLoteDTO> alocarHistoriasEmLote(
+            @PathVariable Long sprintId,
+            @RequestBody AlocacaoEmLoteRequest request) {
+        log.info("Alocando {} histórias em sprint {}", tamanho(request), sprintId);
+
+        try {
+            return sprintService.alocarHistoriasEmLote(sprintId, request.getHistoriaIds())
+                    .map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (Exception e) {
+            log.error("Erro ao alocar histórias em sprint", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @PostMapping("/{sprintId}/historias/desalocar")
+    public ResponseEntity<AlocacaoEmLoteDTO> desalocarHistoriasEmLote(
+            @PathVariable Long sprintId,
+            @RequestBody AlocacaoEmLoteRequest request) {
+        log.info("Desalocando {} histórias da sprint {}", tamanho(request), sprintId);
+
+        try {
+            return sprintService.desalocarHistoriasEmLote(sprintId, request.getHistoriaIds())
+                    .map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (Exception e) {
+            log.error("Erro ao desalocar histórias da sprint", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
     @PostMapping("/{sprintId}/desalocar-historia/{historiaId}")
     public ResponseEntity<Void> desalocarHistoriaDeSprint(
             @PathVariable Long sprintId,
@@ -98,6 +138,10 @@ public class RoadmapController {
         }
     }
 
+    private int tamanho(AlocacaoEmLoteRequest request) {
+        return request.getHistoriaIds() != null ? request.getHistoriaIds().size() : 0;
+    }
+
     private SprintDTO converterParaDTO(Sprint sprint) {
         return SprintDTO.builder()
                 .id(sprint.getId())
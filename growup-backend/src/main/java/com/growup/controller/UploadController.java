@@ -1,16 +1,43 @@
 package com.growup.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.growup.dto.PaginaDTO;
+import com.growup.dto.ProcessamentoDTO;
+import com.growup.dto.RoadmapDTO;
 import com.growup.dto.UploadDocumentoRequest;
 import com.growup.dto.UserStoryDTO;
 import com.growup.model.Projeto;
+import com.growup.model.UserStory;
+import com.growup.service.ExtratorTextoDocumento;
+import com.growup.service.ProcessingJobService;
+import com.growup.service.RoadmapService;
+import com.growup.service.UploadEmFluxoService;
 import com.growup.service.UserStoryService;
+import com.growup.service.VersaoProjetoService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @RestController
@@ -21,6 +48,16 @@ import java.util.stream.Collectors;
 public class UploadController {
 
     private final UserStoryService userStoryService;
+    private final ProcessingJobService processingJobService;
+    private final UploadEmFluxoService uploadEmFluxoService;
+    private final RoadmapService roadmapService;
+    private final VersaoProjetoService versaoProjetoService;
+    private final ObjectMapper objectMapper;
+
+    private static final int TAMANHO_LOTE_STREAM = 500;
+
+    @Value("${upload.stream.timeout-ms:600000}")
+    private long timeoutStream;
 
     @PostMapping("/upload")
     public ResponseEntity<ProjetoResponse> uploadDocumento(@RequestBody UploadDocumentoRequest request) {
@@ -28,22 +65,7 @@ public class UploadController {
 
         try {
             Projeto projeto = userStoryService.processarDocumento(request);
-            ProjetoResponse response = ProjetoResponse.builder()
-                    .id(projeto.getId())
-                    .nome(projeto.getNome())
-                    .descricao(projeto.getDescricao())
-                    .totalHistorias(projeto.getHistorias().size())
-                    .historias(projeto.getHistorias().stream()
-                            .map(h -> UserStoryDTO.builder()
-                                    .id(h.getId())
-                                    .papel(h.getPapel())
-                                    .acao(h.getAcao())
-                                    .beneficio(h.getBeneficio())
-                                    .prioridade(h.getPrioridade().toString())
-                                    .estimativa(h.getEstimativa())
-                                    .build())
-                            .collect(Collectors.toList()))
-                    .build();
+            ProjetoResponse response = montarResposta(projeto);
 
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
         } catch (Exception e) {
@@ -52,11 +74,147 @@ public class UploadController {
         }
     }
 
+    /**
+     * Envia cada história como evento SSE {@code historia} assim que é gerada e salva e,
+     * ao final, o evento {@code resumo} com o projeto completo (ou {@code erro}).
+     */
+    @PostMapping(value = "/upload/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> uploadDocumentoEmFluxo(@RequestBody UploadDocumentoRequest request) {
+        log.info("Recebido upload em fluxo de documento para projeto: {}", request.getNomeProjeto());
+
+        try {
+            SseEmitter emitter = new SseEmitter(timeoutStream);
+            uploadEmFluxoService.processar(request, historia -> enviarEvento(emitter, "historia", converterParaDTO(historia)))
+                    .whenComplete((projeto, erro) -> {
+                        if (erro != null) {
+                            log.error("Erro ao processar documento em fluxo", erro);
+                            enviarEvento(emitter, "erro", Map.of("mensagem", "Erro ao processar documento"));
+                        } else {
+                            enviarEvento(emitter, "resumo", montarResposta(projeto));
+                        }
+                        emitter.complete();
+                    });
+            return ResponseEntity.ok(emitter);
+        } catch (TaskRejectedException e) {
+            log.warn("Upload em fluxo recusado: fila cheia");
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        } catch (Exception e) {
+            log.error("Erro ao iniciar upload em fluxo", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @PostMapping(value = "/upload/arquivo", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ProjetoResponse> uploadArquivo(
+            @RequestParam("arquivo") MultipartFile arquivo,
+            @RequestParam String nomeProjeto,
+            @RequestParam(required = false) String contextoAdicional) {
+        log.info("Recebido arquivo {} ({} bytes) para projeto: {}", arquivo.getOriginalFilename(), arquivo.getSize(), nomeProjeto);
+
+        Path temporario = null;
+        try {
+            ExtratorTextoDocumento.Formato formato = ExtratorTextoDocumento.detectarFormato(
+                    arquivo.getOriginalFilename(), arquivo.getContentType());
+
+            temporario = Files.createTempFile("growup-upload-", ".tmp");
+            try (InputStream conteudo = arquivo.getInputStream()) {
+                Files.copy(conteudo, temporario, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            Projeto projeto = userStoryService.processarArquivo(temporario, formato, nomeProjeto, contextoAdicional);
+            return ResponseEntity.status(HttpStatus.CREATED).body(montarResposta(projeto));
+        } catch (IllegalArgumentException e) {
+            // Formato não suportado ou documento corrompido (DocumentoInvalidoException)
+            log.warn("Arquivo recusado: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE).build();
+        } catch (Exception e) {
+            log.error("Erro ao processar arquivo", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        } finally {
+            if (temporario != null) {
+                try {
+                    Files.deleteIfExists(temporario);
+                } catch (IOException e) {
+                    log.warn("Não foi possível remover o arquivo temporário {}", temporario);
+                }
+            }
+        }
+    }
+
+    @PostMapping("/upload/async")
+    public ResponseEntity<ProcessamentoDTO> uploadDocumentoAssincrono(@RequestBody UploadDocumentoRequest request) {
+        log.info("Recebido upload assíncrono de documento para projeto: {}", request.getNomeProjeto());
+
+        try {
+            ProcessamentoDTO processamento = processingJobService.enfileirarDocumento(request);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/projetos/processamentos/" + processamento.getJobId()))
+                    .body(processamento);
+        } catch (Exception e) {
+            log.error("Erro ao enfileirar documento", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Remove o projeto de forma assíncrona: histórias, sprints e o próprio projeto são
+     * excluídos em lotes por um worker. Acompanhe pelo processamento retornado.
+     */
+    @DeleteMapping("/{projetoId}")
+    public ResponseEntity<ProcessamentoDTO> deletarProjeto(@PathVariable Long projetoId) {
+        log.info("Recebida exclusão do projeto: {}", projetoId);
+
+        try {
+            return processingJobService.enfileirarPurga(projetoId)
+                    .map(processamento -> ResponseEntity.accepted()
+                            .location(URI.create("/api/projetos/processamentos/" + processamento.getJobId()))
+                            .body(processamento))
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (Exception e) {
+            log.error("Erro ao enfileirar exclusão do projeto", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping("/processamentos/{jobId}")
+    public ResponseEntity<ProcessamentoDTO> consultarProcessamento(@PathVariable Long jobId) {
+        log.info("Consultando processamento: {}", jobId);
+
+        try {
+            return processingJobService.buscar(jobId)
+                    .map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (Exception e) {
+            log.error("Erro ao consultar processamento", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping("/{projetoId}/roadmap")
+    public ResponseEntity<RoadmapDTO> consultarRoadmap(@PathVariable Long projetoId, WebRequest request) {
+        log.info("Consultando roadmap do projeto: {}", projetoId);
+
+        try {
+            if (naoModificado(projetoId, request)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+            }
+            return roadmapService.montarRoadmap(projetoId)
+                    .map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (Exception e) {
+            log.error("Erro ao consultar roadmap", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
     @GetMapping("/{projetoId}/historias")
-    public ResponseEntity<List<UserStoryDTO>> listarHistorias(@PathVariable Long projetoId) {
+    public ResponseEntity<List<UserStoryDTO>> listarHistorias(@PathVariable Long projetoId, WebRequest request) {
         log.info("Listando histórias do projeto: {}", projetoId);
 
         try {
+            if (naoModificado(projetoId, request)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+            }
             List<UserStoryDTO> historias = userStoryService.listarHistoriasPorProjeto(projetoId);
             return ResponseEntity.ok(historias);
         } catch (Exception e) {
@@ -66,10 +224,14 @@ public class UploadController {
     }
 
     @GetMapping("/{projetoId}/historias/nao-alocadas")
-    public ResponseEntity<List<UserStoryDTO>> listarHistoriasNaoAlocadas(@PathVariable Long projetoId) {
+    public ResponseEntity<List<UserStoryDTO>> listarHistoriasNaoAlocadas(@PathVariable Long projetoId,
+                                                                         WebRequest request) {
         log.info("Listando histórias não alocadas do projeto: {}", projetoId);
 
         try {
+            if (naoModificado(projetoId, request)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+            }
             List<UserStoryDTO> historias = userStoryService.listarHistoriasNaoAlocadas(projetoId);
             return ResponseEntity.ok(historias);
         } catch (Exception e) {
@@ -78,6 +240,128 @@ public class UploadController {
         }
     }
 
+    @GetMapping("/{projetoId}/historias/pagina")
+    public ResponseEntity<PaginaDTO<UserStoryDTO>> listarPaginaHistorias(
+            @PathVariable Long projetoId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int limite,
+            WebRequest request) {
+        log.info("Listando página de histórias do projeto: {}", projetoId);
+        return listarPagina(projetoId, false, cursor, limite, request);
+    }
+
+    @GetMapping("/{projetoId}/historias/nao-alocadas/pagina")
+    public ResponseEntity<PaginaDTO<UserStoryDTO>> listarPaginaHistoriasNaoAlocadas(
+            @PathVariable Long projetoId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int limite,
+            WebRequest request) {
+        log.info("Listando página de histórias não alocadas do projeto: {}", projetoId);
+        return listarPagina(projetoId, true, cursor, limite, request);
+    }
+
+    /**
+     * Escreve o array JSON à medida que as linhas são lidas do banco, sem montar a lista
+     * em memória; indicado para projetos com dezenas de milhares de histórias.
+     */
+    @GetMapping(value = "/{projetoId}/historias/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamHistorias(@PathVariable Long projetoId, WebRequest request) {
+        log.info("Transmitindo histórias do projeto: {}", projetoId);
+        if (naoModificado(projetoId, request)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.ok(saida -> escreverHistorias(saida, projetoId, false));
+    }
+
+    @GetMapping(value = "/{projetoId}/historias/nao-alocadas/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamHistoriasNaoAlocadas(@PathVariable Long projetoId,
+                                                                            WebRequest request) {
+        log.info("Transmitindo histórias não alocadas do projeto: {}", projetoId);
+        if (naoModificado(projetoId, request)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.ok(saida -> escreverHistorias(saida, projetoId, true));
+    }
+
+    private ResponseEntity<PaginaDTO<UserStoryDTO>> listarPagina(Long projetoId, boolean apenasNaoAlocadas,
+                                                                 String cursor, int limite, WebRequest request) {
+        try {
+            if (naoModificado(projetoId, request)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+            }
+            return ResponseEntity.ok(userStoryService.listarPaginaHistorias(projetoId, apenasNaoAlocadas, cursor, limite));
+        } catch (IllegalArgumentException e) {
+            log.warn("Cursor recusado: {}", cursor);
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Erro ao listar página de histórias", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Compara o {@code If-None-Match} com o ETag atual do projeto, calculado sem carregar
+     * entidades. O cabeçalho {@code ETag} é incluído na resposta nos dois casos; com
+     * {@code true}, basta responder 304 sem corpo.
+     */
+    private boolean naoModificado(Long projetoId, WebRequest request) {
+        return versaoProjetoService.calcularEtag(projetoId)
+                .map(request::checkNotModified)
+                .orElse(false);
+    }
+
+    private void escreverHistorias(OutputStream saida, Long projetoId, boolean apenasNaoAlocadas) throws IOException {
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(saida)) {
+            json.writeStartArray();
+            int[] escritas = {0};
+            userStoryService.percorrerHistorias(projetoId, apenasNaoAlocadas, historia -> {
+                try {
+                    json.writeObject(historia);
+                    if (++escritas[0] % TAMANHO_LOTE_STREAM == 0) {
+                        json.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            json.writeEndArray();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private ProjetoResponse montarResposta(Projeto projeto) {
+        return ProjetoResponse.builder()
+                .id(projeto.getId())
+                .nome(projeto.getNome())
+                .descricao(projeto.getDescricao())
+                .totalHistorias(projeto.getHistorias().size())
+                .historias(projeto.getHistorias().stream()
+                        .map(this::converterParaDTO)
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    private UserStoryDTO converterParaDTO(UserStory historia) {
+        return UserStoryDTO.builder()
+                .id(historia.getId())
+                .papel(historia.getPapel())
+                .acao(historia.getAcao())
+                .beneficio(historia.getBeneficio())
+                .prioridade(historia.getPrioridade().toString())
+                .estimativa(historia.getEstimativa())
+                .build();
+    }
+
+    private void enviarEvento(SseEmitter emitter, String nome, Object dados) {
+        try {
+            emitter.send(SseEmitter.event().name(nome).data(dados, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            // Cliente desconectou: o processamento continua e as histórias ficam salvas
+            log.debug("Não foi possível enviar evento {}: {}", nome, e.getMessage());
+        }
+    }
+
     @lombok.Data
     @lombok.Builder
     public static class ProjetoResponse {
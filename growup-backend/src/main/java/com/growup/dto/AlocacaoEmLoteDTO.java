@@ -0,0 +1,16 @@
+package com.growup.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AlocacaoEmLoteDTO {
+    private Long sprintId;
+    private Integer solicitadas;
+    private Integer atualizadas; // histórias efetivamente alteradas
+}
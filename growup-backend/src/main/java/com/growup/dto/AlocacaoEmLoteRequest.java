@@ -0,0 +1,16 @@
+package com.growup.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AlocacaoEmLoteRequest {
+    private List<Long> historiaIds;
+}
@@ -0,0 +1,21 @@
+package com.growup.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheEstatisticasDTO {
+    private String nome;
+    private Long tamanho;
+    private Long hitsMemoria;
+    private Long hitsPersistente;
+    private Long misses;
+    private Long ignorados; // requisições que pediram para ignorar o cache
+    private Long invalidacoes; // entradas removidas por escrita nos dados
+    private Double taxaAcerto;
+}
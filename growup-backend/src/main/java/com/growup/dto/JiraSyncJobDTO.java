@@ -0,0 +1,26 @@
+package com.growup.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JiraSyncJobDTO {
+    private Long id;
+    private String jiraProjectKey;
+    private String status; // PENDENTE, EM_ANDAMENTO, CONCLUIDO
+    private Integer total;
+    private Long concluidas;
+    private Long falhas;
+    private Long pendentes;
+    private LocalDateTime criadoEm;
+    private LocalDateTime concluidoEm;
+    private List<JiraSyncResultDTO> resultados; // apenas histórias já processadas
+}
@@ -0,0 +1,33 @@
+package com.growup.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JiraSyncResultDTO {
+    private Long historiaId;
+    private Boolean sucesso;
+    private String jiraIssueKey;
+    private String erro;
+
+    public static JiraSyncResultDTO sucesso(Long historiaId, String jiraIssueKey) {
+        return JiraSyncResultDTO.builder()
+                .historiaId(historiaId)
+                .sucesso(true)
+                .jiraIssueKey(jiraIssueKey)
+                .build();
+    }
+
+    public static JiraSyncResultDTO falha(Long historiaId, String erro) {
+        return JiraSyncResultDTO.builder()
+                .historiaId(historiaId)
+                .sucesso(false)
+                .erro(erro)
+                .build();
+    }
+}
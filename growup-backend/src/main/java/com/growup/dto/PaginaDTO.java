@@ -0,0 +1,17 @@
+package com.growup.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PaginaDTO<T> {
+    private List<T> itens;
+    private String next; // cursor opaco da próxima página; null na última
+}
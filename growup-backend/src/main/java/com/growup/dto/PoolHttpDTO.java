@@ -0,0 +1,21 @@
+package com.growup.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PoolHttpDTO {
+    private String nome;
+    private String destino;
+    private Integer emUso;
+    private Integer ociosas;
+    private Integer abertas;
+    private Integer maxConexoes;
+    private Integer pendentes; // requisições esperando conexão: sinal de pool saturado
+    private Integer maxPendentes;
+}
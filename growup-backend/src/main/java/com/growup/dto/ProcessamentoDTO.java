@@ -0,0 +1,23 @@
+package com.growup.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProcessamentoDTO {
+    private Long jobId;
+    private String tipo; // PROCESSAR_DOCUMENTO, PURGAR_PROJETO
+    private Long projetoId;
+    private String status; // PENDENTE, EM_PROCESSAMENTO, CONCLUIDO, FALHA
+    private Integer tentativas;
+    private String erro;
+    private LocalDateTime criadoEm;
+    private LocalDateTime concluidoEm;
+}
@@ -0,0 +1,22 @@
+package com.growup.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProtecaoJiraDTO {
+    private Double taxaAtual;
+    private Double taxaMaxima;
+    private Long pausaRestanteMs;
+    private String circuito;
+    private Integer falhasConsecutivas;
+    private Long chamadas;
+    private Long respostasLimitadas;
+    private Long novasTentativas;
+    private Long recusadasPeloCircuito;
+}
@@ -0,0 +1,23 @@
+package com.growup.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RequisicaoLentaDTO {
+    private String traceId;
+    private String nome;
+    private Instant inicio;
+    private Double duracaoMs;
+    private Integer totalSpans;
+    private Integer spansDescartados;
+    private Integer totalSqls;
+    private SpanDTO raiz;
+}
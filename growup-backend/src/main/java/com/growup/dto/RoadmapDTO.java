@@ -0,0 +1,21 @@
+package com.growup.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RoadmapDTO {
+    private Long projetoId;
+    private String nome;
+    private String descricao;
+    private Integer totalHistorias;
+    private List<SprintRoadmapDTO> sprints;
+    private List<UserStoryDTO> backlog; // histórias ainda não alocadas em sprint
+}
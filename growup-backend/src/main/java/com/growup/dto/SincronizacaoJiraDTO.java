@@ -0,0 +1,17 @@
+package com.growup.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SincronizacaoJiraDTO {
+    private Long projetoId;
+    private Long total;
+    private Long sincronizadas; // histórias com jiraIssueKey
+    private Long pendentes;
+}
@@ -0,0 +1,29 @@
+package com.growup.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Um trecho (span) da árvore de uma requisição lenta. {@code inicioMs} é relativo ao
+ * início da requisição e {@code sqls} conta os comandos SQL do trecho e dos filhos.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public class SpanDTO {
+    private String nome;
+    private Double inicioMs;
+    private Double duracaoMs;
+    private Integer sqls;
+    private Boolean erro;
+    private Map<String, String> atributos;
+    private List<SpanDTO> filhos;
+}
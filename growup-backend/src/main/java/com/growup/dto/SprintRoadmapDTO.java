@@ -0,0 +1,20 @@
+package com.growup.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SprintRoadmapDTO {
+    private Long id;
+    private String titulo;
+    private String periodo;
+    private Integer totalHistorias;
+    private List<UserStoryDTO> historias;
+}
@@ -13,4 +13,5 @@ public class UploadDocumentoRequest {
     private String nomeProjeto;
     private String conteudoDocumento;
     private String contextoAdicional;
+    private Boolean ignorarCache; // gera novamente mesmo que o documento já esteja no cache de IA
 }
@@ -0,0 +1,230 @@
+package com.growup.integration;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.growup.dto.JiraSyncResultDTO;
+import com.growup.model.UserStory;
+import com.growup.service.JiraClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JiraClientImpl implements JiraClient {
+
+    @Qualifier("jiraWebClient")
+    private final WebClient webClient;
+    private final ObjectMapper objectMapper;
+    private final ProtecaoJira protecao;
+    private final MeterRegistry meterRegistry;
+
+    static final String METRICA_REQUISICAO = "growup.jira.requisicao";
+
+    @Value("${jira.api.url}")
+    private String jiraApiUrl;
+
+    @Value("${jira.api.email}")
+    private String jiraEmail;
+
+    @Value("${jira.api.token}")
+    private String jiraToken;
+
+    @Override
+    public String criarIssue(UserStory historia, String projectKey) {
+        try {
+            return criarIssueReativo(historia, projectKey).block();
+        } catch (Exception e) {
+            log.error("Erro ao criar issue no Jira", e);
+            throw new RuntimeException("Erro ao sincronizar com Jira: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Mono<String> criarIssueReativo(UserStory historia, String projectKey) {
+        log.info("Criando issue no Jira para história: {}", historia.getAcao());
+
+        return medir("criar_issue", Mono.fromCallable(() -> construirCorpoRequisicao(historia, projectKey))
+                .flatMap(requestBody -> protecao.executar(webClient.post()
+                        .uri(jiraApiUrl + "/rest/api/3/issue")
+                        .header("Authorization", "Basic " + gerarBasicAuth())
+                        .header("Content-Type", "application/json")
+                        .bodyValue(requestBody)
+                        .exchangeToMono(response -> protecao.avaliar(response)
+                                .flatMap(avaliada -> avaliada.statusCode().isError()
+                                        ? avaliada.<String>createError()
+                                        : avaliada.bodyToMono(String.class))))))
+                // Parse da resposta para extrair a chave do issue
+                .map(this::extrairIssueKey)
+                .doOnNext(issueKey -> log.info("Issue criada com sucesso: {}", issueKey));
+    }
+
+    @Override
+    public Mono<List<JiraSyncResultDTO>> criarIssuesEmLote(List<UserStory> historias, String projectKey) {
+        List<List<UserStory>> lotes = new ArrayList<>();
+        for (int inicio = 0; inicio < historias.size(); inicio += MAX_ISSUES_POR_LOTE) {
+            lotes.add(historias.subList(inicio, Math.min(inicio + MAX_ISSUES_POR_LOTE, historias.size())));
+        }
+
+        return Flux.fromIterable(lotes)
+                .concatMap(lote -> enviarLote(lote, projectKey))
+                .concatMapIterable(resultados -> resultados)
+                .collectList();
+    }
+
+    private Mono<List<JiraSyncResultDTO>> enviarLote(List<UserStory> lote, String projectKey) {
+        log.info("Criando {} issues em lote no Jira", lote.size());
+
+        return medir("criar_lote", Mono.fromCallable(() -> construirCorpoLote(lote, projectKey))
+                .flatMap(requestBody -> protecao.executar(webClient.post()
+                        .uri(jiraApiUrl + "/rest/api/3/issue/bulk")
+                        .header("Authorization", "Basic " + gerarBasicAuth())
+                        .header("Content-Type", "application/json")
+                        .bodyValue(requestBody)
+                        .exchangeToMono(response -> protecao.avaliar(response)
+                                .flatMap(avaliada -> avaliada.bodyToMono(String.class)
+                                        .defaultIfEmpty("")
+                                        .map(body -> interpretarRespostaLote(lote, avaliada.statusCode().value(), body)))))))
+                .onErrorResume(e -> {
+                    log.error("Erro ao criar issues em lote no Jira", e);
+                    return Mono.just(falharTodas(lote, e.getMessage()));
+                });
+    }
+
+    /**
+     * Mede a chamada inteira, incluindo a espera pelo limite de taxa e as novas
+     * tentativas: é o tempo que a sincronização de fato aguarda o Jira.
+     */
+    private <T> Mono<T> medir(String operacao, Mono<T> chamada) {
+        return Mono.defer(() -> {
+            Timer.Sample amostra = Timer.start(meterRegistry);
+            return chamada
+                    .doOnSuccess(valor -> amostra.stop(meterRegistry.timer(METRICA_REQUISICAO,
+                            "operacao", operacao, "resultado", "sucesso")))
+                    .doOnError(erro -> amostra.stop(meterRegistry.timer(METRICA_REQUISICAO,
+                            "operacao", operacao, "resultado", "erro")));
+        });
+    }
+
+    /**
+     * O Jira devolve em {@code issues} as issues criadas, na ordem dos itens aceitos, e em
+     * {@code errors} os itens rejeitados identificados por {@code failedElementNumber}
+     * (índice na requisição). Os dois são combinados para mapear cada item à sua história.
+     */
+    private List<JiraSyncResultDTO> interpretarRespostaLote(List<UserStory> lote, int status, String body) {
+        JsonNode raiz;
+        try {
+            raiz = objectMapper.readTree(body);
+        } catch (JsonProcessingException e) {
+            return falharTodas(lote, "Resposta inválida do Jira (HTTP " + status + ")");
+        }
+
+        Map<Integer, String> erros = new HashMap<>();
+        for (JsonNode erro : raiz.path("errors")) {
+            if (erro.has("failedElementNumber")) {
+                erros.put(erro.get("failedElementNumber").asInt(), descreverErro(erro));
+            }
+        }
+
+        if (erros.isEmpty() && (status >= 400 || !raiz.has("issues"))) {
+            return falharTodas(lote, "Falha ao criar issues no Jira (HTTP " + status + ")");
+        }
+
+        Iterator<JsonNode> issues = raiz.path("issues").elements();
+        List<JiraSyncResultDTO> resultados = new ArrayList<>(lote.size());
+        for (int i = 0; i < lote.size(); i++) {
+            Long historiaId = lote.get(i).getId();
+            if (erros.containsKey(i)) {
+                resultados.add(JiraSyncResultDTO.falha(historiaId, erros.get(i)));
+            } else if (issues.hasNext()) {
+                resultados.add(JiraSyncResultDTO.sucesso(historiaId, issues.next().path("key").asText()));
+            } else {
+                resultados.add(JiraSyncResultDTO.falha(historiaId, "Issue não retornada pelo Jira"));
+            }
+        }
+        return resultados;
+    }
+
+    private String descreverErro(JsonNode erro) {
+        JsonNode elementErrors = erro.path("elementErrors");
+        List<String> mensagens = new ArrayList<>();
+        elementErrors.path("errorMessages").forEach(m -> mensagens.add(m.asText()));
+        elementErrors.path("errors").fields()
+                .forEachRemaining(campo -> mensagens.add(campo.getKey() + ": " + campo.getValue().asText()));
+        String detalhe = mensagens.isEmpty() ? "erro desconhecido" : String.join("; ", mensagens);
+        return "HTTP " + erro.path("status").asInt() + " - " + detalhe;
+    }
+
+    private List<JiraSyncResultDTO> falharTodas(List<UserStory> lote, String erro) {
+        return lote.stream()
+                .map(h -> JiraSyncResultDTO.falha(h.getId(), erro))
+                .toList();
+    }
+
+    private Map<String, Object> construirCorpoLote(List<UserStory> lote, String projectKey) {
+        List<Map<String, Object>> issueUpdates = lote.stream()
+                .map(h -> construirCorpoRequisicao(h, projectKey))
+                .toList();
+
+        return Map.of("issueUpdates", issueUpdates);
+    }
+
+    static Map<String, Object> construirCorpoRequisicao(UserStory historia, String projectKey) {
+        Map<String, Object> fields = new HashMap<>();
+        fields.put("project", Map.of("key", projectKey));
+        fields.put("summary", String.format("Como %s, eu quero %s", historia.getPapel(), historia.getAcao()));
+        fields.put("description", String.format(
+                "Como %s, eu quero %s para %s\n\nEstimativa: %s\nPrioridade: %s",
+                historia.getPapel(),
+                historia.getAcao(),
+                historia.getBeneficio(),
+                historia.getEstimativa(),
+                historia.getPrioridade()
+        ));
+        fields.put("issuetype", Map.of("name", "Story"));
+        fields.put("priority", Map.of("name", mapearPrioridade(historia.getPrioridade())));
+
+        Map<String, Object> request = new HashMap<>();
+        request.put("fields", fields);
+
+        return request;
+    }
+
+    private static String mapearPrioridade(UserStory.Prioridade prioridade) {
+        return switch (prioridade) {
+            case ALTA -> "Highest";
+            case MEDIA -> "Medium";
+            case BAIXA -> "Low";
+        };
+    }
+
+    private String gerarBasicAuth() {
+        String credentials = jiraEmail + ":" + jiraToken;
+        return Base64.getEncoder().encodeToString(credentials.getBytes());
+    }
+
+    String extrairIssueKey(String response) {
+        try {
+            JsonNode key = objectMapper.readTree(response).path("key");
+            return key.isTextual() ? key.asText() : "UNKNOWN";
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            return "UNKNOWN";
+        }
+    }
+}
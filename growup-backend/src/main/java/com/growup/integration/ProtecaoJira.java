@@ -0,0 +1,325 @@
+package com.growup.integration;
+
+import com.growup.config.ProtecaoJiraProperties;
+import com.growup.dto.ProtecaoJiraDTO;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Protege as chamadas ao Jira, que limita as requisições por conta (HTTP 429):
+ * <ul>
+ *   <li>Limite de taxa adaptativo (AIMD), compartilhado por todas as chamadas da
+ *   instância: a taxa sobe aos poucos enquanto o Jira aceita e cai pela metade a cada
+ *   429 ou aviso {@code X-RateLimit-NearLimit}. {@code Retry-After} e
+ *   {@code X-RateLimit-Reset} (com {@code X-RateLimit-Remaining: 0}) suspendem o envio
+ *   até o horário indicado. A espera é feita com {@code Mono.delay}, sem ocupar thread.</li>
+ *   <li>Novas tentativas com backoff exponencial e jitter, apenas quando a requisição
+ *   com certeza não foi processada (429, 503 e falha ao conectar): criar issue não é
+ *   idempotente, então 500, 502, 504 e timeouts não são repetidos.</li>
+ *   <li>Circuit breaker: após {@code limiarFalhas} falhas seguidas (5xx ou erro de
+ *   transporte), as chamadas falham na hora por {@code esperaCircuito}; depois disso,
+ *   uma chamada de teste decide se o circuito fecha.</li>
+ * </ul>
+ *
+ * <p>O estado é publicado no Micrometer: {@code growup.jira.taxa} (req/s),
+ * {@code growup.jira.circuito} (0 fechado, 1 semiaberto, 2 aberto) e os contadores
+ * {@code growup.jira.respostas.limitadas}, {@code growup.jira.novas.tentativas} e
+ * {@code growup.jira.recusadas.circuito}.
+ */
+@Component
+@Slf4j
+public class ProtecaoJira {
+
+    enum EstadoCircuito { FECHADO, ABERTO, SEMI_ABERTO }
+
+    private static final long NANOS_POR_SEGUNDO = 1_000_000_000L;
+
+    private final ProtecaoJiraProperties config;
+
+    private double taxa;
+    private long proximaVaga;
+    private long pausadoAte;
+    private long ultimaReducao;
+
+    private EstadoCircuito circuito = EstadoCircuito.FECHADO;
+    private int falhasConsecutivas;
+    private long circuitoLiberadoEm;
+
+    private final LongAdder chamadas = new LongAdder();
+    private final LongAdder respostasLimitadas = new LongAdder();
+    private final LongAdder novasTentativas = new LongAdder();
+    private final LongAdder recusadasPeloCircuito = new LongAdder();
+
+    public ProtecaoJira(ProtecaoJiraProperties config, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.taxa = config.getTaxaInicial();
+        long agora = System.nanoTime();
+        this.proximaVaga = agora;
+        this.pausadoAte = agora;
+        this.ultimaReducao = agora - NANOS_POR_SEGUNDO;
+
+        Gauge.builder("growup.jira.taxa", this, ProtecaoJira::taxaAtual).register(meterRegistry);
+        Gauge.builder("growup.jira.circuito", this, p -> p.estadoCircuito().ordinal()).register(meterRegistry);
+        FunctionCounter.builder("growup.jira.respostas.limitadas", respostasLimitadas, LongAdder::sum)
+                .register(meterRegistry);
+        FunctionCounter.builder("growup.jira.novas.tentativas", novasTentativas, LongAdder::sum)
+                .register(meterRegistry);
+        FunctionCounter.builder("growup.jira.recusadas.circuito", recusadasPeloCircuito, LongAdder::sum)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Executa {@code chamada} respeitando o limite de taxa e o circuito, repetindo-a nas
+     * falhas transitórias. A chamada precisa ser "fria" (cada inscrição envia uma nova
+     * requisição, como as do {@code WebClient}) e passar as respostas por
+     * {@link #avaliar(ClientResponse)}.
+     */
+    public <T> Mono<T> executar(Mono<T> chamada) {
+        return Mono.defer(() -> tentar(chamada))
+                .retryWhen(Retry.backoff(Math.max(0, config.getTentativas() - 1), config.getEsperaInicial())
+                        .maxBackoff(config.getEsperaMaxima())
+                        .jitter(0.5)
+                        .filter(ProtecaoJira::repetivel)
+                        .doBeforeRetry(sinal -> {
+                            novasTentativas.increment();
+                            log.warn("Nova tentativa {} de chamada ao Jira: {}",
+                                    sinal.totalRetries() + 1, sinal.failure().getMessage());
+                        })
+                        .onRetryExhaustedThrow((spec, sinal) -> sinal.failure()));
+    }
+
+    /**
+     * Aplica os cabeçalhos de limite da resposta à taxa e à pausa. 429 e 5xx viram
+     * {@link JiraIndisponivelException} (com o corpo descartado); as demais respostas,
+     * inclusive outros erros 4xx, seguem para quem chamou.
+     */
+    public Mono<ClientResponse> avaliar(ClientResponse resposta) {
+        int status = resposta.statusCode().value();
+        HttpHeaders headers = resposta.headers().asHttpHeaders();
+
+        if (status == 429 || status == 503) {
+            if (status == 429) {
+                respostasLimitadas.increment();
+                reduzirTaxa();
+            }
+            lerRetryAfter(headers).or(() -> lerReset(headers)).ifPresent(this::pausar);
+            return resposta.releaseBody().then(Mono.error(new JiraIndisponivelException(status, true,
+                    status == 429 ? "Jira limitou as requisições (HTTP 429)" : "Jira indisponível (HTTP 503)")));
+        }
+        if (status >= 500) {
+            return resposta.releaseBody().then(Mono.error(new JiraIndisponivelException(status, false,
+                    "Erro no Jira (HTTP " + status + ")")));
+        }
+
+        if ("0".equals(headers.getFirst("X-RateLimit-Remaining"))) {
+            lerReset(headers).ifPresent(this::pausar);
+        }
+        if ("true".equalsIgnoreCase(headers.getFirst("X-RateLimit-NearLimit"))) {
+            reduzirTaxa();
+        } else {
+            aumentarTaxa();
+        }
+        return Mono.just(resposta);
+    }
+
+    public synchronized ProtecaoJiraDTO estatisticas() {
+        long agora = System.nanoTime();
+        return ProtecaoJiraDTO.builder()
+                .taxaAtual(taxa)
+                .taxaMaxima(config.getTaxaMaxima())
+                .pausaRestanteMs(Math.max(0, (pausadoAte - agora) / 1_000_000))
+                .circuito(circuito.name())
+                .falhasConsecutivas(falhasConsecutivas)
+                .chamadas(chamadas.sum())
+                .respostasLimitadas(respostasLimitadas.sum())
+                .novasTentativas(novasTentativas.sum())
+                .recusadasPeloCircuito(recusadasPeloCircuito.sum())
+                .build();
+    }
+
+    private synchronized double taxaAtual() {
+        return taxa;
+    }
+
+    private synchronized EstadoCircuito estadoCircuito() {
+        return circuito;
+    }
+
+    private <T> Mono<T> tentar(Mono<T> chamada) {
+        if (!permitirChamada()) {
+            recusadasPeloCircuito.increment();
+            return Mono.error(new CircuitoAbertoException());
+        }
+        Optional<Duration> espera = reservarVaga();
+        if (espera.isEmpty()) {
+            return Mono.error(new JiraIndisponivelException(429, false,
+                    "Jira limitou as requisições por mais de " + config.getEsperaMaxima().toSeconds() + " s"));
+        }
+
+        chamadas.increment();
+        Mono<T> envio = espera.get().isZero() ? chamada : Mono.delay(espera.get()).then(chamada);
+        return envio
+                .doOnSuccess(valor -> registrarResultado(null))
+                .doOnError(this::registrarResultado);
+    }
+
+    /**
+     * Reserva o próximo horário de envio, espaçado de {@code 1/taxa} do anterior e não
+     * antes do fim da pausa. Vazio quando a espera passaria de {@code esperaMaxima}.
+     */
+    private synchronized Optional<Duration> reservarVaga() {
+        long agora = System.nanoTime();
+        long inicio = Math.max(agora, Math.max(proximaVaga, pausadoAte));
+        if (inicio - agora > config.getEsperaMaxima().toNanos()) {
+            return Optional.empty();
+        }
+        proximaVaga = inicio + (long) (NANOS_POR_SEGUNDO / taxa);
+        return Optional.of(Duration.ofNanos(inicio - agora));
+    }
+
+    private synchronized void aumentarTaxa() {
+        // +incremento/taxa por resposta: a uma taxa r chegam r respostas por segundo
+        taxa = Math.min(config.getTaxaMaxima(), taxa + config.getIncremento() / taxa);
+    }
+
+    private synchronized void reduzirTaxa() {
+        long agora = System.nanoTime();
+        // As respostas das requisições já em voo refletem a taxa antiga: uma redução por segundo
+        if (agora - ultimaReducao < NANOS_POR_SEGUNDO) {
+            return;
+        }
+        ultimaReducao = agora;
+        taxa = Math.max(config.getTaxaMinima(), taxa * config.getFatorReducao());
+        log.warn("Jira perto do limite de requisições; taxa reduzida para {} req/s", String.format("%.1f", taxa));
+    }
+
+    private synchronized void pausar(Duration duracao) {
+        pausadoAte = Math.max(pausadoAte, System.nanoTime() + duracao.toNanos());
+        log.warn("Chamadas ao Jira suspensas por {} ms", duracao.toMillis());
+    }
+
+    private synchronized boolean permitirChamada() {
+        if (circuito == EstadoCircuito.FECHADO) {
+            return true;
+        }
+        long agora = System.nanoTime();
+        if (agora < circuitoLiberadoEm) {
+            return false;
+        }
+        // Uma chamada de teste por janela; se ela for cancelada, outra passa na próxima janela
+        circuito = EstadoCircuito.SEMI_ABERTO;
+        circuitoLiberadoEm = agora + config.getEsperaCircuito().toNanos();
+        log.info("Circuito do Jira semiaberto: enviando chamada de teste");
+        return true;
+    }
+
+    private synchronized void registrarResultado(Throwable erro) {
+        if (erro == null || !indicaIndisponibilidade(erro)) {
+            if (circuito != EstadoCircuito.FECHADO) {
+                log.info("Circuito do Jira fechado");
+            }
+            circuito = EstadoCircuito.FECHADO;
+            falhasConsecutivas = 0;
+            return;
+        }
+
+        falhasConsecutivas++;
+        if (circuito == EstadoCircuito.SEMI_ABERTO || falhasConsecutivas >= config.getLimiarFalhas()) {
+            if (circuito != EstadoCircuito.ABERTO) {
+                log.error("Circuito do Jira aberto após {} falhas seguidas; chamadas recusadas por {} s",
+                        falhasConsecutivas, config.getEsperaCircuito().toSeconds());
+            }
+            circuito = EstadoCircuito.ABERTO;
+            circuitoLiberadoEm = System.nanoTime() + config.getEsperaCircuito().toNanos();
+        }
+    }
+
+    private static boolean indicaIndisponibilidade(Throwable erro) {
+        if (erro instanceof JiraIndisponivelException e) {
+            return e.getStatus() >= 500;
+        }
+        return erro instanceof WebClientRequestException || erro instanceof TimeoutException;
+    }
+
+    private static boolean repetivel(Throwable erro) {
+        if (erro instanceof JiraIndisponivelException e) {
+            return e.isRepetivel();
+        }
+        // Falha ao conectar: a requisição não chegou a ser enviada
+        return erro instanceof WebClientRequestException && erro.getCause() instanceof ConnectException;
+    }
+
+    /** {@code Retry-After} em segundos ou como data HTTP. */
+    static Optional<Duration> lerRetryAfter(HttpHeaders headers) {
+        String valor = headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (valor == null || valor.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Duration.ofSeconds(Long.parseLong(valor.trim())));
+        } catch (NumberFormatException e) {
+            try {
+                return ate(ZonedDateTime.parse(valor.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant());
+            } catch (DateTimeParseException ignorado) {
+                return Optional.empty();
+            }
+        }
+    }
+
+    /** {@code X-RateLimit-Reset}, que o Jira envia como data ISO-8601. */
+    static Optional<Duration> lerReset(HttpHeaders headers) {
+        String valor = headers.getFirst("X-RateLimit-Reset");
+        if (valor == null || valor.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            return ate(OffsetDateTime.parse(valor.trim()).toInstant());
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<Duration> ate(Instant instante) {
+        Duration duracao = Duration.between(Instant.now(), instante);
+        return duracao.isNegative() ? Optional.empty() : Optional.of(duracao);
+    }
+
+    /** Resposta 429 ou 5xx do Jira, ou espera por vaga acima do permitido. */
+    @Getter
+    static class JiraIndisponivelException extends RuntimeException {
+        private final int status;
+        private final boolean repetivel;
+
+        JiraIndisponivelException(int status, boolean repetivel, String mensagem) {
+            super(mensagem);
+            this.status = status;
+            this.repetivel = repetivel;
+        }
+    }
+
+    static class CircuitoAbertoException extends RuntimeException {
+        CircuitoAbertoException() {
+            super("Jira indisponível: chamadas suspensas após falhas seguidas");
+        }
+    }
+}
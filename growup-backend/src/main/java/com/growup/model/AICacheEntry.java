@@ -0,0 +1,35 @@
+package com.growup.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "ai_cache_entries")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AICacheEntry {
+
+    @Id
+    @Column(length = 64)
+    private String chave; // SHA-256 do prompt normalizado
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String resposta; // histórias geradas, em JSON
+
+    @Column(name = "created_at")
+    private LocalDateTime criadoEm;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiraEm;
+
+    @PrePersist
+    protected void onCreate() {
+        criadoEm = LocalDateTime.now();
+    }
+}
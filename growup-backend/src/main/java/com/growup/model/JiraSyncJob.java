@@ -0,0 +1,61 @@
+package com.growup.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "jira_sync_jobs")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JiraSyncJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "jira_project_key", nullable = false)
+    private String jiraProjectKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status;
+
+    @Column(nullable = false)
+    private Integer total;
+
+    @Column(name = "locked_by")
+    private String executor; // nó que detém o job enquanto EM_ANDAMENTO
+
+    @Column(name = "attempts", nullable = false)
+    private Integer tentativas;
+
+    @Column(name = "created_at")
+    private LocalDateTime criadoEm;
+
+    @Column(name = "updated_at")
+    private LocalDateTime atualizadoEm; // também serve de heartbeat enquanto EM_ANDAMENTO
+
+    @Column(name = "finished_at")
+    private LocalDateTime concluidoEm;
+
+    @PrePersist
+    protected void onCreate() {
+        criadoEm = LocalDateTime.now();
+        atualizadoEm = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        atualizadoEm = LocalDateTime.now();
+    }
+
+    public enum Status {
+        PENDENTE, EM_ANDAMENTO, CONCLUIDO, FALHA
+    }
+}
@@ -0,0 +1,50 @@
+package com.growup.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "jira_sync_job_itens")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JiraSyncJobItem {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "historia_id", nullable = false)
+    private Long historiaId; // sem FK: o resultado sobrevive à exclusão da história
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status;
+
+    @Column(name = "jira_issue_key")
+    private String jiraIssueKey;
+
+    @Column(columnDefinition = "TEXT")
+    private String erro;
+
+    @Column(name = "updated_at")
+    private LocalDateTime atualizadoEm;
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        atualizadoEm = LocalDateTime.now();
+    }
+
+    public enum Status {
+        PENDENTE, SUCESSO, FALHA
+    }
+}
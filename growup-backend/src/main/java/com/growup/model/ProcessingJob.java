@@ -0,0 +1,78 @@
+package com.growup.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "processing_jobs")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProcessingJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Tipo tipo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status;
+
+    @Column(name = "projeto_id", nullable = false)
+    private Long projetoId;
+
+    @Column(columnDefinition = "TEXT")
+    private String payload; // conteúdo do documento a processar
+
+    @Column(name = "attempts", nullable = false)
+    private Integer tentativas;
+
+    @Column(name = "locked_by")
+    private String executor; // nó que detém o job enquanto EM_PROCESSAMENTO
+
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiraEm;
+
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatEm;
+
+    @Column(name = "error", columnDefinition = "TEXT")
+    private String erro;
+
+    @Column(name = "created_at")
+    private LocalDateTime criadoEm;
+
+    @Column(name = "updated_at")
+    private LocalDateTime atualizadoEm;
+
+    @Column(name = "finished_at")
+    private LocalDateTime concluidoEm;
+
+    @PrePersist
+    protected void onCreate() {
+        criadoEm = LocalDateTime.now();
+        atualizadoEm = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        atualizadoEm = LocalDateTime.now();
+    }
+
+    public enum Tipo {
+        PROCESSAR_DOCUMENTO, PURGAR_PROJETO
+    }
+
+    public enum Status {
+        PENDENTE, EM_PROCESSAMENTO, CONCLUIDO, FALHA
+    }
+}
@@ -5,11 +5,14 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
 @Table(name = "projetos")
+@Cacheable
+@org.hibernate.annotations.Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "projetos")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -17,7 +20,8 @@ import java.util.List;
 public class Projeto {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "projetos_seq")
+    @SequenceGenerator(name = "projetos_seq", sequenceName = "projetos_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
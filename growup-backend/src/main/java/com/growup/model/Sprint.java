@@ -5,11 +5,14 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
 @Table(name = "sprints")
+@Cacheable
+@org.hibernate.annotations.Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "sprints")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -17,7 +20,8 @@ import java.util.List;
 public class Sprint {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sprints_seq")
+    @SequenceGenerator(name = "sprints_seq", sequenceName = "sprints_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -30,7 +34,8 @@ public class Sprint {
     @JoinColumn(name = "projeto_id", nullable = false)
     private Projeto projeto;
 
-    @OneToMany(mappedBy = "sprint", cascade = CascadeType.ALL, orphanRemoval = true)
+    // Sem cascade: as histórias pertencem ao projeto e só são desalocadas quando a sprint é removida
+    @OneToMany(mappedBy = "sprint")
     private List<UserStory> historias;
 
     @Column(name = "created_at")
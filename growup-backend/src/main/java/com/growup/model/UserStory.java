@@ -15,8 +15,11 @@ import java.time.LocalDateTime;
 @Builder
 public class UserStory {
 
+    // Sequência com pool (allocationSize = tamanho do lote JDBC): com IDENTITY o Hibernate
+    // desativa o batch de INSERTs, pois precisa do id gerado a cada linha
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_stories_seq")
+    @SequenceGenerator(name = "user_stories_seq", sequenceName = "user_stories_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
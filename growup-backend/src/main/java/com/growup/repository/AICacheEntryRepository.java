@@ -0,0 +1,18 @@
+package com.growup.repository;
+
+import com.growup.model.AICacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface AICacheEntryRepository extends JpaRepository<AICacheEntry, String> {
+
+    @Modifying
+    @Query("delete from AICacheEntry e where e.expiraEm < :agora")
+    int removerExpiradas(@Param("agora") LocalDateTime agora);
+}
@@ -0,0 +1,28 @@
+package com.growup.repository;
+
+import com.growup.model.JiraSyncJobItem;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface JiraSyncJobItemRepository extends JpaRepository<JiraSyncJobItem, Long> {
+
+    List<JiraSyncJobItem> findByJobIdOrderById(Long jobId);
+
+    List<JiraSyncJobItem> findByJobIdAndHistoriaIdIn(Long jobId, Collection<Long> historiaIds);
+
+    @Query("select i.historiaId from JiraSyncJobItem i " +
+           "where i.jobId = :jobId and i.status = :status order by i.id")
+    List<Long> findHistoriaIds(@Param("jobId") Long jobId,
+                               @Param("status") JiraSyncJobItem.Status status,
+                               Pageable pageable);
+
+    @Query("select i.status, count(i) from JiraSyncJobItem i where i.jobId = :jobId group by i.status")
+    List<Object[]> contarPorStatus(@Param("jobId") Long jobId);
+}
@@ -0,0 +1,78 @@
+package com.growup.repository;
+
+import com.growup.model.JiraSyncJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface JiraSyncJobRepository extends JpaRepository<JiraSyncJob, Long> {
+
+    @Query("select j.id from JiraSyncJob j where j.status = :status order by j.id")
+    List<Long> findIdsByStatus(@Param("status") JiraSyncJob.Status status);
+
+    /**
+     * Reivindica um job pendente para o nó {@code executor}, contando mais uma tentativa.
+     * Retorna 0 se outro nó já o assumiu.
+     */
+    @Modifying
+    @Query("update JiraSyncJob j set j.status = :emAndamento, j.executor = :executor, " +
+           "j.tentativas = j.tentativas + 1, j.atualizadoEm = :agora " +
+           "where j.id = :id and j.status = :pendente")
+    int reivindicar(@Param("id") Long id,
+                    @Param("executor") String executor,
+                    @Param("pendente") JiraSyncJob.Status pendente,
+                    @Param("emAndamento") JiraSyncJob.Status emAndamento,
+                    @Param("agora") LocalDateTime agora);
+
+    /**
+     * Renova o heartbeat somente se este nó ainda detém o job; retorna 0 quando o job foi
+     * liberado por expiração e, nesse caso, o nó deve parar de processá-lo.
+     */
+    @Modifying
+    @Query("update JiraSyncJob j set j.atualizadoEm = :agora " +
+           "where j.id in :ids and j.executor = :executor and j.status = :emAndamento")
+    int registrarHeartbeat(@Param("ids") Collection<Long> ids,
+                           @Param("executor") String executor,
+                           @Param("emAndamento") JiraSyncJob.Status emAndamento,
+                           @Param("agora") LocalDateTime agora);
+
+    /** Muda o status do job somente se este nó ainda o detém, liberando a posse. */
+    @Modifying
+    @Query("update JiraSyncJob j set j.status = :novo, j.executor = null, j.atualizadoEm = :agora, " +
+           "j.concluidoEm = :concluidoEm " +
+           "where j.id = :id and j.executor = :executor and j.status = :emAndamento")
+    int finalizar(@Param("id") Long id,
+                  @Param("executor") String executor,
+                  @Param("emAndamento") JiraSyncJob.Status emAndamento,
+                  @Param("novo") JiraSyncJob.Status novo,
+                  @Param("concluidoEm") LocalDateTime concluidoEm,
+                  @Param("agora") LocalDateTime agora);
+
+    /**
+     * Devolve para a fila os jobs cujo dono parou de enviar heartbeat, enquanto ainda
+     * houver tentativas; {@link #falharExpirados} encerra os demais.
+     */
+    @Modifying
+    @Query("update JiraSyncJob j set j.status = :pendente, j.executor = null " +
+           "where j.status = :emAndamento and j.atualizadoEm < :limite and j.tentativas < :maxTentativas")
+    int liberarExpirados(@Param("emAndamento") JiraSyncJob.Status emAndamento,
+                         @Param("pendente") JiraSyncJob.Status pendente,
+                         @Param("limite") LocalDateTime limite,
+                         @Param("maxTentativas") int maxTentativas);
+
+    @Modifying
+    @Query("update JiraSyncJob j set j.status = :falha, j.executor = null, j.concluidoEm = :agora " +
+           "where j.status = :emAndamento and j.atualizadoEm < :limite and j.tentativas >= :maxTentativas")
+    int falharExpirados(@Param("emAndamento") JiraSyncJob.Status emAndamento,
+                        @Param("falha") JiraSyncJob.Status falha,
+                        @Param("limite") LocalDateTime limite,
+                        @Param("maxTentativas") int maxTentativas,
+                        @Param("agora") LocalDateTime agora);
+}
@@ -0,0 +1,70 @@
+package com.growup.repository;
+
+import com.growup.model.ProcessingJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ProcessingJobRepository extends JpaRepository<ProcessingJob, Long> {
+
+    /**
+     * Seleciona e trava jobs disponíveis: pendentes ou com lease expirado (nó que parou
+     * de enviar heartbeat). Linhas já travadas por outro nó são puladas, então vários nós
+     * podem reivindicar jobs ao mesmo tempo sem disputa. Deve rodar dentro de uma
+     * transação, que é onde os jobs devem ser marcados como EM_PROCESSAMENTO.
+     */
+    @Query(value = "SELECT * FROM processing_jobs " +
+                   "WHERE status = 'PENDENTE' " +
+                   "   OR (status = 'EM_PROCESSAMENTO' AND lease_expires_at < :agora) " +
+                   "ORDER BY id " +
+                   "LIMIT :limite " +
+                   "FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<ProcessingJob> travarDisponiveis(@Param("agora") LocalDateTime agora, @Param("limite") int limite);
+
+    Optional<ProcessingJob> findFirstByProjetoIdAndTipoAndStatusIn(Long projetoId, ProcessingJob.Tipo tipo,
+                                                                   Collection<ProcessingJob.Status> status);
+
+    @Modifying
+    @Query("update ProcessingJob j set j.leaseExpiraEm = :lease, j.heartbeatEm = :agora " +
+           "where j.id in :ids and j.executor = :executor and j.status = :status")
+    int renovarLease(@Param("ids") Collection<Long> ids,
+                     @Param("executor") String executor,
+                     @Param("status") ProcessingJob.Status status,
+                     @Param("agora") LocalDateTime agora,
+                     @Param("lease") LocalDateTime lease);
+
+    /**
+     * Finaliza o job somente se este nó ainda detém o lease; retorna 0 quando o job foi
+     * reivindicado por outro nó, e nesse caso o resultado deve ser descartado.
+     */
+    @Modifying
+    @Query("update ProcessingJob j set j.status = :novo, j.erro = :erro, j.concluidoEm = :agora, " +
+           "j.atualizadoEm = :agora, j.executor = null, j.leaseExpiraEm = null " +
+           "where j.id = :id and j.executor = :executor and j.status = :atual")
+    int finalizar(@Param("id") Long id,
+                  @Param("executor") String executor,
+                  @Param("atual") ProcessingJob.Status atual,
+                  @Param("novo") ProcessingJob.Status novo,
+                  @Param("erro") String erro,
+                  @Param("agora") LocalDateTime agora);
+
+    @Modifying
+    @Query("update ProcessingJob j set j.status = :pendente, j.erro = :erro, j.atualizadoEm = :agora, " +
+           "j.executor = null, j.leaseExpiraEm = null " +
+           "where j.id = :id and j.executor = :executor and j.status = :emProcessamento")
+    int devolverParaFila(@Param("id") Long id,
+                         @Param("executor") String executor,
+                         @Param("emProcessamento") ProcessingJob.Status emProcessamento,
+                         @Param("pendente") ProcessingJob.Status pendente,
+                         @Param("erro") String erro,
+                         @Param("agora") LocalDateTime agora);
+}
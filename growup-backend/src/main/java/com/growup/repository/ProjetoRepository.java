@@ -1,9 +1,39 @@
 package com.growup.repository;
 
 import com.growup.model.Projeto;
+import com.growup.repository.projecao.ProjetoResumo;
+import com.growup.repository.projecao.VersaoProjeto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
 public interface ProjetoRepository extends JpaRepository<Projeto, Long> {
+
+    @Query("SELECT new com.growup.repository.projecao.ProjetoResumo(p.id, p.nome, p.descricao) " +
+           "FROM Projeto p WHERE p.id = :id")
+    Optional<ProjetoResumo> findResumoById(@Param("id") Long id);
+
+    /**
+     * Versão do conteúdo do projeto para GETs condicionais: contagem e maior
+     * {@code atualizadoEm} das histórias e das sprints, mais o do próprio projeto. Uma
+     * exclusão muda a contagem; inclusões e alterações mudam a data. Cada subconsulta
+     * é resolvida só pelos índices de {@code projeto_id}, sem carregar entidades.
+     */
+    @Query("SELECT new com.growup.repository.projecao.VersaoProjeto(p.id, p.atualizadoEm, " +
+           "(SELECT COUNT(h.id) FROM UserStory h WHERE h.projeto.id = p.id), " +
+           "(SELECT MAX(h.atualizadoEm) FROM UserStory h WHERE h.projeto.id = p.id), " +
+           "(SELECT COUNT(s.id) FROM Sprint s WHERE s.projeto.id = p.id), " +
+           "(SELECT MAX(s.atualizadoEm) FROM Sprint s WHERE s.projeto.id = p.id)) " +
+           "FROM Projeto p WHERE p.id = :id")
+    Optional<VersaoProjeto> findVersaoById(@Param("id") Long id);
+
+    // Exclusão direta, sem o cascade das coleções; histórias e sprints já devem ter sido removidas
+    @Modifying
+    @Query("delete from Projeto p where p.id = :id")
+    int excluir(@Param("id") Long id);
 }
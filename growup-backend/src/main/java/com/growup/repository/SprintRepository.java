@@ -1,7 +1,11 @@
 package com.growup.repository;
 
 import com.growup.model.Sprint;
+import com.growup.repository.projecao.SprintResumo;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,4 +13,19 @@ import java.util.List;
 @Repository
 public interface SprintRepository extends JpaRepository<Sprint, Long> {
     List<Sprint> findByProjetoId(Long projetoId);
+
+    @Modifying
+    @Query("delete from Sprint s where s.id = :id")
+    int excluir(@Param("id") Long id);
+
+    @Modifying
+    @Query("delete from Sprint s where s.projeto.id = :projetoId")
+    int excluirPorProjeto(@Param("projetoId") Long projetoId);
+
+    // Contagem de histórias por sprint em uma única consulta, sem carregar as coleções
+    @Query("SELECT new com.growup.repository.projecao.SprintResumo(s.id, s.titulo, s.periodo, COUNT(h.id)) " +
+           "FROM Sprint s LEFT JOIN s.historias h " +
+           "WHERE s.projeto.id = :projetoId " +
+           "GROUP BY s.id, s.titulo, s.periodo ORDER BY s.id")
+    List<SprintResumo> findResumosByProjetoId(@Param("projetoId") Long projetoId);
 }
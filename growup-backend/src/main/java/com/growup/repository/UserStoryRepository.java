@@ -1,14 +1,124 @@
 package com.growup.repository;
 
 import com.growup.model.UserStory;
+import com.growup.repository.projecao.HistoriaResumo;
+import com.growup.repository.projecao.SincronizacaoResumo;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface UserStoryRepository extends JpaRepository<UserStory, Long> {
+public interface UserStoryRepository extends JpaRepository<UserStory, Long>, UserStoryRepositoryCustom {
+    // Projeto e sprint vêm no mesmo SELECT; sem isso cada sprint distinta é um SELECT a mais (N+1)
+    @EntityGraph(attributePaths = {"projeto", "sprint"})
     List<UserStory> findByProjetoId(Long projetoId);
+    @EntityGraph(attributePaths = {"projeto", "sprint"})
     List<UserStory> findBySprintId(Long sprintId);
+    @EntityGraph(attributePaths = {"projeto", "sprint"})
     List<UserStory> findByProjetoIdAndSprintIsNull(Long projetoId);
+
+    @Query("SELECT new com.growup.repository.projecao.HistoriaResumo(" +
+           "h.id, h.papel, h.acao, h.beneficio, h.prioridade, h.estimativa, h.sprint.id, h.jiraIssueKey) " +
+           "FROM UserStory h WHERE h.projeto.id = :projetoId ORDER BY h.id")
+    List<HistoriaResumo> findResumosByProjetoId(@Param("projetoId") Long projetoId);
+
+    @Query("SELECT new com.growup.repository.projecao.HistoriaResumo(" +
+           "h.id, h.papel, h.acao, h.beneficio, h.prioridade, h.estimativa, h.sprint.id, h.jiraIssueKey) " +
+           "FROM UserStory h WHERE h.projeto.id = :projetoId AND h.sprint IS NULL ORDER BY h.id")
+    List<HistoriaResumo> findResumosNaoAlocadosByProjetoId(@Param("projetoId") Long projetoId);
+
+    // Paginação por keyset: a página seguinte começa após o último id lido, sem OFFSET
+    @Query("SELECT new com.growup.repository.projecao.HistoriaResumo(" +
+           "h.id, h.papel, h.acao, h.beneficio, h.prioridade, h.estimativa, h.sprint.id, h.jiraIssueKey) " +
+           "FROM UserStory h WHERE h.projeto.id = :projetoId AND h.id > :aposId " +
+           "AND (:apenasNaoAlocadas = false OR h.sprint IS NULL) ORDER BY h.id")
+    List<HistoriaResumo> findPaginaResumos(@Param("projetoId") Long projetoId,
+                                           @Param("aposId") Long aposId,
+                                           @Param("apenasNaoAlocadas") boolean apenasNaoAlocadas,
+                                           Pageable pagina);
+
+    // Consultas separadas (em vez de um parâmetro booleano) para que o PostgreSQL possa
+    // usar os índices parciais de jira_issue_key (migração V3)
+    @Query("SELECT new com.growup.repository.projecao.HistoriaResumo(" +
+           "h.id, h.papel, h.acao, h.beneficio, h.prioridade, h.estimativa, h.sprint.id, h.jiraIssueKey) " +
+           "FROM UserStory h WHERE h.projeto.id = :projetoId AND h.id > :aposId " +
+           "AND h.jiraIssueKey IS NOT NULL ORDER BY h.id")
+    List<HistoriaResumo> findPaginaSincronizadas(@Param("projetoId") Long projetoId,
+                                                 @Param("aposId") Long aposId,
+                                                 Pageable pagina);
+
+    @Query("SELECT new com.growup.repository.projecao.HistoriaResumo(" +
+           "h.id, h.papel, h.acao, h.beneficio, h.prioridade, h.estimativa, h.sprint.id, h.jiraIssueKey) " +
+           "FROM UserStory h WHERE h.projeto.id = :projetoId AND h.id > :aposId " +
+           "AND h.jiraIssueKey IS NULL ORDER BY h.id")
+    List<HistoriaResumo> findPaginaNaoSincronizadas(@Param("projetoId") Long projetoId,
+                                                    @Param("aposId") Long aposId,
+                                                    Pageable pagina);
+
+    // Vazio apenas quando o projeto não existe; um projeto sem histórias retorna zeros
+    @Query("SELECT new com.growup.repository.projecao.SincronizacaoResumo(" +
+           "p.id, COUNT(h.id), COUNT(h.jiraIssueKey)) " +
+           "FROM Projeto p LEFT JOIN UserStory h ON h.projeto.id = p.id " +
+           "WHERE p.id = :projetoId GROUP BY p.id")
+    Optional<SincronizacaoResumo> findSincronizacaoResumo(@Param("projetoId") Long projetoId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.growup.repository.projecao.HistoriaResumo(" +
+           "h.id, h.papel, h.acao, h.beneficio, h.prioridade, h.estimativa, h.sprint.id, h.jiraIssueKey) " +
+           "FROM UserStory h WHERE h.projeto.id = :projetoId " +
+           "AND (:apenasNaoAlocadas = false OR h.sprint IS NULL) ORDER BY h.id")
+    Stream<HistoriaResumo> streamResumos(@Param("projetoId") Long projetoId,
+                                         @Param("apenasNaoAlocadas") boolean apenasNaoAlocadas);
+
+    /**
+     * Aloca as histórias na sprint em um único UPDATE. Só são afetadas histórias do mesmo
+     * projeto da sprint; ids de outros projetos ou inexistentes são ignorados.
+     */
+    // SQL nativo: sem declarar a tabela afetada, o Hibernate esvaziaria todas as regiões do cache de segundo nível
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_stories"))
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE user_stories SET sprint_id = :sprintId, updated_at = :agora " +
+                   "WHERE id IN (:ids) " +
+                   "AND projeto_id = (SELECT s.projeto_id FROM sprints s WHERE s.id = :sprintId)",
+           nativeQuery = true)
+    int alocarEmSprint(@Param("sprintId") Long sprintId,
+                       @Param("ids") Collection<Long> ids,
+                       @Param("agora") LocalDateTime agora);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_stories"))
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE user_stories SET sprint_id = NULL, updated_at = :agora " +
+                   "WHERE id IN (:ids) AND sprint_id = :sprintId",
+           nativeQuery = true)
+    int desalocarDeSprint(@Param("sprintId") Long sprintId,
+                          @Param("ids") Collection<Long> ids,
+                          @Param("agora") LocalDateTime agora);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update UserStory h set h.sprint = null, h.atualizadoEm = :agora where h.sprint.id = :sprintId")
+    int desalocarTodasDaSprint(@Param("sprintId") Long sprintId, @Param("agora") LocalDateTime agora);
+
+    /**
+     * Remove até {@code limite} histórias do projeto. Usado pela purga em lotes, em que
+     * cada lote roda em uma transação curta para não manter muitas linhas travadas.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_stories"))
+    @Modifying
+    @Query(value = "DELETE FROM user_stories WHERE id IN (" +
+                   "SELECT id FROM user_stories WHERE projeto_id = :projetoId ORDER BY id LIMIT :limite)",
+           nativeQuery = true)
+    int excluirLotePorProjeto(@Param("projetoId") Long projetoId, @Param("limite") int limite);
 }
@@ -0,0 +1,17 @@
+package com.growup.repository;
+
+import com.growup.model.UserStory;
+
+import java.util.List;
+
+public interface UserStoryRepositoryCustom {
+
+    /**
+     * Insere muitas histórias novas de uma vez. Os INSERTs saem em lotes JDBC de
+     * {@code hibernate.jdbc.batch_size} e as histórias de cada lote saem do contexto de
+     * persistência após o flush, então o consumo de memória não cresce com o volume. As
+     * demais entidades da transação continuam gerenciadas. As histórias retornadas já
+     * têm id, mas ficam desanexadas.
+     */
+    List<UserStory> inserirEmLote(List<UserStory> historias);
+}
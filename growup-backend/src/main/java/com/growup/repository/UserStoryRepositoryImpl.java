@@ -0,0 +1,43 @@
+package com.growup.repository;
+
+import com.growup.model.UserStory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+class UserStoryRepositoryImpl implements UserStoryRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int tamanhoLote;
+
+    @Override
+    @Transactional
+    public List<UserStory> inserirEmLote(List<UserStory> historias) {
+        int inicioLote = 0;
+        for (int i = 0; i < historias.size(); i++) {
+            entityManager.persist(historias.get(i));
+            if ((i + 1) % tamanhoLote == 0) {
+                desanexar(historias.subList(inicioLote, i + 1));
+                inicioLote = i + 1;
+            }
+        }
+        desanexar(historias.subList(inicioLote, historias.size()));
+        return historias;
+    }
+
+    /**
+     * Só as histórias do lote saem do contexto: um {@code clear()} desanexaria também as
+     * entidades que quem chamou carregou na mesma transação, e alterações pendentes nelas
+     * seriam perdidas.
+     */
+    private void desanexar(List<UserStory> lote) {
+        entityManager.flush();
+        lote.forEach(entityManager::detach);
+    }
+}
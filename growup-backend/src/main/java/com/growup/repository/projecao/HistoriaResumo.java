@@ -0,0 +1,7 @@
+package com.growup.repository.projecao;
+
+import com.growup.model.UserStory;
+
+public record HistoriaResumo(Long id, String papel, String acao, String beneficio, UserStory.Prioridade prioridade,
+                             String estimativa, Long sprintId, String jiraIssueKey) {
+}
@@ -0,0 +1,4 @@
+package com.growup.repository.projecao;
+
+public record ProjetoResumo(Long id, String nome, String descricao) {
+}
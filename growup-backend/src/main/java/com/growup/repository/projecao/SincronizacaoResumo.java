@@ -0,0 +1,4 @@
+package com.growup.repository.projecao;
+
+public record SincronizacaoResumo(Long projetoId, long total, long sincronizadas) {
+}
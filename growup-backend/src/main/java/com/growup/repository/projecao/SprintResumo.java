@@ -0,0 +1,4 @@
+package com.growup.repository.projecao;
+
+public record SprintResumo(Long id, String titulo, String periodo, long totalHistorias) {
+}
@@ -0,0 +1,8 @@
+package com.growup.repository.projecao;
+
+import java.time.LocalDateTime;
+
+public record VersaoProjeto(Long projetoId, LocalDateTime projetoAtualizadoEm,
+                            long historias, LocalDateTime historiasAtualizadasEm,
+                            long sprints, LocalDateTime sprintsAtualizadasEm) {
+}
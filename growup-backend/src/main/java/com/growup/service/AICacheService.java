@@ -0,0 +1,229 @@
+package com.growup.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.growup.dto.CacheEstatisticasDTO;
+import com.growup.dto.UserStoryDTO;
+import com.growup.model.AICacheEntry;
+import com.growup.model.UserStory;
+import com.growup.repository.AICacheEntryRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Cache das histórias geradas pela IA, indexado pelo hash do prompt normalizado. Tem
+ * duas camadas: memória (LRU com TTL) e banco ({@code ai_cache_entries}), para que as
+ * entradas sobrevivam a restarts e sejam compartilhadas entre instâncias.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AICacheService {
+
+    private static final TypeReference<List<UserStoryDTO>> TIPO_RESPOSTA = new TypeReference<>() { };
+
+    private final AICacheEntryRepository repository;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${ai.cache.memoria.max-entradas:500}")
+    private int maxEntradasMemoria;
+
+    @Value("${ai.cache.ttl-minutos:10080}")
+    private long ttlMinutos;
+
+    private final Map<String, EntradaMemoria> memoria = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, EntradaMemoria> eldest) {
+            return size() > maxEntradasMemoria;
+        }
+    };
+
+    private final AtomicLong hitsMemoria = new AtomicLong();
+    private final AtomicLong hitsPersistente = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong ignorados = new AtomicLong();
+
+    private TransactionTemplate transacaoIsolada;
+
+    @PostConstruct
+    void iniciar() {
+        // A gravação no cache não pode afetar a transação de quem chamou
+        transacaoIsolada = new TransactionTemplate(transactionManager);
+        transacaoIsolada.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Retorna as histórias em cache para o prompt ou as gera com {@code gerador}. Com
+     * {@code ignorarCache}, a consulta é pulada e o resultado novo substitui a entrada
+     * existente, o que também serve para invalidá-la.
+     */
+    public List<UserStory> obter(String prompt, boolean ignorarCache, Supplier<List<UserStory>> gerador) {
+        String chave = gerarChave(prompt);
+
+        if (ignorarCache) {
+            ignorados.incrementAndGet();
+        } else {
+            List<UserStoryDTO> emCache = buscar(chave);
+            if (emCache != null) {
+                return paraHistorias(emCache);
+            }
+            misses.incrementAndGet();
+        }
+
+        List<UserStory> historias = gerador.get();
+        armazenar(chave, historias);
+        return historias;
+    }
+
+    public void invalidar(String chave) {
+        synchronized (memoria) {
+            memoria.remove(chave);
+        }
+        transacaoIsolada.executeWithoutResult(status -> repository.deleteById(chave));
+    }
+
+    public void limpar() {
+        synchronized (memoria) {
+            memoria.clear();
+        }
+        transacaoIsolada.executeWithoutResult(status -> repository.deleteAllInBatch());
+    }
+
+    public CacheEstatisticasDTO estatisticas() {
+        long hits = hitsMemoria.get() + hitsPersistente.get();
+        long consultas = hits + misses.get();
+        int tamanho;
+        synchronized (memoria) {
+            tamanho = memoria.size();
+        }
+
+        return CacheEstatisticasDTO.builder()
+                .nome("ia")
+                .tamanho((long) tamanho)
+                .hitsMemoria(hitsMemoria.get())
+                .hitsPersistente(hitsPersistente.get())
+                .misses(misses.get())
+                .ignorados(ignorados.get())
+                .taxaAcerto(consultas == 0 ? 0.0 : (double) hits / consultas)
+                .build();
+    }
+
+    @Scheduled(fixedDelayString = "${ai.cache.intervalo-limpeza-ms:3600000}")
+    public void removerExpiradas() {
+        Integer removidas = transacaoIsolada.execute(status -> repository.removerExpiradas(LocalDateTime.now()));
+        if (removidas != null && removidas > 0) {
+            log.info("{} entradas expiradas removidas do cache de IA", removidas);
+        }
+    }
+
+    static String gerarChave(String prompt) {
+        String normalizado = Normalizer.normalize(prompt == null ? "" : prompt, Normalizer.Form.NFC)
+                .strip()
+                .replaceAll("\\s+", " ");
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(normalizado.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    private List<UserStoryDTO> buscar(String chave) {
+        LocalDateTime agora = LocalDateTime.now();
+
+        synchronized (memoria) {
+            EntradaMemoria entrada = memoria.get(chave);
+            if (entrada != null && entrada.expiraEm().isAfter(agora)) {
+                hitsMemoria.incrementAndGet();
+                return entrada.historias();
+            }
+            if (entrada != null) {
+                memoria.remove(chave);
+            }
+        }
+
+        try {
+            AICacheEntry persistida = repository.findById(chave).orElse(null);
+            if (persistida == null || !persistida.getExpiraEm().isAfter(agora)) {
+                return null;
+            }
+
+            List<UserStoryDTO> historias = objectMapper.readValue(persistida.getResposta(), TIPO_RESPOSTA);
+            colocarNaMemoria(chave, historias, persistida.getExpiraEm());
+            hitsPersistente.incrementAndGet();
+            return historias;
+        } catch (Exception e) {
+            log.warn("Erro ao consultar cache de IA; gerando novamente", e);
+            return null;
+        }
+    }
+
+    private void armazenar(String chave, List<UserStory> historias) {
+        List<UserStoryDTO> dtos = historias.stream()
+                .map(h -> UserStoryDTO.builder()
+                        .papel(h.getPapel())
+                        .acao(h.getAcao())
+                        .beneficio(h.getBeneficio())
+                        .prioridade(h.getPrioridade().toString())
+                        .estimativa(h.getEstimativa())
+                        .build())
+                .toList();
+        LocalDateTime expiraEm = LocalDateTime.now().plusMinutes(ttlMinutos);
+
+        colocarNaMemoria(chave, dtos, expiraEm);
+        try {
+            String resposta = objectMapper.writeValueAsString(dtos);
+            transacaoIsolada.executeWithoutResult(status -> repository.save(AICacheEntry.builder()
+                    .chave(chave)
+                    .resposta(resposta)
+                    .expiraEm(expiraEm)
+                    .build()));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Erro ao gravar cache de IA; a entrada ficará apenas em memória", e);
+        }
+    }
+
+    private void colocarNaMemoria(String chave, List<UserStoryDTO> historias, LocalDateTime expiraEm) {
+        synchronized (memoria) {
+            memoria.put(chave, new EntradaMemoria(historias, expiraEm));
+        }
+    }
+
+    private List<UserStory> paraHistorias(List<UserStoryDTO> dtos) {
+        // Sempre entidades novas: quem chama associa ao projeto e persiste
+        return dtos.stream()
+                .map(dto -> UserStory.builder()
+                        .papel(dto.getPapel())
+                        .acao(dto.getAcao())
+                        .beneficio(dto.getBeneficio())
+                        .prioridade(UserStory.Prioridade.valueOf(dto.getPrioridade()))
+                        .estimativa(dto.getEstimativa())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private record EntradaMemoria(List<UserStoryDTO> historias, LocalDateTime expiraEm) {
+    }
+}
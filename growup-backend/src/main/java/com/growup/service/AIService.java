@@ -1,17 +1,54 @@
 package com.growup.service;
 
 import com.growup.model.UserStory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Service
+@RequiredArgsConstructor
 @Slf4j
 public class AIService {
 
+    static final String METRICA_GERACAO = "growup.ia.geracao";
+
+    private final AICacheService aiCacheService;
+    private final MeterRegistry meterRegistry;
+
     public List<UserStory> gerarHistorias(String prompt) {
+        return gerarHistorias(prompt, false);
+    }
+
+    /**
+     * Gera as histórias consultando antes o cache de respostas; com {@code ignorarCache}
+     * a IA é sempre chamada e a entrada em cache é substituída. O timer leva a tag
+     * {@code cache}: {@code hit} quando a resposta veio do cache e {@code miss} quando o
+     * modelo foi chamado, para que os acertos não escondam a latência da IA.
+     */
+    public List<UserStory> gerarHistorias(String prompt, boolean ignorarCache) {
+        Timer.Sample amostra = Timer.start(meterRegistry);
+        AtomicBoolean chamouModelo = new AtomicBoolean();
+        String resultado = "erro";
+        try {
+            List<UserStory> historias = aiCacheService.obter(prompt, ignorarCache, () -> {
+                chamouModelo.set(true);
+                return gerarHistoriasComModelo(prompt);
+            });
+            resultado = "sucesso";
+            return historias;
+        } finally {
+            amostra.stop(meterRegistry.timer(METRICA_GERACAO,
+                    "resultado", resultado, "cache", chamouModelo.get() ? "miss" : "hit"));
+        }
+    }
+
+    private List<UserStory> gerarHistoriasComModelo(String prompt) {
         log.info("Gerando histórias com IA usando prompt");
         
         // TODO: Integrar com OpenAI ou outro serviço de IA
@@ -0,0 +1,151 @@
+package com.growup.service;
+
+import com.growup.dto.CacheEstatisticasDTO;
+import com.growup.dto.SprintDTO;
+import com.growup.dto.UserStoryDTO;
+import com.growup.model.Projeto;
+import com.growup.model.Sprint;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Cache das listagens por projeto (histórias e resumo das sprints), complementar ao
+ * cache de segundo nível do Hibernate para {@link Projeto} e {@link Sprint}. O cache de
+ * consultas do Hibernate não serve aqui: ele descarta os resultados de todos os
+ * projetos a cada escrita na tabela. Aqui a chave é o projeto, e os caminhos de escrita
+ * chamam {@link #invalidarProjeto(Long)} para remover apenas as entradas dele, aqui e
+ * nas demais instâncias (via {@link CanalInvalidacaoCache}).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CacheLeituraService {
+
+    private final CanalInvalidacaoCache canal;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Value("${cache.leitura.max-entradas:1000}")
+    private int maxEntradas;
+
+    @Value("${cache.leitura.ttl-segundos:300}")
+    private long ttlSegundos;
+
+    private CacheLocal<Long, List<UserStoryDTO>> historias;
+    private CacheLocal<Long, List<SprintDTO>> sprints;
+
+    @PostConstruct
+    void iniciar() {
+        historias = new CacheLocal<>("historias-por-projeto", maxEntradas, Duration.ofSeconds(ttlSegundos));
+        sprints = new CacheLocal<>("sprints-por-projeto", maxEntradas, Duration.ofSeconds(ttlSegundos));
+        canal.registrar(this::aoReceberInvalidacao, this::limparLocal);
+    }
+
+    public List<UserStoryDTO> historiasDoProjeto(Long projetoId, Supplier<List<UserStoryDTO>> carregador) {
+        return historias.obter(projetoId, carregador);
+    }
+
+    public List<SprintDTO> sprintsDoProjeto(Long projetoId, Supplier<List<SprintDTO>> carregador) {
+        return sprints.obter(projetoId, carregador);
+    }
+
+    /**
+     * Remove as listagens do projeto. Deve ser chamado na transação da escrita: a remoção
+     * é repetida após o commit, para descartar o que outra requisição tenha lido antes
+     * dele, e a invalidação é publicada para as demais instâncias.
+     */
+    public void invalidarProjeto(Long projetoId) {
+        if (projetoId == null) {
+            return;
+        }
+        removerListagens(projetoId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    removerListagens(projetoId);
+                }
+            });
+        }
+        canal.publicar(projetoId.toString());
+    }
+
+    /** Descarta todas as listagens e o cache de segundo nível, aqui e nas demais instâncias. */
+    public void limpar() {
+        limparLocal();
+        canal.publicar(CanalInvalidacaoCache.TODOS);
+        log.info("Cache de leitura limpo");
+    }
+
+    /**
+     * Invalidação vinda de outra instância. Além das listagens, remove do cache de
+     * segundo nível o projeto e as sprints, que podem ter sido alteradas por comandos em
+     * lote de que esta instância não tomou conhecimento.
+     */
+    void aoReceberInvalidacao(String chave) {
+        if (CanalInvalidacaoCache.TODOS.equals(chave)) {
+            limparLocal();
+            return;
+        }
+        try {
+            Long projetoId = Long.valueOf(chave);
+            removerListagens(projetoId);
+            entityManagerFactory.getCache().evict(Projeto.class, projetoId);
+            entityManagerFactory.getCache().evict(Sprint.class);
+        } catch (NumberFormatException e) {
+            log.warn("Invalidação de cache ignorada: chave inválida {}", chave);
+        }
+    }
+
+    public List<CacheEstatisticasDTO> estatisticas() {
+        List<CacheEstatisticasDTO> resultado = new ArrayList<>();
+        resultado.add(historias.estatisticas());
+        resultado.add(sprints.estatisticas());
+
+        Statistics estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (estatisticas.isStatisticsEnabled()) {
+            for (String regiao : estatisticas.getSecondLevelCacheRegionNames()) {
+                resultado.add(estatisticasRegiao(regiao, estatisticas.getDomainDataRegionStatistics(regiao)));
+            }
+        }
+        return resultado;
+    }
+
+    private void removerListagens(Long projetoId) {
+        historias.invalidar(projetoId);
+        sprints.invalidar(projetoId);
+    }
+
+    private void limparLocal() {
+        historias.limpar();
+        sprints.limpar();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    private static CacheEstatisticasDTO estatisticasRegiao(String regiao, CacheRegionStatistics estatisticas) {
+        long hits = estatisticas.getHitCount();
+        long consultas = hits + estatisticas.getMissCount();
+        long tamanho = estatisticas.getElementCountInMemory();
+        return CacheEstatisticasDTO.builder()
+                .nome("hibernate:" + regiao)
+                // O provedor JCache não informa o tamanho da região (-1)
+                .tamanho(tamanho < 0 ? null : tamanho)
+                .hitsMemoria(hits)
+                .misses(estatisticas.getMissCount())
+                .taxaAcerto(consultas == 0 ? 0.0 : (double) hits / consultas)
+                .build();
+    }
+}
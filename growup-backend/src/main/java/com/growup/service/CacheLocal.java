@@ -0,0 +1,87 @@
+package com.growup.service;
+
+import com.growup.dto.CacheEstatisticasDTO;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Cache em memória com limite de entradas (LRU), expiração por TTL e contadores de
+ * acerto. Toda invalidação incrementa a geração do cache: um valor carregado do banco
+ * enquanto havia uma escrita em andamento é devolvido a quem pediu, mas não é guardado,
+ * para que uma leitura anterior ao commit não volte para o cache depois da invalidação.
+ */
+final class CacheLocal<K, V> {
+
+    private final String nome;
+    private final long ttlNanos;
+    private final Map<K, Entrada<V>> entradas;
+
+    private long geracao;
+    private long hits;
+    private long misses;
+    private long invalidacoes;
+
+    CacheLocal(String nome, int maxEntradas, Duration ttl) {
+        this.nome = nome;
+        this.ttlNanos = ttl.toNanos();
+        this.entradas = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entrada<V>> eldest) {
+                return size() > maxEntradas;
+            }
+        };
+    }
+
+    V obter(K chave, Supplier<V> carregador) {
+        long geracaoDaLeitura;
+        synchronized (this) {
+            Entrada<V> entrada = entradas.get(chave);
+            if (entrada != null && entrada.expiraEm() - System.nanoTime() > 0) {
+                hits++;
+                return entrada.valor();
+            }
+            if (entrada != null) {
+                entradas.remove(chave);
+            }
+            misses++;
+            geracaoDaLeitura = geracao;
+        }
+
+        V valor = carregador.get();
+        synchronized (this) {
+            if (geracaoDaLeitura == geracao) {
+                entradas.put(chave, new Entrada<>(valor, System.nanoTime() + ttlNanos));
+            }
+        }
+        return valor;
+    }
+
+    synchronized void invalidar(K chave) {
+        geracao++;
+        invalidacoes++;
+        entradas.remove(chave);
+    }
+
+    synchronized void limpar() {
+        geracao++;
+        entradas.clear();
+    }
+
+    synchronized CacheEstatisticasDTO estatisticas() {
+        long consultas = hits + misses;
+        return CacheEstatisticasDTO.builder()
+                .nome(nome)
+                .tamanho((long) entradas.size())
+                .hitsMemoria(hits)
+                .misses(misses)
+                .invalidacoes(invalidacoes)
+                .taxaAcerto(consultas == 0 ? 0.0 : (double) hits / consultas)
+                .build();
+    }
+
+    private record Entrada<V>(V valor, long expiraEm) {
+    }
+}
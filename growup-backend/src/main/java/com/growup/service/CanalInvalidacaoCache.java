@@ -0,0 +1,153 @@
+package com.growup.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Propaga as invalidações do cache de leitura entre as instâncias da aplicação pelo
+ * LISTEN/NOTIFY do PostgreSQL. A notificação é enviada na transação da escrita, então
+ * só chega às outras instâncias depois do commit. Cada instância mantém uma conexão
+ * dedicada escutando o canal; se ela cair, o cache local inteiro é descartado ao
+ * reconectar, porque notificações podem ter sido perdidas nesse intervalo.
+ *
+ * <p>Com {@code cache.invalidacao.canal=local} (instância única, testes com H2) nada é
+ * publicado nem escutado.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CanalInvalidacaoCache {
+
+    static final String CANAL = "growup_cache";
+    static final String TODOS = "*";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${cache.invalidacao.canal:local}")
+    private String tipo;
+
+    @Value("${cache.invalidacao.espera-ms:5000}")
+    private int esperaMs;
+
+    @Value("${spring.datasource.url}")
+    private String url;
+
+    @Value("${spring.datasource.username:}")
+    private String usuario;
+
+    @Value("${spring.datasource.password:}")
+    private String senha;
+
+    private final String origem = UUID.randomUUID().toString();
+
+    private volatile Consumer<String> aoReceber = chave -> { };
+    private volatile Runnable aoReconectar = () -> { };
+    private volatile boolean ativo;
+    private Thread ouvinte;
+
+    @PostConstruct
+    void iniciar() {
+        if (!"postgres".equals(tipo)) {
+            log.info("Invalidação de cache entre instâncias desativada (canal: {})", tipo);
+            return;
+        }
+        ativo = true;
+        ouvinte = new Thread(this::escutar, "cache-invalidacao");
+        ouvinte.setDaemon(true);
+        ouvinte.start();
+    }
+
+    @PreDestroy
+    void encerrar() {
+        ativo = false;
+        if (ouvinte != null) {
+            ouvinte.interrupt();
+        }
+    }
+
+    /**
+     * Registra quem trata as invalidações vindas de outras instâncias: {@code aoReceber}
+     * recebe a chave invalidada ({@value #TODOS} para tudo) e {@code aoReconectar} é
+     * chamado quando a escuta é restabelecida.
+     */
+    void registrar(Consumer<String> aoReceber, Runnable aoReconectar) {
+        this.aoReceber = aoReceber;
+        this.aoReconectar = aoReconectar;
+    }
+
+    /**
+     * Publica a invalidação na transação corrente (ou imediatamente, fora de uma). Falhas
+     * só são registradas: a escrita já aconteceu e o TTL limita o tempo de dado velho nas
+     * outras instâncias.
+     */
+    void publicar(String chave) {
+        if (!ativo) {
+            return;
+        }
+        try {
+            jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", CANAL, origem + ":" + chave);
+        } catch (RuntimeException e) {
+            log.warn("Erro ao publicar invalidação de cache para {}", chave, e);
+        }
+    }
+
+    private void escutar() {
+        long espera = 1000;
+        while (ativo) {
+            try (Connection conexao = DriverManager.getConnection(url, usuario, senha)) {
+                try (Statement statement = conexao.createStatement()) {
+                    statement.execute("LISTEN " + CANAL);
+                }
+                log.info("Escutando invalidações de cache no canal {}", CANAL);
+                aoReconectar.run();
+                espera = 1000;
+
+                PGConnection pg = conexao.unwrap(PGConnection.class);
+                while (ativo) {
+                    PGNotification[] notificacoes = pg.getNotifications(esperaMs);
+                    if (notificacoes == null) {
+                        continue;
+                    }
+                    for (PGNotification notificacao : notificacoes) {
+                        tratar(notificacao.getParameter());
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!ativo) {
+                    return;
+                }
+                log.warn("Escuta de invalidações de cache interrompida; nova tentativa em {} ms", espera, e);
+                try {
+                    Thread.sleep(espera);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                espera = Math.min(espera * 2, 30_000);
+            }
+        }
+    }
+
+    private void tratar(String mensagem) {
+        int separador = mensagem.indexOf(':');
+        if (separador < 0 || mensagem.substring(0, separador).equals(origem)) {
+            // As invalidações desta instância já foram aplicadas localmente
+            return;
+        }
+        aoReceber.accept(mensagem.substring(separador + 1));
+    }
+}
@@ -0,0 +1,99 @@
+package com.growup.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Divide um documento em seções de no máximo {@code maxTokens} tokens, respeitando
+ * parágrafos e, quando um parágrafo não cabe sozinho, frases e palavras.
+ *
+ * <p>A contagem de tokens é uma estimativa no estilo BPE (cerca de 4 caracteres por
+ * token para letras e dígitos, um token por sinal de pontuação), suficiente para manter
+ * cada prompt dentro do limite de contexto do modelo sem depender de um tokenizador.
+ */
+@Component
+public class DocumentoSegmentador {
+
+    private static final int CARACTERES_POR_TOKEN = 4;
+    private static final Pattern PARAGRAFOS = Pattern.compile("\\n\\s*\\n");
+    private static final Pattern FRASES = Pattern.compile("(?<=[.!?;:])\\s+");
+    private static final Pattern PALAVRAS = Pattern.compile("\\s+");
+    private static final Pattern TOKENS = Pattern.compile("[\\p{L}\\p{N}]+|[^\\s\\p{L}\\p{N}]");
+
+    public List<String> segmentar(String documento, int maxTokens) {
+        List<String> secoes = new ArrayList<>();
+        if (documento == null || documento.isBlank()) {
+            return secoes;
+        }
+
+        Secao atual = new Secao(secoes);
+        for (String paragrafo : PARAGRAFOS.split(documento.strip())) {
+            adicionar(paragrafo.strip(), "\n\n", FRASES, maxTokens, atual);
+        }
+        atual.fechar();
+        return secoes;
+    }
+
+    public static int contarTokens(String texto) {
+        int tokens = 0;
+        Matcher matcher = TOKENS.matcher(texto);
+        while (matcher.find()) {
+            int tamanho = matcher.end() - matcher.start();
+            tokens += tamanho == 1 ? 1 : (tamanho + CARACTERES_POR_TOKEN - 1) / CARACTERES_POR_TOKEN;
+        }
+        return tokens;
+    }
+
+    private void adicionar(String trecho, String separador, Pattern divisor, int maxTokens, Secao atual) {
+        if (trecho.isEmpty()) {
+            return;
+        }
+
+        int tokens = contarTokens(trecho);
+        if (tokens > maxTokens && divisor != null) {
+            // Não cabe em uma seção: desce para frases e, depois, palavras
+            Pattern proximo = divisor == FRASES ? PALAVRAS : null;
+            atual.fechar();
+            for (String parte : divisor.split(trecho)) {
+                adicionar(parte, " ", proximo, maxTokens, atual);
+            }
+            atual.fechar();
+            return;
+        }
+
+        if (atual.tokens > 0 && atual.tokens + tokens > maxTokens) {
+            atual.fechar();
+        }
+        atual.adicionar(trecho, separador, tokens);
+    }
+
+    private static final class Secao {
+        private final List<String> secoes;
+        private final StringBuilder texto = new StringBuilder();
+        private int tokens;
+
+        Secao(List<String> secoes) {
+            this.secoes = secoes;
+        }
+
+        void adicionar(String trecho, String separador, int tokensTrecho) {
+            if (!texto.isEmpty()) {
+                texto.append(separador);
+            }
+            texto.append(trecho);
+            tokens += tokensTrecho;
+        }
+
+        void fechar() {
+            if (!texto.isEmpty()) {
+                secoes.add(texto.toString());
+                texto.setLength(0);
+                tokens = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.growup.service;
+
+import org.springframework.stereotype.Component;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+
+/**
+ * Extrai o texto de um documento em disco de forma incremental, entregando-o em blocos
+ * de no máximo {@code tamanhoBloco} caracteres. O documento nunca é carregado inteiro
+ * em memória: o consumo de heap é limitado pelo bloco corrente mais o buffer de leitura.
+ *
+ * <p>Formatos suportados: texto puro, Markdown e DOCX. PDF não é suportado.
+ */
+@Component
+public class ExtratorTextoDocumento {
+
+    private static final int TAMANHO_BUFFER = 8 * 1024;
+    private static final String NAMESPACE_WORD = "http://schemas.openxmlformats.org/wordprocessingml/2006/main";
+
+    public enum Formato {
+        TEXTO, DOCX
+    }
+
+    /** Documento corrompido ou que não corresponde ao formato indicado pela extensão. */
+    public static class DocumentoInvalidoException extends IllegalArgumentException {
+        public DocumentoInvalidoException(String mensagem) {
+            super(mensagem);
+        }
+
+        public DocumentoInvalidoException(String mensagem, Throwable causa) {
+            super(mensagem, causa);
+        }
+    }
+
+    public static Formato detectarFormato(String nomeArquivo, String contentType) {
+        String nome = nomeArquivo == null ? "" : nomeArquivo.toLowerCase(Locale.ROOT);
+        if (nome.endsWith(".docx")) {
+            return Formato.DOCX;
+        }
+        if (nome.endsWith(".txt") || nome.endsWith(".md") || nome.endsWith(".markdown")
+                || (contentType != null && contentType.startsWith("text/"))) {
+            return Formato.TEXTO;
+        }
+        throw new IllegalArgumentException("Formato de documento não suportado: " + nomeArquivo);
+    }
+
+    /**
+     * Confere a estrutura do documento sem extrair o texto, para recusá-lo antes de
+     * criar o projeto. Um XML corrompido dentro de um DOCX só é detectado na extração.
+     */
+    public void validar(Path arquivo, Formato formato) throws IOException {
+        if (formato == Formato.DOCX) {
+            try (ZipFile zip = abrirDocx(arquivo)) {
+                localizarDocumento(zip);
+            }
+        }
+    }
+
+    /**
+     * @throws DocumentoInvalidoException se o documento estiver corrompido; as demais
+     *                                    falhas de leitura saem como {@link IOException}
+     */
+    public void extrair(Path arquivo, Formato formato, int tamanhoBloco, Consumer<String> aoBloco) throws IOException {
+        Blocos blocos = new Blocos(tamanhoBloco, aoBloco);
+        switch (formato) {
+            case TEXTO -> extrairTexto(arquivo, blocos);
+            case DOCX -> extrairDocx(arquivo, blocos);
+        }
+        blocos.finalizar();
+    }
+
+    private void extrairTexto(Path arquivo, Blocos blocos) throws IOException {
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ);
+             Reader reader = Channels.newReader(canal, StandardCharsets.UTF_8.newDecoder()
+                     .onMalformedInput(CodingErrorAction.REPLACE)
+                     .onUnmappableCharacter(CodingErrorAction.REPLACE), TAMANHO_BUFFER)) {
+            char[] buffer = new char[TAMANHO_BUFFER];
+            int lidos;
+            while ((lidos = reader.read(buffer)) != -1) {
+                blocos.adicionar(buffer, lidos);
+            }
+        }
+    }
+
+    private void extrairDocx(Path arquivo, Blocos blocos) throws IOException {
+        try (ZipFile zip = abrirDocx(arquivo);
+             InputStream xml = zip.getInputStream(localizarDocumento(zip))) {
+            lerXmlWord(xml, blocos);
+        } catch (XMLStreamException e) {
+            throw new DocumentoInvalidoException("Arquivo DOCX inválido: conteúdo XML ilegível", e);
+        }
+    }
+
+    private ZipFile abrirDocx(Path arquivo) throws IOException {
+        try {
+            return new ZipFile(arquivo.toFile());
+        } catch (ZipException e) {
+            throw new DocumentoInvalidoException("Arquivo DOCX inválido: não é um arquivo ZIP", e);
+        }
+    }
+
+    private ZipEntry localizarDocumento(ZipFile zip) {
+        ZipEntry documento = zip.getEntry("word/document.xml");
+        if (documento == null) {
+            throw new DocumentoInvalidoException("Arquivo DOCX inválido: word/document.xml ausente");
+        }
+        return documento;
+    }
+
+    private void lerXmlWord(InputStream xml, Blocos blocos) throws XMLStreamException {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+
+        XMLStreamReader reader = factory.createXMLStreamReader(xml, StandardCharsets.UTF_8.name());
+        try {
+            boolean dentroDeTexto = false;
+            while (reader.hasNext()) {
+                int evento = reader.next();
+                if (evento == XMLStreamConstants.START_ELEMENT && NAMESPACE_WORD.equals(reader.getNamespaceURI())) {
+                    switch (reader.getLocalName()) {
+                        case "t" -> dentroDeTexto = true;
+                        case "tab" -> blocos.adicionar("\t");
+                        case "br" -> blocos.adicionar("\n");
+                        default -> { }
+                    }
+                } else if (evento == XMLStreamConstants.END_ELEMENT && NAMESPACE_WORD.equals(reader.getNamespaceURI())) {
+                    switch (reader.getLocalName()) {
+                        case "t" -> dentroDeTexto = false;
+                        case "p" -> blocos.adicionar("\n");
+                        default -> { }
+                    }
+                } else if (evento == XMLStreamConstants.CHARACTERS && dentroDeTexto) {
+                    blocos.adicionar(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                }
+            }
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * Acumula texto e emite blocos de até {@code tamanho} caracteres, cortando de
+     * preferência em quebra de linha ou espaço na segunda metade do bloco.
+     */
+    private static final class Blocos {
+        private final int tamanho;
+        private final Consumer<String> aoBloco;
+        private final StringBuilder atual;
+
+        Blocos(int tamanho, Consumer<String> aoBloco) {
+            this.tamanho = tamanho;
+            this.aoBloco = aoBloco;
+            this.atual = new StringBuilder(tamanho + TAMANHO_BUFFER);
+        }
+
+        void adicionar(String texto) {
+            atual.append(texto);
+            emitirCheios();
+        }
+
+        void adicionar(char[] texto, int quantidade) {
+            adicionar(texto, 0, quantidade);
+        }
+
+        void adicionar(char[] texto, int inicio, int quantidade) {
+            atual.append(texto, inicio, quantidade);
+            emitirCheios();
+        }
+
+        void finalizar() {
+            emitir(atual.length());
+        }
+
+        private void emitirCheios() {
+            while (atual.length() >= tamanho) {
+                emitir(pontoDeCorte());
+            }
+        }
+
+        private int pontoDeCorte() {
+            int minimo = tamanho / 2;
+            for (int i = tamanho - 1; i >= minimo; i--) {
+                if (atual.charAt(i) == '\n') {
+                    return i + 1;
+                }
+            }
+            for (int i = tamanho - 1; i >= minimo; i--) {
+                if (Character.isWhitespace(atual.charAt(i))) {
+                    return i + 1;
+                }
+            }
+            return tamanho;
+        }
+
+        private void emitir(int fim) {
+            String bloco = atual.substring(0, fim);
+            atual.delete(0, fim);
+            if (!bloco.isBlank()) {
+                aoBloco.accept(bloco);
+            }
+        }
+    }
+}
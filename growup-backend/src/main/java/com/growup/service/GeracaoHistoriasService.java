@@ -0,0 +1,284 @@
+package com.growup.service;
+
+import com.growup.model.UserStory;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Gera histórias de documentos grandes em map-reduce: o documento é dividido em seções
+ * de até {@code ai.geracao.tokens-por-secao} tokens, cada seção vira um prompt enviado
+ * à IA em paralelo (no máximo {@code ai.geracao.concorrencia} chamadas simultâneas) e
+ * as respostas são unidas, sem duplicatas, com prioridades determinísticas.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GeracaoHistoriasService {
+
+    private final AIService aiService;
+    private final DocumentoSegmentador documentoSegmentador;
+
+    @Value("${ai.geracao.tokens-por-secao:1500}")
+    private int tokensPorSecao;
+
+    @Value("${ai.geracao.concorrencia:4}")
+    private int concorrencia;
+
+    private ThreadPoolTaskExecutor executor;
+
+    @PostConstruct
+    void iniciarExecutor() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concorrencia);
+        executor.setMaxPoolSize(concorrencia);
+        executor.setThreadNamePrefix("geracao-ia-");
+        executor.initialize();
+    }
+
+    @PreDestroy
+    void encerrarExecutor() {
+        executor.shutdown();
+    }
+
+    /**
+     * Gera as histórias do documento. Seções que falham são descartadas com log; se
+     * todas falharem, a exceção é propagada para que quem chamou aplique o fallback.
+     */
+    public List<UserStory> gerar(String conteudo, String contexto, boolean ignorarCache) {
+        return gerar(conteudo, contexto, ignorarCache, novas -> { });
+    }
+
+    /**
+     * Como {@link #gerar(String, String, boolean)}, chamando {@code aoGerarNovas} na thread
+     * de quem chamou assim que cada seção termina (na ordem de conclusão), apenas com as
+     * histórias que ainda não apareceram em seções anteriores. As instâncias entregues são
+     * as mesmas da lista final; a redução pode elevar a prioridade delas e, se uma
+     * duplicata aparecer antes no documento, substituir seus campos pelos dela.
+     */
+    public List<UserStory> gerar(String conteudo, String contexto, boolean ignorarCache,
+                                 Consumer<List<UserStory>> aoGerarNovas) {
+        Geracao geracao = iniciar(contexto, ignorarCache, aoGerarNovas);
+        geracao.adicionar(conteudo);
+        return geracao.concluir();
+    }
+
+    /**
+     * Geração de um documento recebido em partes (por exemplo, blocos extraídos de um
+     * arquivo): cada parte é segmentada e gerada como em {@link #gerar}, e todas passam
+     * pela mesma redução, então duplicatas entre partes também são removidas.
+     */
+    public Geracao iniciar(String contexto, boolean ignorarCache, Consumer<List<UserStory>> aoGerarNovas) {
+        return new Geracao(contexto, ignorarCache, aoGerarNovas);
+    }
+
+    public final class Geracao {
+        private final String contexto;
+        private final boolean ignorarCache;
+        private final Consumer<List<UserStory>> aoGerarNovas;
+        private final Redutor redutor = new Redutor();
+        private int secoesAnteriores;
+        private int comSucesso;
+        private RuntimeException ultimaFalha;
+
+        private Geracao(String contexto, boolean ignorarCache, Consumer<List<UserStory>> aoGerarNovas) {
+            this.contexto = contexto;
+            this.ignorarCache = ignorarCache;
+            this.aoGerarNovas = aoGerarNovas;
+        }
+
+        /** Seções que falham são descartadas com log. */
+        public void adicionar(String conteudo) {
+            List<String> secoes = documentoSegmentador.segmentar(conteudo, tokensPorSecao);
+            int primeira = secoesAnteriores;
+            secoesAnteriores += Math.max(secoes.size(), 1);
+            if (secoes.size() <= 1) {
+                // Parte pequena: uma única chamada, na própria thread
+                String secao = secoes.isEmpty() ? "" : secoes.get(0);
+                List<UserStory> historias;
+                try {
+                    historias = aiService.gerarHistorias(construirPrompt(secao, contexto, 1, 1), ignorarCache);
+                } catch (RuntimeException e) {
+                    log.warn("Falha ao gerar histórias da seção {}", primeira + 1, e);
+                    ultimaFalha = e;
+                    return;
+                }
+                comSucesso++;
+                aoGerarNovas.accept(redutor.adicionar(primeira, historias));
+                return;
+            }
+
+            log.info("Documento dividido em {} seções para geração em paralelo", secoes.size());
+            BlockingQueue<Integer> concluidas = new LinkedBlockingQueue<>();
+            List<CompletableFuture<List<UserStory>>> futuros = new ArrayList<>();
+            for (int i = 0; i < secoes.size(); i++) {
+                int indice = i;
+                String prompt = construirPrompt(secoes.get(i), contexto, i + 1, secoes.size());
+                futuros.add(CompletableFuture
+                        .supplyAsync(() -> aiService.gerarHistorias(prompt, ignorarCache), executor)
+                        .whenComplete((historias, erro) -> concluidas.add(indice)));
+            }
+
+            for (int i = 0; i < futuros.size(); i++) {
+                int secao = aguardarProxima(concluidas, futuros);
+                List<UserStory> historias;
+                try {
+                    historias = futuros.get(secao).join();
+                } catch (CompletionException e) {
+                    log.warn("Falha ao gerar histórias da seção {} de {}", secao + 1, futuros.size(), e.getCause());
+                    ultimaFalha = e;
+                    continue;
+                }
+                comSucesso++;
+                aoGerarNovas.accept(redutor.adicionar(primeira + secao, historias));
+            }
+        }
+
+        /**
+         * Lista final, já reduzida. Se nenhuma seção do documento teve sucesso, propaga a
+         * última falha para que quem chamou aplique o fallback uma única vez.
+         */
+        public List<UserStory> concluir() {
+            if (comSucesso == 0 && ultimaFalha != null) {
+                throw ultimaFalha;
+            }
+            return redutor.resultado();
+        }
+    }
+
+    /**
+     * Une as histórias das seções removendo as que têm o mesmo papel e ação (ignorando
+     * caixa, acentos e pontuação). A história mantém os campos da primeira ocorrência no
+     * documento e a maior prioridade entre as duplicatas, e o resultado é ordenado por
+     * prioridade, número de seções em que a história apareceu e posição da primeira
+     * ocorrência, de modo que o mesmo conjunto de respostas sempre produz a mesma lista.
+     */
+    static List<UserStory> reduzir(List<List<UserStory>> porSecao) {
+        Redutor redutor = new Redutor();
+        for (int i = 0; i < porSecao.size(); i++) {
+            redutor.adicionar(i, porSecao.get(i));
+        }
+        return redutor.resultado();
+    }
+
+    private static int aguardarProxima(BlockingQueue<Integer> concluidas,
+                                       List<CompletableFuture<List<UserStory>>> futuros) {
+        try {
+            return concluidas.take();
+        } catch (InterruptedException e) {
+            futuros.forEach(f -> f.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Geração de histórias interrompida", e);
+        }
+    }
+
+    static String construirPrompt(String conteudo, String contexto, int secao, int totalSecoes) {
+        String parte = totalSecoes > 1
+                ? String.format("(Seção %d de %d do documento; gere apenas as histórias desta seção.)\n", secao, totalSecoes)
+                : "";
+        return String.format(
+                "Analise o seguinte documento e gere histórias de usuário no formato: " +
+                "papel|ação|benefício|prioridade|estimativa\n\n" +
+                "Contexto adicional: %s\n\n" +
+                "%sDocumento:\n%s\n\n" +
+                "Gere pelo menos 3 histórias de usuário bem estruturadas.",
+                contexto, parte, conteudo
+        );
+    }
+
+    private static String normalizar(String texto) {
+        if (texto == null) {
+            return "";
+        }
+        return Normalizer.normalize(texto, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}+", "")
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("[^\\p{L}\\p{N}]+", " ")
+                .strip();
+    }
+
+    /**
+     * Redução incremental: aceita as seções em qualquer ordem e produz sempre o mesmo
+     * resultado, pois a ordem final e os campos de cada história vêm da ocorrência mais
+     * próxima do início do documento. A instância entregue primeiro é mantida (ela pode
+     * já ter sido salva) e recebe os campos da duplicata que aparecer antes dela.
+     */
+    private static final class Redutor {
+        private final Map<String, Agrupada> agrupadas = new LinkedHashMap<>();
+
+        List<UserStory> adicionar(int secao, List<UserStory> historias) {
+            List<UserStory> novas = new ArrayList<>();
+            for (int i = 0; i < historias.size(); i++) {
+                UserStory historia = historias.get(i);
+                String chave = normalizar(historia.getPapel()) + "|" + normalizar(historia.getAcao());
+                long ordem = ((long) secao << 32) | i;
+                UserStory.Prioridade prioridade = historia.getPrioridade() != null
+                        ? historia.getPrioridade()
+                        : UserStory.Prioridade.MEDIA;
+
+                Agrupada agrupada = agrupadas.get(chave);
+                if (agrupada == null) {
+                    historia.setPrioridade(prioridade);
+                    agrupadas.put(chave, new Agrupada(historia, ordem, prioridade));
+                    novas.add(historia);
+                    continue;
+                }
+                agrupada.ocorrencias++;
+                if (ordem < agrupada.ordem) {
+                    agrupada.ordem = ordem;
+                    agrupada.historia.setPapel(historia.getPapel());
+                    agrupada.historia.setAcao(historia.getAcao());
+                    agrupada.historia.setBeneficio(historia.getBeneficio());
+                    agrupada.historia.setEstimativa(historia.getEstimativa());
+                }
+                if (prioridade.compareTo(agrupada.prioridade) < 0) {
+                    agrupada.prioridade = prioridade;
+                }
+            }
+            return novas;
+        }
+
+        List<UserStory> resultado() {
+            return agrupadas.values().stream()
+                    .sorted(Comparator.comparing((Agrupada a) -> a.prioridade)
+                            .thenComparing(a -> -a.ocorrencias)
+                            .thenComparingLong(a -> a.ordem))
+                    .map(a -> {
+                        a.historia.setPrioridade(a.prioridade);
+                        return a.historia;
+                    })
+                    .collect(Collectors.toCollection(ArrayList::new));
+        }
+    }
+
+    private static final class Agrupada {
+        private final UserStory historia;
+        private UserStory.Prioridade prioridade;
+        private long ordem;
+        private int ocorrencias = 1;
+
+        Agrupada(UserStory historia, long ordem, UserStory.Prioridade prioridade) {
+            this.historia = historia;
+            this.ordem = ordem;
+            this.prioridade = prioridade;
+        }
+    }
+}
@@ -1,7 +1,24 @@
 package com.growup.service;
 
+import com.growup.dto.JiraSyncResultDTO;
 import com.growup.model.UserStory;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
 
 public interface JiraClient {
+
+    /** Limite de issues por requisição do endpoint de criação em lote do Jira. */
+    int MAX_ISSUES_POR_LOTE = 50;
+
     String criarIssue(UserStory historia, String projectKey);
+
+    Mono<String> criarIssueReativo(UserStory historia, String projectKey);
+
+    /**
+     * Cria as issues usando o endpoint de criação em lote do Jira. Falhas de itens
+     * individuais não interrompem o lote: cada história recebe seu próprio resultado,
+     * na mesma ordem de {@code historias}.
+     */
+    Mono<List<JiraSyncResultDTO>> criarIssuesEmLote(List<UserStory> historias, String projectKey);
 }
@@ -1,13 +1,29 @@
 package com.growup.service;
 
+import com.growup.dto.JiraSyncResultDTO;
+import com.growup.dto.PaginaDTO;
+import com.growup.dto.SincronizacaoJiraDTO;
+import com.growup.dto.UserStoryDTO;
 import com.growup.model.UserStory;
 import com.growup.repository.UserStoryRepository;
+import com.growup.repository.projecao.HistoriaResumo;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -16,30 +32,189 @@ public class JiraService {
 
     private final UserStoryRepository userStoryRepository;
     private final JiraClient jiraClient;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheLeituraService cacheLeituraService;
+    private final MeterRegistry meterRegistry;
 
-    @Transactional
-    public void sincronizarHistoriasComJira(List<Long> historiaIds, String jiraProjectKey) {
+    static final String METRICA_HISTORIAS = "growup.jira.historias";
+
+    @Value("${jira.sync.concorrencia:8}")
+    private int concorrencia;
+
+    @Value("${jira.sync.tamanho-lote:50}")
+    private int tamanhoLote;
+
+    /**
+     * Sincroniza as histórias uma a uma. Uma falha no Jira não interrompe as demais
+     * histórias, mas fica no resultado dela em vez de só no log. Como em
+     * {@link #sincronizarHistoriasEmParalelo(List, String)}, nenhuma conexão com o banco
+     * fica presa durante a chamada ao Jira (que pode esperar pelo limite de requisições
+     * e por novas tentativas): cada chave é gravada depois, em uma transação curta.
+     *
+     * @return o resultado de cada história, na ordem de {@code historiaIds}
+     */
+    public List<JiraSyncResultDTO> sincronizarHistoriasComJira(List<Long> historiaIds, String jiraProjectKey) {
         log.info("Sincronizando {} histórias com Jira (projeto: {})", historiaIds.size(), jiraProjectKey);
 
+        List<JiraSyncResultDTO> resultados = new ArrayList<>(historiaIds.size());
         for (Long historiaId : historiaIds) {
             UserStory historia = userStoryRepository.findById(historiaId)
                     .orElseThrow(() -> new RuntimeException("História não encontrada"));
 
+            String issueKey;
             try {
-                String issueKey = jiraClient.criarIssue(historia, jiraProjectKey);
-                historia.setJiraIssueKey(issueKey);
-                userStoryRepository.save(historia);
-                log.info("História {} sincronizada com Jira: {}", historiaId, issueKey);
+                issueKey = jiraClient.criarIssue(historia, jiraProjectKey);
             } catch (Exception e) {
                 log.error("Erro ao sincronizar história {} com Jira", historiaId, e);
+                resultados.add(JiraSyncResultDTO.falha(historiaId, e.getMessage()));
+                continue;
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    historia.setJiraIssueKey(issueKey);
+                    userStoryRepository.save(historia);
+                });
+            } catch (Exception e) {
+                log.error("Erro ao gravar chave do Jira {} da história {}", issueKey, historiaId, e);
+                resultados.add(JiraSyncResultDTO.falha(historiaId,
+                        "Issue " + issueKey + " criada, mas não gravada: " + e.getMessage()));
+                continue;
             }
+            cacheLeituraService.invalidarProjeto(historia.getProjeto().getId());
+            log.info("História {} sincronizada com Jira: {}", historiaId, issueKey);
+            resultados.add(JiraSyncResultDTO.sucesso(historiaId, issueKey));
         }
+        return contarResultados(resultados);
     }
 
-    @Transactional(readOnly = true)
-    public List<UserStory> listarHistoriasSincronizadas() {
-        return userStoryRepository.findAll().stream()
-                .filter(h -> h.getJiraIssueKey() != null)
+    /**
+     * Sincroniza as histórias usando a criação em lote do Jira, com até
+     * {@code jira.sync.concorrencia} lotes em paralelo. Nenhuma conexão com o banco fica
+     * presa durante as chamadas HTTP: as histórias são lidas em uma única consulta e
+     * as chaves são gravadas depois, em lotes de {@code jira.sync.tamanho-lote}, cada
+     * lote em uma transação curta.
+     *
+     * @return o resultado de cada história, na ordem de {@code historiaIds} (sem repetições)
+     */
+    public List<JiraSyncResultDTO> sincronizarHistoriasEmParalelo(List<Long> historiaIds, String jiraProjectKey) {
+        return sincronizarHistoriasEmParalelo(historiaIds, jiraProjectKey, lote -> { });
+    }
+
+    /**
+     * Igual a {@link #sincronizarHistoriasEmParalelo(List, String)}, mas executa
+     * {@code aoGravarLote} dentro da mesma transação que grava cada lote de chaves,
+     * permitindo registrar o progresso de forma atômica com a gravação.
+     */
+    public List<JiraSyncResultDTO> sincronizarHistoriasEmParalelo(List<Long> historiaIds, String jiraProjectKey,
+                                                                  Consumer<List<JiraSyncResultDTO>> aoGravarLote) {
+        log.info("Sincronizando {} histórias com Jira em paralelo (projeto: {}, concorrência: {})",
+                historiaIds.size(), jiraProjectKey, concorrencia);
+
+        List<Long> ids = historiaIds.stream().distinct().toList();
+        List<UserStory> historias = userStoryRepository.findAllById(ids);
+
+        List<List<UserStory>> lotes = new ArrayList<>();
+        for (int inicio = 0; inicio < historias.size(); inicio += JiraClient.MAX_ISSUES_POR_LOTE) {
+            lotes.add(historias.subList(inicio, Math.min(inicio + JiraClient.MAX_ISSUES_POR_LOTE, historias.size())));
+        }
+
+        Map<Long, JiraSyncResultDTO> porHistoria = Flux.fromIterable(lotes)
+                .flatMap(lote -> enviarParaJira(lote, jiraProjectKey), concorrencia)
+                .flatMapIterable(resultados -> resultados)
+                .collectMap(JiraSyncResultDTO::getHistoriaId)
+                .block();
+
+        List<JiraSyncResultDTO> resultados = ids.stream()
+                .map(id -> porHistoria.getOrDefault(id, JiraSyncResultDTO.falha(id, "História não encontrada")))
                 .toList();
+
+        return contarResultados(gravarIssueKeys(resultados, aoGravarLote));
+    }
+
+    private List<JiraSyncResultDTO> contarResultados(List<JiraSyncResultDTO> resultados) {
+        long sincronizadas = resultados.stream().filter(JiraSyncResultDTO::getSucesso).count();
+        meterRegistry.counter(METRICA_HISTORIAS, "resultado", "sincronizada").increment(sincronizadas);
+        meterRegistry.counter(METRICA_HISTORIAS, "resultado", "falha").increment(resultados.size() - sincronizadas);
+        return resultados;
+    }
+
+    private Mono<List<JiraSyncResultDTO>> enviarParaJira(List<UserStory> lote, String jiraProjectKey) {
+        return jiraClient.criarIssuesEmLote(lote, jiraProjectKey)
+                .onErrorResume(e -> {
+                    log.error("Erro ao sincronizar lote de {} histórias com Jira", lote.size(), e);
+                    return Mono.just(lote.stream()
+                            .map(h -> JiraSyncResultDTO.falha(h.getId(), e.getMessage()))
+                            .toList());
+                })
+                .doOnNext(resultados -> resultados.stream()
+                        .filter(r -> !r.getSucesso())
+                        .forEach(r -> log.warn("História {} não sincronizada com Jira: {}", r.getHistoriaId(), r.getErro())));
+    }
+
+    private List<JiraSyncResultDTO> gravarIssueKeys(List<JiraSyncResultDTO> resultados,
+                                                    Consumer<List<JiraSyncResultDTO>> aoGravarLote) {
+        List<JiraSyncResultDTO> sincronizadas = resultados.stream()
+                .filter(JiraSyncResultDTO::getSucesso)
+                .toList();
+
+        for (int inicio = 0; inicio < sincronizadas.size(); inicio += tamanhoLote) {
+            List<JiraSyncResultDTO> lote = sincronizadas.subList(inicio, Math.min(inicio + tamanhoLote, sincronizadas.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    gravarLote(lote);
+                    aoGravarLote.accept(lote);
+                });
+            } catch (Exception e) {
+                log.error("Erro ao gravar chaves do Jira para {} histórias", lote.size(), e);
+                lote.forEach(r -> {
+                    r.setSucesso(false);
+                    r.setErro("Issue " + r.getJiraIssueKey() + " criada, mas não gravada: " + e.getMessage());
+                });
+            }
+        }
+
+        return resultados;
+    }
+
+    private void gravarLote(List<JiraSyncResultDTO> lote) {
+        Map<Long, String> chaves = lote.stream()
+                .collect(Collectors.toMap(JiraSyncResultDTO::getHistoriaId, JiraSyncResultDTO::getJiraIssueKey));
+
+        // Entidades gerenciadas: o flush ao final da transação gera os UPDATEs em lote
+        List<UserStory> historias = userStoryRepository.findAllById(new ArrayList<>(chaves.keySet()));
+        historias.forEach(h -> h.setJiraIssueKey(chaves.get(h.getId())));
+        historias.stream()
+                .map(h -> h.getProjeto().getId())
+                .distinct()
+                .forEach(cacheLeituraService::invalidarProjeto);
+    }
+
+    /**
+     * Página de histórias do projeto já enviadas ao Jira ({@code sincronizadas}) ou ainda
+     * pendentes, com o mesmo cursor por keyset da listagem de histórias.
+     */
+    @Transactional(readOnly = true)
+    public PaginaDTO<UserStoryDTO> listarPaginaPorSincronizacao(Long projetoId, boolean sincronizadas,
+                                                                String cursor, int limite) {
+        int tamanho = UserStoryService.tamanhoPagina(limite);
+        Long aposId = UserStoryService.decodificarCursor(cursor);
+        PageRequest pagina = PageRequest.of(0, tamanho + 1);
+
+        List<HistoriaResumo> resumos = sincronizadas
+                ? userStoryRepository.findPaginaSincronizadas(projetoId, aposId, pagina)
+                : userStoryRepository.findPaginaNaoSincronizadas(projetoId, aposId, pagina);
+        return UserStoryService.montarPagina(resumos, tamanho);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<SincronizacaoJiraDTO> contarSincronizacao(Long projetoId) {
+        return userStoryRepository.findSincronizacaoResumo(projetoId)
+                .map(resumo -> SincronizacaoJiraDTO.builder()
+                        .projetoId(resumo.projetoId())
+                        .total(resumo.total())
+                        .sincronizadas(resumo.sincronizadas())
+                        .pendentes(resumo.total() - resumo.sincronizadas())
+                        .build());
     }
 }
@@ -0,0 +1,306 @@
+package com.growup.service;
+
+import com.growup.dto.JiraSyncJobDTO;
+import com.growup.dto.JiraSyncResultDTO;
+import com.growup.model.JiraSyncJob;
+import com.growup.model.JiraSyncJobItem;
+import com.growup.repository.JiraSyncJobItemRepository;
+import com.growup.repository.JiraSyncJobRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Sincronizações com o Jira executadas em segundo plano. O estado de cada job e de
+ * cada história fica no banco, de modo que um job interrompido (restart, queda do
+ * nó) é retomado a partir das histórias ainda pendentes.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JiraSyncJobService {
+
+    private final JiraSyncJobRepository jobRepository;
+    private final JiraSyncJobItemRepository itemRepository;
+    private final JiraService jiraService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${jira.jobs.threads:2}")
+    private int threads;
+
+    @Value("${jira.jobs.fila:100}")
+    private int capacidadeFila;
+
+    @Value("${jira.jobs.tamanho-bloco:200}")
+    private int tamanhoBloco;
+
+    @Value("${jira.jobs.expiracao-segundos:300}")
+    private long expiracaoSegundos;
+
+    @Value("${jira.jobs.max-tentativas:3}")
+    private int maxTentativas;
+
+    private final String executorId = ProcessingJobWorker.gerarExecutorId();
+    private final Set<Long> agendados = ConcurrentHashMap.newKeySet();
+    private final Set<Long> emAndamento = ConcurrentHashMap.newKeySet();
+    private ThreadPoolTaskExecutor executor;
+
+    @PostConstruct
+    void iniciarExecutor() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(capacidadeFila);
+        executor.setThreadNamePrefix("jira-sync-");
+        executor.initialize();
+    }
+
+    @PreDestroy
+    void encerrarExecutor() {
+        executor.shutdown();
+    }
+
+    public JiraSyncJobDTO criarJob(List<Long> historiaIds, String jiraProjectKey) {
+        List<Long> ids = historiaIds.stream().distinct().toList();
+
+        JiraSyncJob job = transactionTemplate.execute(status -> {
+            JiraSyncJob novo = jobRepository.save(JiraSyncJob.builder()
+                    .jiraProjectKey(jiraProjectKey)
+                    .status(JiraSyncJob.Status.PENDENTE)
+                    .total(ids.size())
+                    .tentativas(0)
+                    .build());
+
+            itemRepository.saveAll(ids.stream()
+                    .map(id -> JiraSyncJobItem.builder()
+                            .jobId(novo.getId())
+                            .historiaId(id)
+                            .status(JiraSyncJobItem.Status.PENDENTE)
+                            .build())
+                    .toList());
+            return novo;
+        });
+
+        log.info("Job de sincronização {} criado com {} histórias", job.getId(), ids.size());
+        agendar(job.getId());
+        return converterParaDTO(job, false);
+    }
+
+    public Optional<JiraSyncJobDTO> buscarJob(Long jobId) {
+        return jobRepository.findById(jobId).map(job -> converterParaDTO(job, true));
+    }
+
+    /**
+     * Retoma jobs pendentes, inclusive os que estavam em andamento em um nó que parou
+     * de enviar heartbeat há mais de {@code jira.jobs.expiracao-segundos}. Um job que
+     * já foi reivindicado {@code jira.jobs.max-tentativas} vezes termina em FALHA.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${jira.jobs.intervalo-retomada-ms:30000}",
+               initialDelayString = "${jira.jobs.intervalo-retomada-ms:30000}")
+    public void retomarJobs() {
+        LocalDateTime agora = LocalDateTime.now();
+        LocalDateTime limite = agora.minusSeconds(expiracaoSegundos);
+        Integer falhos = transactionTemplate.execute(status -> jobRepository.falharExpirados(
+                JiraSyncJob.Status.EM_ANDAMENTO, JiraSyncJob.Status.FALHA, limite, maxTentativas, agora));
+        if (falhos != null && falhos > 0) {
+            log.error("{} jobs de sincronização falharam definitivamente após {} tentativas", falhos, maxTentativas);
+        }
+        Integer liberados = transactionTemplate.execute(status -> jobRepository.liberarExpirados(
+                JiraSyncJob.Status.EM_ANDAMENTO, JiraSyncJob.Status.PENDENTE, limite, maxTentativas));
+        if (liberados != null && liberados > 0) {
+            log.warn("{} jobs de sincronização interrompidos serão retomados", liberados);
+        }
+
+        jobRepository.findIdsByStatus(JiraSyncJob.Status.PENDENTE).forEach(this::agendar);
+    }
+
+    /**
+     * Mantém a posse dos jobs em andamento enquanto as chamadas ao Jira de um bloco
+     * (com novas tentativas e pausas de {@code Retry-After}) ainda não terminaram.
+     */
+    @Scheduled(fixedDelayString = "${jira.jobs.heartbeat-ms:30000}")
+    public void enviarHeartbeat() {
+        if (!emAndamento.isEmpty()) {
+            transactionTemplate.execute(status -> jobRepository.registrarHeartbeat(
+                    Set.copyOf(emAndamento), executorId, JiraSyncJob.Status.EM_ANDAMENTO, LocalDateTime.now()));
+        }
+    }
+
+    private void agendar(Long jobId) {
+        if (!agendados.add(jobId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> processar(jobId));
+        } catch (TaskRejectedException e) {
+            // Fica PENDENTE no banco e é reagendado pela próxima retomada
+            agendados.remove(jobId);
+            log.warn("Fila de sincronização cheia; job {} aguardará a próxima retomada", jobId);
+        }
+    }
+
+    void processar(Long jobId) {
+        try {
+            Integer reivindicado = transactionTemplate.execute(status -> jobRepository.reivindicar(
+                    jobId, executorId, JiraSyncJob.Status.PENDENTE, JiraSyncJob.Status.EM_ANDAMENTO,
+                    LocalDateTime.now()));
+            if (reivindicado == null || reivindicado == 0) {
+                return; // outro nó já assumiu o job
+            }
+            emAndamento.add(jobId);
+
+            JiraSyncJob job = jobRepository.findById(jobId).orElseThrow();
+            log.info("Processando job de sincronização {} (tentativa {})", jobId, job.getTentativas());
+
+            try {
+                sincronizarPendentes(job);
+                if (finalizar(jobId, JiraSyncJob.Status.CONCLUIDO)) {
+                    log.info("Job de sincronização {} concluído", jobId);
+                }
+            } catch (PosseJobPerdidaException e) {
+                log.warn("Job de sincronização {} foi liberado por expiração e assumido por outro nó; "
+                        + "processamento interrompido", jobId);
+            } catch (Exception e) {
+                log.error("Erro ao processar job de sincronização {} (tentativa {})", jobId, job.getTentativas(), e);
+                registrarFalha(job);
+            }
+        } catch (Exception e) {
+            // Não reivindicado ou sem conexão: a próxima retomada tenta de novo
+            log.error("Erro ao reivindicar job de sincronização {}", jobId, e);
+        } finally {
+            emAndamento.remove(jobId);
+            agendados.remove(jobId);
+        }
+    }
+
+    /**
+     * Cada gravação de resultados começa renovando o heartbeat condicionado à posse: se
+     * o job foi liberado para outro nó, a transação é desfeita e o processamento para.
+     */
+    private void sincronizarPendentes(JiraSyncJob job) {
+        Long jobId = job.getId();
+        List<Long> pendentes;
+        while (!(pendentes = buscarPendentes(jobId)).isEmpty()) {
+            List<JiraSyncResultDTO> resultados = jiraService.sincronizarHistoriasEmParalelo(
+                    pendentes, job.getJiraProjectKey(), lote -> {
+                        garantirPosse(jobId);
+                        registrarResultados(jobId, lote);
+                    });
+
+            List<JiraSyncResultDTO> falhas = resultados.stream()
+                    .filter(r -> !r.getSucesso())
+                    .toList();
+            transactionTemplate.executeWithoutResult(status -> {
+                garantirPosse(jobId);
+                registrarResultados(jobId, falhas);
+            });
+        }
+    }
+
+    private void garantirPosse(Long jobId) {
+        if (jobRepository.registrarHeartbeat(List.of(jobId), executorId, JiraSyncJob.Status.EM_ANDAMENTO,
+                LocalDateTime.now()) == 0) {
+            throw new PosseJobPerdidaException(jobId);
+        }
+    }
+
+    /**
+     * Um erro que se repete a cada tentativa (não uma falha por história, que fica no
+     * item) encerra o job em FALHA após {@code jira.jobs.max-tentativas}; antes disso, o
+     * job volta para a fila e é retomado na próxima varredura.
+     */
+    private void registrarFalha(JiraSyncJob job) {
+        if (job.getTentativas() >= maxTentativas) {
+            if (finalizar(job.getId(), JiraSyncJob.Status.FALHA)) {
+                log.error("Job de sincronização {} falhou definitivamente após {} tentativas",
+                        job.getId(), job.getTentativas());
+            }
+        } else {
+            transactionTemplate.execute(status -> jobRepository.finalizar(job.getId(), executorId,
+                    JiraSyncJob.Status.EM_ANDAMENTO, JiraSyncJob.Status.PENDENTE, null, LocalDateTime.now()));
+        }
+    }
+
+    private boolean finalizar(Long jobId, JiraSyncJob.Status status) {
+        LocalDateTime agora = LocalDateTime.now();
+        Integer atualizados = transactionTemplate.execute(tx -> jobRepository.finalizar(
+                jobId, executorId, JiraSyncJob.Status.EM_ANDAMENTO, status, agora, agora));
+        return atualizados != null && atualizados > 0;
+    }
+
+    private List<Long> buscarPendentes(Long jobId) {
+        return itemRepository.findHistoriaIds(jobId, JiraSyncJobItem.Status.PENDENTE, PageRequest.of(0, tamanhoBloco));
+    }
+
+    private void registrarResultados(Long jobId, List<JiraSyncResultDTO> resultados) {
+        if (resultados.isEmpty()) {
+            return;
+        }
+
+        Map<Long, JiraSyncResultDTO> porHistoria = resultados.stream()
+                .collect(Collectors.toMap(JiraSyncResultDTO::getHistoriaId, Function.identity()));
+
+        itemRepository.findByJobIdAndHistoriaIdIn(jobId, porHistoria.keySet()).forEach(item -> {
+            JiraSyncResultDTO resultado = porHistoria.get(item.getHistoriaId());
+            item.setStatus(resultado.getSucesso() ? JiraSyncJobItem.Status.SUCESSO : JiraSyncJobItem.Status.FALHA);
+            item.setJiraIssueKey(resultado.getJiraIssueKey());
+            item.setErro(resultado.getErro());
+        });
+    }
+
+    private JiraSyncJobDTO converterParaDTO(JiraSyncJob job, boolean incluirResultados) {
+        Map<JiraSyncJobItem.Status, Long> contagem = itemRepository.contarPorStatus(job.getId()).stream()
+                .collect(Collectors.toMap(linha -> (JiraSyncJobItem.Status) linha[0], linha -> (Long) linha[1]));
+
+        JiraSyncJobDTO.JiraSyncJobDTOBuilder dto = JiraSyncJobDTO.builder()
+                .id(job.getId())
+                .jiraProjectKey(job.getJiraProjectKey())
+                .status(job.getStatus().toString())
+                .total(job.getTotal())
+                .concluidas(contagem.getOrDefault(JiraSyncJobItem.Status.SUCESSO, 0L))
+                .falhas(contagem.getOrDefault(JiraSyncJobItem.Status.FALHA, 0L))
+                .pendentes(contagem.getOrDefault(JiraSyncJobItem.Status.PENDENTE, 0L))
+                .criadoEm(job.getCriadoEm())
+                .concluidoEm(job.getConcluidoEm());
+
+        if (incluirResultados) {
+            dto.resultados(itemRepository.findByJobIdOrderById(job.getId()).stream()
+                    .filter(item -> item.getStatus() != JiraSyncJobItem.Status.PENDENTE)
+                    .map(item -> JiraSyncResultDTO.builder()
+                            .historiaId(item.getHistoriaId())
+                            .sucesso(item.getStatus() == JiraSyncJobItem.Status.SUCESSO)
+                            .jiraIssueKey(item.getJiraIssueKey())
+                            .erro(item.getErro())
+                            .build())
+                    .toList());
+        }
+
+        return dto.build();
+    }
+
+    static class PosseJobPerdidaException extends RuntimeException {
+        PosseJobPerdidaException(Long jobId) {
+            super("Job de sincronização " + jobId + " não pertence mais a este nó");
+        }
+    }
+}
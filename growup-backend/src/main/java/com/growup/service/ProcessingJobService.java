@@ -0,0 +1,188 @@
+package com.growup.service;
+
+import com.growup.dto.ProcessamentoDTO;
+import com.growup.dto.UploadDocumentoRequest;
+import com.growup.model.ProcessingJob;
+import com.growup.model.Projeto;
+import com.growup.model.UserStory;
+import com.growup.repository.ProcessingJobRepository;
+import com.growup.repository.ProjetoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Fila durável de processamento de documentos, compartilhada por todos os nós através
+ * da tabela {@code processing_jobs}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProcessingJobService {
+
+    private final ProcessingJobRepository processingJobRepository;
+    private final UserStoryService userStoryService;
+    private final ProjetoRepository projetoRepository;
+
+    @Value("${processamento.lease-segundos:60}")
+    private long leaseSegundos;
+
+    @Value("${processamento.max-tentativas:3}")
+    private int maxTentativas;
+
+    @Transactional
+    public ProcessamentoDTO enfileirarDocumento(UploadDocumentoRequest request) {
+        Projeto projeto = userStoryService.criarProjeto(request);
+
+        ProcessingJob job = processingJobRepository.save(ProcessingJob.builder()
+                .tipo(ProcessingJob.Tipo.PROCESSAR_DOCUMENTO)
+                .status(ProcessingJob.Status.PENDENTE)
+                .projetoId(projeto.getId())
+                .payload(request.getConteudoDocumento())
+                .tentativas(0)
+                .build());
+
+        log.info("Documento do projeto {} enfileirado no job {}", projeto.getId(), job.getId());
+        return converterParaDTO(job);
+    }
+
+    /**
+     * Enfileira a purga do projeto. Se já houver uma purga pendente ou em andamento, ela é
+     * reaproveitada. Retorna vazio se o projeto não existir.
+     */
+    @Transactional
+    public Optional<ProcessamentoDTO> enfileirarPurga(Long projetoId) {
+        if (!projetoRepository.existsById(projetoId)) {
+            return Optional.empty();
+        }
+
+        List<ProcessingJob.Status> ativos = List.of(ProcessingJob.Status.PENDENTE, ProcessingJob.Status.EM_PROCESSAMENTO);
+        Optional<ProcessingJob> existente = processingJobRepository
+                .findFirstByProjetoIdAndTipoAndStatusIn(projetoId, ProcessingJob.Tipo.PURGAR_PROJETO, ativos);
+        ProcessingJob job = existente.orElseGet(() -> processingJobRepository.save(ProcessingJob.builder()
+                .tipo(ProcessingJob.Tipo.PURGAR_PROJETO)
+                .status(ProcessingJob.Status.PENDENTE)
+                .projetoId(projetoId)
+                .tentativas(0)
+                .build()));
+
+        log.info("Purga do projeto {} enfileirada no job {}", projetoId, job.getId());
+        return Optional.of(converterParaDTO(job));
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<ProcessamentoDTO> buscar(Long jobId) {
+        return processingJobRepository.findById(jobId).map(this::converterParaDTO);
+    }
+
+    /**
+     * Reivindica até {@code limite} jobs para o nó {@code executor}, concedendo a cada um
+     * um lease que precisa ser renovado por heartbeat. Um lease expirado conta como
+     * tentativa: o job que já esgotou {@code processamento.max-tentativas} (por exemplo,
+     * um documento que derruba o nó sempre que é processado) é finalizado como FALHA em
+     * vez de voltar a ser reivindicado.
+     */
+    @Transactional
+    public List<ProcessingJob> reivindicar(String executor, int limite) {
+        LocalDateTime agora = LocalDateTime.now();
+        List<ProcessingJob> jobs = new ArrayList<>(processingJobRepository.travarDisponiveis(agora, limite));
+
+        jobs.removeIf(job -> {
+            if (job.getStatus() != ProcessingJob.Status.EM_PROCESSAMENTO) {
+                return false;
+            }
+            if (job.getTentativas() >= maxTentativas) {
+                log.error("Lease do job {} expirou no nó {} na tentativa {}; job finalizado como FALHA",
+                        job.getId(), job.getExecutor(), job.getTentativas());
+                job.setStatus(ProcessingJob.Status.FALHA);
+                job.setErro("Lease expirou após " + job.getTentativas() + " tentativas");
+                job.setConcluidoEm(agora);
+                job.setExecutor(null);
+                job.setLeaseExpiraEm(null);
+                return true;
+            }
+            log.warn("Lease do job {} expirou no nó {}; reivindicado por {}", job.getId(), job.getExecutor(), executor);
+            return false;
+        });
+
+        jobs.forEach(job -> {
+            job.setStatus(ProcessingJob.Status.EM_PROCESSAMENTO);
+            job.setExecutor(executor);
+            job.setTentativas(job.getTentativas() + 1);
+            job.setHeartbeatEm(agora);
+            job.setLeaseExpiraEm(agora.plusSeconds(leaseSegundos));
+        });
+
+        return jobs;
+    }
+
+    @Transactional
+    public int renovarLeases(Collection<Long> jobIds, String executor) {
+        LocalDateTime agora = LocalDateTime.now();
+        return processingJobRepository.renovarLease(jobIds, executor, ProcessingJob.Status.EM_PROCESSAMENTO,
+                agora, agora.plusSeconds(leaseSegundos));
+    }
+
+    /**
+     * Grava as histórias e conclui o job na mesma transação. Se o lease tiver sido
+     * perdido para outro nó, nada é gravado, evitando histórias duplicadas.
+     *
+     * @return {@code false} se o job não pertence mais a este nó
+     */
+    @Transactional
+    public boolean concluirComHistorias(ProcessingJob job, String executor, List<UserStory> historias) {
+        int atualizados = processingJobRepository.finalizar(job.getId(), executor,
+                ProcessingJob.Status.EM_PROCESSAMENTO, ProcessingJob.Status.CONCLUIDO, null, LocalDateTime.now());
+        if (atualizados == 0) {
+            return false;
+        }
+
+        userStoryService.salvarHistorias(job.getProjetoId(), historias);
+        return true;
+    }
+
+    /**
+     * Conclui um job que não produz histórias.
+     *
+     * @return {@code false} se o job não pertence mais a este nó
+     */
+    @Transactional
+    public boolean concluir(ProcessingJob job, String executor) {
+        return processingJobRepository.finalizar(job.getId(), executor, ProcessingJob.Status.EM_PROCESSAMENTO,
+                ProcessingJob.Status.CONCLUIDO, null, LocalDateTime.now()) > 0;
+    }
+
+    @Transactional
+    public void registrarFalha(ProcessingJob job, String executor, String erro) {
+        LocalDateTime agora = LocalDateTime.now();
+        if (job.getTentativas() >= maxTentativas) {
+            processingJobRepository.finalizar(job.getId(), executor, ProcessingJob.Status.EM_PROCESSAMENTO,
+                    ProcessingJob.Status.FALHA, erro, agora);
+            log.error("Job {} falhou definitivamente após {} tentativas", job.getId(), job.getTentativas());
+        } else {
+            processingJobRepository.devolverParaFila(job.getId(), executor, ProcessingJob.Status.EM_PROCESSAMENTO,
+                    ProcessingJob.Status.PENDENTE, erro, agora);
+        }
+    }
+
+    private ProcessamentoDTO converterParaDTO(ProcessingJob job) {
+        return ProcessamentoDTO.builder()
+                .jobId(job.getId())
+                .tipo(job.getTipo().toString())
+                .projetoId(job.getProjetoId())
+                .status(job.getStatus().toString())
+                .tentativas(job.getTentativas())
+                .erro(job.getErro())
+                .criadoEm(job.getCriadoEm())
+                .concluidoEm(job.getConcluidoEm())
+                .build();
+    }
+}
@@ -0,0 +1,132 @@
+package com.growup.service;
+
+import com.growup.model.ProcessingJob;
+import com.growup.model.Projeto;
+import com.growup.model.UserStory;
+import com.growup.repository.ProjetoRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pool de workers de cada nó. Reivindica jobs da tabela {@code processing_jobs} apenas
+ * quando há threads livres e mantém o lease dos jobs em execução com heartbeats; se o
+ * nó cair, o lease expira e outro nó assume o job.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProcessingJobWorker {
+
+    private final ProcessingJobService processingJobService;
+    private final UserStoryService userStoryService;
+    private final ProjetoRepository projetoRepository;
+    private final PurgaProjetoService purgaProjetoService;
+
+    @Value("${processamento.workers.threads:4}")
+    private int threads;
+
+    @Value("${processamento.workers.habilitado:true}")
+    private boolean habilitado;
+
+    private final String executorId = gerarExecutorId();
+    private final Set<Long> emExecucao = ConcurrentHashMap.newKeySet();
+    private ThreadPoolTaskExecutor executor;
+
+    @PostConstruct
+    void iniciarExecutor() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(threads);
+        executor.setThreadNamePrefix("processamento-");
+        executor.initialize();
+        log.info("Worker de processamento {} iniciado com {} threads", executorId, threads);
+    }
+
+    @PreDestroy
+    void encerrarExecutor() {
+        executor.shutdown();
+    }
+
+    @Scheduled(fixedDelayString = "${processamento.workers.intervalo-ms:1000}")
+    public void buscarJobs() {
+        int livres = threads - emExecucao.size();
+        if (!habilitado || livres <= 0) {
+            return;
+        }
+
+        List<ProcessingJob> jobs = processingJobService.reivindicar(executorId, livres);
+        for (ProcessingJob job : jobs) {
+            emExecucao.add(job.getId());
+            executor.execute(() -> processar(job));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${processamento.heartbeat-ms:15000}")
+    public void enviarHeartbeat() {
+        if (!emExecucao.isEmpty()) {
+            processingJobService.renovarLeases(Set.copyOf(emExecucao), executorId);
+        }
+    }
+
+    private void processar(ProcessingJob job) {
+        log.info("Processando job {} (tentativa {})", job.getId(), job.getTentativas());
+
+        try {
+            switch (job.getTipo()) {
+                case PROCESSAR_DOCUMENTO -> processarDocumento(job);
+                case PURGAR_PROJETO -> purgarProjeto(job);
+            }
+        } catch (Exception e) {
+            log.error("Erro ao processar job {}", job.getId(), e);
+            processingJobService.registrarFalha(job, executorId, e.getMessage());
+        } finally {
+            emExecucao.remove(job.getId());
+        }
+    }
+
+    private void processarDocumento(ProcessingJob job) {
+        Projeto projeto = projetoRepository.findById(job.getProjetoId())
+                .orElseThrow(() -> new RuntimeException("Projeto não encontrado"));
+
+        // A chamada à IA acontece fora de transação; só a gravação final é transacional
+        List<UserStory> historias = userStoryService.gerarHistorias(job.getPayload(), projeto.getContextoAdicional());
+
+        if (processingJobService.concluirComHistorias(job, executorId, historias)) {
+            log.info("Job {} concluído com {} histórias", job.getId(), historias.size());
+        } else {
+            log.warn("Job {} foi reivindicado por outro nó; resultado descartado", job.getId());
+        }
+    }
+
+    private void purgarProjeto(ProcessingJob job) {
+        // Cada lote é confirmado separadamente; os heartbeats mantêm o lease enquanto durar
+        purgaProjetoService.purgar(job.getProjetoId());
+
+        if (processingJobService.concluir(job, executorId)) {
+            log.info("Job {} concluído: projeto {} purgado", job.getId(), job.getProjetoId());
+        }
+    }
+
+    static String gerarExecutorId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "desconhecido";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
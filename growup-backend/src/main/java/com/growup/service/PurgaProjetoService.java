@@ -0,0 +1,68 @@
+package com.growup.service;
+
+import com.growup.repository.ProjetoRepository;
+import com.growup.repository.SprintRepository;
+import com.growup.repository.UserStoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.IntSupplier;
+
+/**
+ * Remove um projeto e todo o seu conteúdo em lotes, cada um em uma transação curta,
+ * para que a limpeza de projetos grandes não mantenha milhares de linhas travadas nem
+ * concorra com as requisições dos demais usuários. É idempotente: se o nó cair no meio,
+ * a próxima execução continua de onde parou.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PurgaProjetoService {
+
+    private final ProjetoRepository projetoRepository;
+    private final SprintRepository sprintRepository;
+    private final UserStoryRepository userStoryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheLeituraService cacheLeituraService;
+
+    @Value("${processamento.purga.tamanho-lote:500}")
+    private int tamanhoLote;
+
+    @Value("${processamento.purga.pausa-ms:0}")
+    private long pausaEntreLotes;
+
+    public void purgar(Long projetoId) {
+        long removidas = 0;
+        int lote;
+        do {
+            lote = executar(() -> userStoryRepository.excluirLotePorProjeto(projetoId, tamanhoLote));
+            removidas += lote;
+            pausar();
+        } while (lote > 0);
+
+        int sprints = executar(() -> sprintRepository.excluirPorProjeto(projetoId));
+        executar(() -> projetoRepository.excluir(projetoId));
+        cacheLeituraService.invalidarProjeto(projetoId);
+        log.info("Projeto {} purgado: {} histórias e {} sprints removidas", projetoId, removidas, sprints);
+    }
+
+    private int executar(IntSupplier comando) {
+        Integer afetadas = transactionTemplate.execute(status -> comando.getAsInt());
+        return afetadas != null ? afetadas : 0;
+    }
+
+    private void pausar() {
+        if (pausaEntreLotes <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pausaEntreLotes);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Purga interrompida", e);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.growup.service;
+
+import com.growup.dto.RoadmapDTO;
+import com.growup.dto.SprintRoadmapDTO;
+import com.growup.dto.UserStoryDTO;
+import com.growup.repository.ProjetoRepository;
+import com.growup.repository.SprintRepository;
+import com.growup.repository.UserStoryRepository;
+import com.growup.repository.projecao.HistoriaResumo;
+import com.growup.repository.projecao.ProjetoResumo;
+import com.growup.repository.projecao.SprintResumo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Monta o roadmap de um projeto (sprints, histórias alocadas e backlog) com um número
+ * fixo de consultas: projeto, sprints com contagem e histórias do projeto, todas por
+ * projeção, independentemente de quantas sprints existam.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RoadmapService {
+
+    private final ProjetoRepository projetoRepository;
+    private final SprintRepository sprintRepository;
+    private final UserStoryRepository userStoryRepository;
+
+    @Transactional(readOnly = true)
+    public Optional<RoadmapDTO> montarRoadmap(Long projetoId) {
+        Optional<ProjetoResumo> projeto = projetoRepository.findResumoById(projetoId);
+        if (projeto.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<SprintResumo> sprints = sprintRepository.findResumosByProjetoId(projetoId);
+        List<HistoriaResumo> historias = userStoryRepository.findResumosByProjetoId(projetoId);
+
+        Map<Long, List<UserStoryDTO>> porSprint = new HashMap<>();
+        List<UserStoryDTO> backlog = new ArrayList<>();
+        for (HistoriaResumo historia : historias) {
+            UserStoryDTO dto = converterParaDTO(historia);
+            if (historia.sprintId() == null) {
+                backlog.add(dto);
+            } else {
+                porSprint.computeIfAbsent(historia.sprintId(), id -> new ArrayList<>()).add(dto);
+            }
+        }
+
+        List<SprintRoadmapDTO> sprintsDTO = sprints.stream()
+                .map(s -> SprintRoadmapDTO.builder()
+                        .id(s.id())
+                        .titulo(s.titulo())
+                        .periodo(s.periodo())
+                        .totalHistorias((int) s.totalHistorias())
+                        .historias(porSprint.getOrDefault(s.id(), List.of()))
+                        .build())
+                .toList();
+
+        return Optional.of(RoadmapDTO.builder()
+                .projetoId(projeto.get().id())
+                .nome(projeto.get().nome())
+                .descricao(projeto.get().descricao())
+                .totalHistorias(historias.size())
+                .sprints(sprintsDTO)
+                .backlog(backlog)
+                .build());
+    }
+
+    private UserStoryDTO converterParaDTO(HistoriaResumo historia) {
+        return UserStoryDTO.builder()
+                .id(historia.id())
+                .papel(historia.papel())
+                .acao(historia.acao())
+                .beneficio(historia.beneficio())
+                .prioridade(historia.prioridade().toString())
+                .estimativa(historia.estimativa())
+                .sprintId(historia.sprintId())
+                .jiraIssueKey(historia.jiraIssueKey())
+                .build();
+    }
+}
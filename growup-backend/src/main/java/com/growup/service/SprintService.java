@@ -1,5 +1,7 @@
 package com.growup.service;
 
+import com.growup.dto.AlocacaoEmLoteDTO;
+import com.growup.dto.SprintDTO;
 import com.growup.model.Sprint;
 import com.growup.model.UserStory;
 import com.growup.repository.SprintRepository;
@@ -9,7 +11,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -18,11 +22,16 @@ public class SprintService {
 
     private final SprintRepository sprintRepository;
     private final UserStoryRepository userStoryRepository;
+    private final CacheLeituraService cacheLeituraService;
+
+    private static final int TAMANHO_BLOCO_IDS = 1000;
 
     @Transactional
     public Sprint criarSprint(Sprint sprint) {
         log.info("Criando sprint: {}", sprint.getTitulo());
-        return sprintRepository.save(sprint);
+        Sprint salva = sprintRepository.save(sprint);
+        cacheLeituraService.invalidarProjeto(salva.getProjeto() != null ? salva.getProjeto().getId() : null);
+        return salva;
     }
 
     @Transactional(readOnly = true)
@@ -30,6 +39,18 @@ public class SprintService {
         return sprintRepository.findByProjetoId(projetoId);
     }
 
+    @Transactional(readOnly = true)
+    public List<SprintDTO> listarResumosPorProjeto(Long projetoId) {
+        return cacheLeituraService.sprintsDoProjeto(projetoId, () -> sprintRepository.findResumosByProjetoId(projetoId).stream()
+                .map(s -> SprintDTO.builder()
+                        .id(s.id())
+                        .titulo(s.titulo())
+                        .periodo(s.periodo())
+                        .totalHistorias((int) s.totalHistorias())
+                        .build())
+                .toList());
+    }
+
     @Transactional
     public void alocarHistoriaEmSprint(Long historiaId, Long sprintId) {
         UserStory historia = userStoryRepository.findById(historiaId)
@@ -40,10 +61,54 @@ public class SprintService {
 
         historia.setSprint(sprint);
         userStoryRepository.save(historia);
+        cacheLeituraService.invalidarProjeto(historia.getProjeto().getId());
 
         log.info("História {} alocada na sprint {}", historiaId, sprintId);
     }
 
+    /**
+     * Aloca as histórias na sprint com UPDATEs set-based, um por bloco de até
+     * {@value #TAMANHO_BLOCO_IDS} ids, sem carregar entidades. Histórias de outros
+     * projetos são ignoradas. Retorna vazio se a sprint não existir.
+     */
+    @Transactional
+    public Optional<AlocacaoEmLoteDTO> alocarHistoriasEmLote(Long sprintId, List<Long> historiaIds) {
+        return atualizarEmLote(sprintId, historiaIds, userStoryRepository::alocarEmSprint);
+    }
+
+    @Transactional
+    public Optional<AlocacaoEmLoteDTO> desalocarHistoriasEmLote(Long sprintId, List<Long> historiaIds) {
+        return atualizarEmLote(sprintId, historiaIds, userStoryRepository::desalocarDeSprint);
+    }
+
+    private Optional<AlocacaoEmLoteDTO> atualizarEmLote(Long sprintId, List<Long> historiaIds, AtualizacaoEmLote atualizacao) {
+        List<Long> ids = historiaIds == null ? List.of() : historiaIds.stream().distinct().toList();
+        LocalDateTime agora = LocalDateTime.now();
+
+        int atualizadas = 0;
+        for (int inicio = 0; inicio < ids.size(); inicio += TAMANHO_BLOCO_IDS) {
+            List<Long> bloco = ids.subList(inicio, Math.min(inicio + TAMANHO_BLOCO_IDS, ids.size()));
+            atualizadas += atualizacao.executar(sprintId, bloco, agora);
+        }
+
+        // Só consulta a sprint quando nada mudou, para distinguir sprint inexistente
+        if (atualizadas == 0 && !sprintRepository.existsById(sprintId)) {
+            return Optional.empty();
+        }
+        if (atualizadas > 0) {
+            // A sprint costuma vir do cache de segundo nível, sem ida ao banco
+            sprintRepository.findById(sprintId)
+                    .ifPresent(sprint -> cacheLeituraService.invalidarProjeto(sprint.getProjeto().getId()));
+        }
+
+        log.info("{} de {} histórias atualizadas na sprint {}", atualizadas, ids.size(), sprintId);
+        return Optional.of(AlocacaoEmLoteDTO.builder()
+                .sprintId(sprintId)
+                .solicitadas(ids.size())
+                .atualizadas(atualizadas)
+                .build());
+    }
+
     @Transactional
     public void desalocarHistoriaDeSprint(Long historiaId) {
         UserStory historia = userStoryRepository.findById(historiaId)
@@ -51,19 +116,29 @@ public class SprintService {
 
         historia.setSprint(null);
         userStoryRepository.save(historia);
+        cacheLeituraService.invalidarProjeto(historia.getProjeto().getId());
 
         log.info("História {} desalocada da sprint", historiaId);
     }
 
+    /**
+     * Remove a sprint com dois comandos set-based (desalocar as histórias e excluir a
+     * sprint), sem carregar as histórias, qualquer que seja a quantidade.
+     */
     @Transactional
     public void deletarSprint(Long sprintId) {
         Sprint sprint = sprintRepository.findById(sprintId)
                 .orElseThrow(() -> new RuntimeException("Sprint não encontrada"));
+        Long projetoId = sprint.getProjeto().getId();
 
-        // Desalocar todas as histórias
-        sprint.getHistorias().forEach(h -> h.setSprint(null));
+        int desalocadas = userStoryRepository.desalocarTodasDaSprint(sprintId, LocalDateTime.now());
+        sprintRepository.excluir(sprintId);
+        cacheLeituraService.invalidarProjeto(projetoId);
+        log.info("Sprint {} deletada ({} histórias desalocadas)", sprintId, desalocadas);
+    }
 
-        sprintRepository.delete(sprint);
-        log.info("Sprint {} deletada", sprintId);
+    @FunctionalInterface
+    private interface AtualizacaoEmLote {
+        int executar(Long sprintId, List<Long> ids, LocalDateTime agora);
     }
 }
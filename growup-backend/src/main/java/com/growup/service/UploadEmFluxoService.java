@@ -0,0 +1,54 @@
+package com.growup.service;
+
+import com.growup.dto.UploadDocumentoRequest;
+import com.growup.model.Projeto;
+import com.growup.model.UserStory;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Executa os uploads com resposta em streaming fora da thread da requisição, em um pool
+ * próprio e limitado; quando a fila enche, novas requisições são recusadas.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UploadEmFluxoService {
+
+    private final UserStoryService userStoryService;
+
+    @Value("${upload.stream.threads:8}")
+    private int threads;
+
+    @Value("${upload.stream.fila:100}")
+    private int capacidadeFila;
+
+    private ThreadPoolTaskExecutor executor;
+
+    @PostConstruct
+    void iniciarExecutor() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(capacidadeFila);
+        executor.setThreadNamePrefix("upload-stream-");
+        executor.initialize();
+    }
+
+    @PreDestroy
+    void encerrarExecutor() {
+        executor.shutdown();
+    }
+
+    public CompletableFuture<Projeto> processar(UploadDocumentoRequest request, Consumer<UserStory> aoSalvar) {
+        return CompletableFuture.supplyAsync(() -> userStoryService.processarDocumentoEmFluxo(request, aoSalvar), executor);
+    }
+}
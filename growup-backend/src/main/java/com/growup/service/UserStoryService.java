@@ -1,19 +1,33 @@
 package com.growup.service;
 
+import com.growup.dto.PaginaDTO;
 import com.growup.dto.UserStoryDTO;
 import com.growup.dto.UploadDocumentoRequest;
 import com.growup.model.Projeto;
 import com.growup.model.UserStory;
 import com.growup.repository.ProjetoRepository;
 import com.growup.repository.UserStoryRepository;
+import com.growup.repository.projecao.HistoriaResumo;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -22,63 +36,224 @@ public class UserStoryService {
 
     private final UserStoryRepository userStoryRepository;
     private final ProjetoRepository projetoRepository;
-    private final AIService aiService;
+    private final GeracaoHistoriasService geracaoHistoriasService;
+    private final ExtratorTextoDocumento extratorTextoDocumento;
+    private final CacheLeituraService cacheLeituraService;
+    private final PurgaProjetoService purgaProjetoService;
+    private final MeterRegistry meterRegistry;
+
+    static final String METRICA_HISTORIAS_GERADAS = "growup.historias.geradas";
+    static final int LIMITE_MAXIMO_PAGINA = 1000;
+    private static final String PREFIXO_CURSOR = "h1:";
+
+    @Value("${upload.documento.tamanho-bloco:32000}")
+    private int tamanhoBloco;
 
     @Transactional
     public Projeto processarDocumento(UploadDocumentoRequest request) {
         log.info("Processando documento para projeto: {}", request.getNomeProjeto());
 
-        // Criar novo projeto
-        Projeto projeto = Projeto.builder()
-                .nome(request.getNomeProjeto())
-                .contextoAdicional(request.getContextoAdicional())
-                .descricao("Projeto criado a partir de documento")
-                .build();
-
-        projeto = projetoRepository.save(projeto);
-        log.info("Projeto criado com ID: {}", projeto.getId());
+        Projeto projeto = criarProjeto(request);
 
         // Gerar histórias usando IA
         List<UserStory> historias = gerarHistoriasComIA(
                 request.getConteudoDocumento(),
                 request.getContextoAdicional(),
+                Boolean.TRUE.equals(request.getIgnorarCache()),
                 projeto
         );
 
+        log.info("Total de histórias geradas: {}", historias.size());
+        // O projeto já foi gravado em criarProjeto e as histórias apontam para ele. As
+        // inseridas em lote saem do contexto; na entidade gerenciada, o cascade da coleção
+        // tentaria persisti-las de novo no commit, então a resposta usa uma cópia.
+        return Projeto.builder()
+                .id(projeto.getId())
+                .nome(projeto.getNome())
+                .descricao(projeto.getDescricao())
+                .contextoAdicional(projeto.getContextoAdicional())
+                .jiraProjectKey(projeto.getJiraProjectKey())
+                .criadoEm(projeto.getCriadoEm())
+                .atualizadoEm(projeto.getAtualizadoEm())
+                .historias(historias)
+                .build();
+    }
+
+    /**
+     * Variante de {@link #processarDocumento} para streaming: as histórias de cada seção
+     * são salvas e entregues a {@code aoSalvar} assim que geradas, sem esperar o restante
+     * do documento. Não é transacional, para que cada lote fique visível ao ser entregue.
+     */
+    public Projeto processarDocumentoEmFluxo(UploadDocumentoRequest request, Consumer<UserStory> aoSalvar) {
+        log.info("Processando documento em fluxo para projeto: {}", request.getNomeProjeto());
+
+        Projeto projeto = criarProjeto(request);
+        List<UserStory> historias;
+        try {
+            historias = gerarESalvar(projeto, request.getContextoAdicional(),
+                    Boolean.TRUE.equals(request.getIgnorarCache()),
+                    geracao -> geracao.adicionar(request.getConteudoDocumento()), aoSalvar);
+        } catch (IOException e) {
+            // O conteúdo já está em memória; nenhuma leitura é feita
+            throw new UncheckedIOException(e);
+        }
+
         projeto.setHistorias(historias);
-        projeto = projetoRepository.save(projeto);
+        log.info("Total de histórias geradas: {}", historias.size());
+        return projeto;
+    }
+
+    /**
+     * Processa um documento já gravado em disco sem carregá-lo inteiro em memória: o
+     * texto é extraído em blocos de até {@code upload.documento.tamanho-bloco}
+     * caracteres e as histórias de cada bloco são geradas e salvas antes da leitura
+     * do próximo. Todos os blocos passam pela mesma redução e o fallback é aplicado uma
+     * única vez, se nenhum bloco gerar histórias. Um documento corrompido é recusado com
+     * {@link ExtratorTextoDocumento.DocumentoInvalidoException}, sem fallback; se a falha
+     * só aparecer durante a extração, o projeto criado é removido.
+     */
+    public Projeto processarArquivo(Path arquivo, ExtratorTextoDocumento.Formato formato,
+                                    String nomeProjeto, String contextoAdicional) throws IOException {
+        log.info("Processando arquivo para projeto: {}", nomeProjeto);
+        extratorTextoDocumento.validar(arquivo, formato);
 
+        Projeto projeto = criarProjeto(UploadDocumentoRequest.builder()
+                .nomeProjeto(nomeProjeto)
+                .contextoAdicional(contextoAdicional)
+                .build());
+
+        List<UserStory> historias;
+        try {
+            historias = gerarESalvar(projeto, contextoAdicional, false,
+                    geracao -> extratorTextoDocumento.extrair(arquivo, formato, tamanhoBloco, geracao::adicionar),
+                    historia -> { });
+        } catch (ExtratorTextoDocumento.DocumentoInvalidoException | IOException e) {
+            // Histórias de blocos anteriores à falha já podem ter sido salvas
+            purgaProjetoService.purgar(projeto.getId());
+            throw e;
+        }
+
+        projeto.setHistorias(historias);
         log.info("Total de histórias geradas: {}", historias.size());
         return projeto;
     }
 
-    private List<UserStory> gerarHistoriasComIA(String conteudo, String contexto, Projeto projeto) {
+    /**
+     * Gera as histórias das partes entregues por {@code fonte}, salvando e entregando a
+     * {@code aoSalvar} as novas de cada seção assim que geradas. Se a IA falhar antes de
+     * qualquer história ser salva, grava as histórias simuladas.
+     */
+    private List<UserStory> gerarESalvar(Projeto projeto, String contexto, boolean ignorarCache,
+                                         FonteDocumento fonte, Consumer<UserStory> aoSalvar) throws IOException {
+        Map<Long, Entregue> entregues = new HashMap<>();
+        Consumer<List<UserStory>> salvarEEntregar = novas -> {
+            novas.forEach(h -> h.setProjeto(projeto));
+            List<UserStory> salvas = userStoryRepository.inserirEmLote(novas);
+            cacheLeituraService.invalidarProjeto(projeto.getId());
+            for (UserStory historia : salvas) {
+                entregues.put(historia.getId(), Entregue.de(historia));
+                aoSalvar.accept(historia);
+            }
+        };
+
+        List<UserStory> historias;
+        try {
+            GeracaoHistoriasService.Geracao geracao = geracaoHistoriasService.iniciar(contexto, ignorarCache, salvarEEntregar);
+            fonte.ler(geracao);
+            historias = contarGeradas(geracao.concluir(), "ia");
+        } catch (ExtratorTextoDocumento.DocumentoInvalidoException e) {
+            // Erro do documento, não da IA: as histórias simuladas não se aplicam
+            throw e;
+        } catch (RuntimeException e) {
+            if (!entregues.isEmpty()) {
+                throw e;
+            }
+            log.error("Erro ao gerar histórias com IA", e);
+            historias = contarGeradas(gerarHistoriasSimuladas(), "fallback");
+            salvarEEntregar.accept(historias);
+        }
+
+        // A redução pode ter elevado a prioridade ou trocado os campos de histórias já entregues
+        List<UserStory> alteradas = historias.stream()
+                .filter(h -> !Entregue.de(h).equals(entregues.get(h.getId())))
+                .toList();
+        if (!alteradas.isEmpty()) {
+            userStoryRepository.saveAll(alteradas);
+            cacheLeituraService.invalidarProjeto(projeto.getId());
+        }
+        return historias;
+    }
+
+    @FunctionalInterface
+    private interface FonteDocumento {
+        void ler(GeracaoHistoriasService.Geracao geracao) throws IOException;
+    }
+
+    /** Campos de uma história no momento em que foi salva e entregue. */
+    private record Entregue(String papel, String acao, String beneficio,
+                            UserStory.Prioridade prioridade, String estimativa) {
+        static Entregue de(UserStory historia) {
+            return new Entregue(historia.getPapel(), historia.getAcao(), historia.getBeneficio(),
+                    historia.getPrioridade(), historia.getEstimativa());
+        }
+    }
+
+    @Transactional
+    public Projeto criarProjeto(UploadDocumentoRequest request) {
+        Projeto projeto = Projeto.builder()
+                .nome(request.getNomeProjeto())
+                .contextoAdicional(request.getContextoAdicional())
+                .descricao("Projeto criado a partir de documento")
+                .build();
+
+        projeto = projetoRepository.save(projeto);
+        log.info("Projeto criado com ID: {}", projeto.getId());
+        return projeto;
+    }
+
+    /**
+     * Gera as histórias do documento sem persisti-las, para que a chamada à IA não
+     * precise ocorrer dentro de uma transação.
+     */
+    public List<UserStory> gerarHistorias(String conteudo, String contexto) {
+        return gerarHistorias(conteudo, contexto, false);
+    }
+
+    public List<UserStory> gerarHistorias(String conteudo, String contexto, boolean ignorarCache) {
         try {
-            String prompt = construirPrompt(conteudo, contexto);
-            List<UserStory> historias = aiService.gerarHistorias(prompt);
-            
-            // Associar histórias ao projeto
-            historias.forEach(h -> h.setProjeto(projeto));
-            
-            return userStoryRepository.saveAll(historias);
+            return contarGeradas(geracaoHistoriasService.gerar(conteudo, contexto, ignorarCache), "ia");
         } catch (Exception e) {
             log.error("Erro ao gerar histórias com IA", e);
-            return gerarHistoriasSimuladas(projeto);
+            return contarGeradas(gerarHistoriasSimuladas(), "fallback");
         }
     }
 
-    private String construirPrompt(String conteudo, String contexto) {
-        return String.format(
-                "Analise o seguinte documento e gere histórias de usuário no formato: " +
-                "papel|ação|benefício|prioridade|estimativa\n\n" +
-                "Contexto adicional: %s\n\n" +
-                "Documento:\n%s\n\n" +
-                "Gere pelo menos 3 histórias de usuário bem estruturadas.",
-                contexto, conteudo
-        );
+    private List<UserStory> contarGeradas(List<UserStory> historias, String origem) {
+        meterRegistry.counter(METRICA_HISTORIAS_GERADAS, "origem", origem).increment(historias.size());
+        return historias;
     }
 
-    private List<UserStory> gerarHistoriasSimuladas(Projeto projeto) {
+    @Transactional
+    public List<UserStory> salvarHistorias(Long projetoId, List<UserStory> historias) {
+        Projeto projeto = projetoRepository.getReferenceById(projetoId);
+        historias.forEach(h -> h.setProjeto(projeto));
+        List<UserStory> salvas = userStoryRepository.inserirEmLote(historias);
+        cacheLeituraService.invalidarProjeto(projetoId);
+        return salvas;
+    }
+
+    private List<UserStory> gerarHistoriasComIA(String conteudo, String contexto, boolean ignorarCache, Projeto projeto) {
+        List<UserStory> historias = gerarHistorias(conteudo, contexto, ignorarCache);
+
+        // Associar histórias ao projeto
+        historias.forEach(h -> h.setProjeto(projeto));
+
+        List<UserStory> salvas = userStoryRepository.inserirEmLote(historias);
+        cacheLeituraService.invalidarProjeto(projeto.getId());
+        return salvas;
+    }
+
+    private List<UserStory> gerarHistoriasSimuladas() {
         log.warn("Gerando histórias simuladas (fallback)");
         List<UserStory> historias = new ArrayList<>();
 
@@ -88,7 +263,6 @@ public class UserStoryService {
                 .beneficio("acessar minhas funcionalidades")
                 .prioridade(UserStory.Prioridade.ALTA)
                 .estimativa("4 tarefas")
-                .projeto(projeto)
                 .build());
 
         historias.add(UserStory.builder()
@@ -97,7 +271,6 @@ public class UserStoryService {
                 .beneficio("tomar decisões estratégicas")
                 .prioridade(UserStory.Prioridade.ALTA)
                 .estimativa("6 tarefas")
-                .projeto(projeto)
                 .build());
 
         historias.add(UserStory.builder()
@@ -106,28 +279,57 @@ public class UserStoryService {
                 .beneficio("garantir a segurança")
                 .prioridade(UserStory.Prioridade.MEDIA)
                 .estimativa("3 tarefas")
-                .projeto(projeto)
                 .build());
 
-        return userStoryRepository.saveAll(historias);
+        return historias;
     }
 
+    /**
+     * Lista completa das histórias do projeto, servida do cache de leitura; as escritas
+     * deste serviço, de {@link SprintService} e de {@link JiraService} invalidam a entrada.
+     */
     @Transactional(readOnly = true)
     public List<UserStoryDTO> listarHistoriasPorProjeto(Long projetoId) {
-        return userStoryRepository.findByProjetoId(projetoId)
+        return cacheLeituraService.historiasDoProjeto(projetoId, () -> userStoryRepository.findResumosByProjetoId(projetoId)
                 .stream()
-                .map(this::converterParaDTO)
-                .collect(Collectors.toList());
+                .map(UserStoryService::converterParaDTO)
+                .toList());
     }
 
     @Transactional(readOnly = true)
     public List<UserStoryDTO> listarHistoriasNaoAlocadas(Long projetoId) {
-        return userStoryRepository.findByProjetoIdAndSprintIsNull(projetoId)
+        return userStoryRepository.findResumosNaoAlocadosByProjetoId(projetoId)
                 .stream()
-                .map(this::converterParaDTO)
+                .map(UserStoryService::converterParaDTO)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Página de até {@code limite} histórias com id maior que o do cursor, em ordem de id.
+     * O cursor devolvido é opaco para o cliente e só deve ser repassado na próxima chamada.
+     */
+    @Transactional(readOnly = true)
+    public PaginaDTO<UserStoryDTO> listarPaginaHistorias(Long projetoId, boolean apenasNaoAlocadas,
+                                                         String cursor, int limite) {
+        int tamanho = tamanhoPagina(limite);
+        // Um registro a mais indica se existe próxima página sem precisar de COUNT
+        List<HistoriaResumo> resumos = userStoryRepository.findPaginaResumos(
+                projetoId, decodificarCursor(cursor), apenasNaoAlocadas, PageRequest.of(0, tamanho + 1));
+        return montarPagina(resumos, tamanho);
+    }
+
+    /**
+     * Percorre as histórias do projeto em ordem de id lendo do banco em lotes (fetch
+     * size), sem montar a lista inteira: cada história é entregue a {@code aoLer} e
+     * descartada em seguida.
+     */
+    @Transactional(readOnly = true)
+    public void percorrerHistorias(Long projetoId, boolean apenasNaoAlocadas, Consumer<UserStoryDTO> aoLer) {
+        try (Stream<HistoriaResumo> resumos = userStoryRepository.streamResumos(projetoId, apenasNaoAlocadas)) {
+            resumos.map(UserStoryService::converterParaDTO).forEach(aoLer);
+        }
+    }
+
     @Transactional
     public UserStoryDTO atualizarHistoria(Long id, UserStoryDTO dto) {
         UserStory historia = userStoryRepository.findById(id)
@@ -140,12 +342,16 @@ public class UserStoryService {
         historia.setEstimativa(dto.getEstimativa());
 
         historia = userStoryRepository.save(historia);
+        cacheLeituraService.invalidarProjeto(historia.getProjeto().getId());
         return converterParaDTO(historia);
     }
 
     @Transactional
     public void deletarHistoria(Long id) {
-        userStoryRepository.deleteById(id);
+        userStoryRepository.findById(id).ifPresent(historia -> {
+            userStoryRepository.delete(historia);
+            cacheLeituraService.invalidarProjeto(historia.getProjeto().getId());
+        });
     }
 
     @Transactional
@@ -156,11 +362,66 @@ public class UserStoryService {
         // Sprint será carregado pelo Hibernate
         historia.setSprint(null); // Será setado pelo controller/service de sprint
         historia = userStoryRepository.save(historia);
+        cacheLeituraService.invalidarProjeto(historia.getProjeto().getId());
 
         return converterParaDTO(historia);
     }
 
-    private UserStoryDTO converterParaDTO(UserStory historia) {
+    static int tamanhoPagina(int limite) {
+        return Math.max(1, Math.min(limite, LIMITE_MAXIMO_PAGINA));
+    }
+
+    /**
+     * Monta a página a partir de uma consulta feita com {@code tamanho + 1} registros: o
+     * excedente só indica que existe próxima página e não é devolvido.
+     */
+    static PaginaDTO<UserStoryDTO> montarPagina(List<HistoriaResumo> resumos, int tamanho) {
+        boolean temProxima = resumos.size() > tamanho;
+        List<UserStoryDTO> itens = resumos.stream()
+                .limit(tamanho)
+                .map(UserStoryService::converterParaDTO)
+                .collect(Collectors.toList());
+
+        return PaginaDTO.<UserStoryDTO>builder()
+                .itens(itens)
+                .next(temProxima ? codificarCursor(itens.get(itens.size() - 1).getId()) : null)
+                .build();
+    }
+
+    static String codificarCursor(Long ultimoId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIXO_CURSOR + ultimoId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static Long decodificarCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!valor.startsWith(PREFIXO_CURSOR)) {
+                throw new IllegalArgumentException("Cursor inválido");
+            }
+            return Long.parseLong(valor.substring(PREFIXO_CURSOR.length()));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor inválido", e);
+        }
+    }
+
+    static UserStoryDTO converterParaDTO(HistoriaResumo historia) {
+        return UserStoryDTO.builder()
+                .id(historia.id())
+                .papel(historia.papel())
+                .acao(historia.acao())
+                .beneficio(historia.beneficio())
+                .prioridade(historia.prioridade().toString())
+                .estimativa(historia.estimativa())
+                .sprintId(historia.sprintId())
+                .jiraIssueKey(historia.jiraIssueKey())
+                .build();
+    }
+
+    static UserStoryDTO converterParaDTO(UserStory historia) {
         return UserStoryDTO.builder()
                 .id(historia.getId())
                 .papel(historia.getPapel())
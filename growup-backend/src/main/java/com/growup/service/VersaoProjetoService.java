@@ -0,0 +1,45 @@
+package com.growup.service;
+
+import com.growup.repository.ProjetoRepository;
+import com.growup.repository.projecao.VersaoProjeto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+/**
+ * Calcula o ETag das listagens de um projeto a partir de uma única consulta agregada,
+ * para que os GETs condicionais respondam {@code 304} sem ler histórias nem sprints.
+ */
+@Service
+@RequiredArgsConstructor
+public class VersaoProjetoService {
+
+    private final ProjetoRepository projetoRepository;
+
+    /**
+     * ETag (sem aspas) do conteúdo atual do projeto, ou vazio se o projeto não existir.
+     * Deve ser calculado antes de montar a resposta: se houver uma escrita entre as duas
+     * leituras, o cliente recebe dados mais novos que o ETag e apenas baixa de novo.
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> calcularEtag(Long projetoId) {
+        return projetoRepository.findVersaoById(projetoId).map(VersaoProjetoService::formatar);
+    }
+
+    static String formatar(VersaoProjeto versao) {
+        return "p" + versao.projetoId() + "-" + micros(versao.projetoAtualizadoEm())
+                + "-h" + versao.historias() + "-" + micros(versao.historiasAtualizadasEm())
+                + "-s" + versao.sprints() + "-" + micros(versao.sprintsAtualizadasEm());
+    }
+
+    private static long micros(LocalDateTime data) {
+        if (data == null) {
+            return 0;
+        }
+        return data.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + data.getNano() / 1_000;
+    }
+}
@@ -0,0 +1,45 @@
+-- Tabelas dos jobs de processamento, da sincronização com o Jira e do cache de IA.
+-- Ficam fora da V1 para serem criadas também nos bancos que receberam baseline nela.
+
+CREATE TABLE processing_jobs (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    tipo             VARCHAR(255) NOT NULL,
+    status           VARCHAR(255) NOT NULL,
+    projeto_id       BIGINT       NOT NULL,
+    payload          TEXT,
+    attempts         INTEGER      NOT NULL,
+    locked_by        VARCHAR(255),
+    lease_expires_at TIMESTAMP(6),
+    heartbeat_at     TIMESTAMP(6),
+    error            TEXT,
+    created_at       TIMESTAMP(6),
+    updated_at       TIMESTAMP(6),
+    finished_at      TIMESTAMP(6)
+);
+
+CREATE TABLE jira_sync_jobs (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    jira_project_key VARCHAR(255) NOT NULL,
+    status           VARCHAR(255) NOT NULL,
+    total            INTEGER      NOT NULL,
+    created_at       TIMESTAMP(6),
+    updated_at       TIMESTAMP(6),
+    finished_at      TIMESTAMP(6)
+);
+
+CREATE TABLE jira_sync_job_itens (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    job_id         BIGINT       NOT NULL,
+    historia_id    BIGINT       NOT NULL,
+    status         VARCHAR(255) NOT NULL,
+    jira_issue_key VARCHAR(255),
+    erro           TEXT,
+    updated_at     TIMESTAMP(6)
+);
+
+CREATE TABLE ai_cache_entries (
+    chave      VARCHAR(64) PRIMARY KEY,
+    resposta   TEXT         NOT NULL,
+    created_at TIMESTAMP(6),
+    expires_at TIMESTAMP(6) NOT NULL
+);
@@ -0,0 +1,39 @@
+-- Schema equivalente ao gerado pelo Hibernate (ddl-auto=update) antes das migrações.
+-- Em bancos já existentes esta versão é marcada como baseline e não é executada; por
+-- isso só contém as tabelas daquela época. Tabelas novas vão nas versões seguintes.
+
+CREATE TABLE projetos (
+    id                 BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nome               VARCHAR(255) NOT NULL,
+    descricao          TEXT,
+    contexto_adicional TEXT,
+    jira_project_key   VARCHAR(255),
+    created_at         TIMESTAMP(6),
+    updated_at         TIMESTAMP(6)
+);
+
+CREATE TABLE sprints (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    titulo     VARCHAR(255) NOT NULL,
+    periodo    VARCHAR(255) NOT NULL,
+    projeto_id BIGINT       NOT NULL,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    CONSTRAINT fk_sprints_projeto FOREIGN KEY (projeto_id) REFERENCES projetos (id)
+);
+
+CREATE TABLE user_stories (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    papel          VARCHAR(255) NOT NULL,
+    acao           VARCHAR(255) NOT NULL,
+    beneficio      VARCHAR(255) NOT NULL,
+    prioridade     VARCHAR(255) NOT NULL,
+    estimativa     VARCHAR(255) NOT NULL,
+    projeto_id     BIGINT,
+    sprint_id      BIGINT,
+    jira_issue_key VARCHAR(255),
+    created_at     TIMESTAMP(6),
+    updated_at     TIMESTAMP(6),
+    CONSTRAINT fk_user_stories_projeto FOREIGN KEY (projeto_id) REFERENCES projetos (id),
+    CONSTRAINT fk_user_stories_sprint FOREIGN KEY (sprint_id) REFERENCES sprints (id)
+);
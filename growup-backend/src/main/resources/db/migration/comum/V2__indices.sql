@@ -0,0 +1,29 @@
+-- Índices para os filtros usados pelos repositórios. O PostgreSQL não indexa chaves
+-- estrangeiras automaticamente, então projeto_id e sprint_id precisam ser explícitos.
+
+-- findByProjetoId, sprints por projeto, exclusão das sprints na purga
+CREATE INDEX idx_sprints_projeto ON sprints (projeto_id);
+
+-- Listagens por projeto em ordem de id: paginação por keyset, streaming e purga em lotes
+CREATE INDEX idx_user_stories_projeto ON user_stories (projeto_id, id);
+
+-- findByProjetoIdAndSprintIsNull e demais listagens de histórias não alocadas
+CREATE INDEX idx_user_stories_projeto_sprint ON user_stories (projeto_id, sprint_id);
+
+-- findBySprintId, contagem de histórias por sprint e desalocação
+CREATE INDEX idx_user_stories_sprint ON user_stories (sprint_id);
+
+-- Reivindicação de jobs pendentes ou com lease expirado
+CREATE INDEX idx_processing_jobs_status ON processing_jobs (status, lease_expires_at);
+
+-- Job de purga ativo do projeto
+CREATE INDEX idx_processing_jobs_projeto ON processing_jobs (projeto_id, tipo);
+
+-- Retomada de jobs de sincronização e liberação dos expirados
+CREATE INDEX idx_jira_sync_jobs_status ON jira_sync_jobs (status, updated_at);
+
+-- Itens e contagens por job
+CREATE INDEX idx_jira_sync_job_itens_job ON jira_sync_job_itens (job_id, status);
+
+-- Limpeza periódica do cache de IA
+CREATE INDEX idx_ai_cache_entries_expires ON ai_cache_entries (expires_at);
@@ -0,0 +1,7 @@
+-- Versão do projeto para GETs condicionais (ProjetoRepository.findVersaoById): com
+-- updated_at no índice, o MAX por projeto é lido na ponta do índice, sem ir à tabela.
+CREATE INDEX idx_user_stories_projeto_atualizacao ON user_stories (projeto_id, updated_at);
+
+-- Substitui idx_sprints_projeto: o prefixo projeto_id continua atendendo às mesmas consultas
+CREATE INDEX idx_sprints_projeto_atualizacao ON sprints (projeto_id, updated_at);
+DROP INDEX idx_sprints_projeto;
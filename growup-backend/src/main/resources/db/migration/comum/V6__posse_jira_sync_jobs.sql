@@ -0,0 +1,5 @@
+-- Nó que detém o job de sincronização e número de reivindicações: heartbeat e mudanças
+-- de status só valem para o dono, e um job que falha sempre termina em FALHA.
+ALTER TABLE jira_sync_jobs ADD COLUMN locked_by VARCHAR(255);
+
+ALTER TABLE jira_sync_jobs ADD COLUMN attempts INTEGER DEFAULT 0 NOT NULL;
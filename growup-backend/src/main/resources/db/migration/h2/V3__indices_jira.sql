@@ -0,0 +1,2 @@
+-- O H2 não tem índices parciais; estes substituem os do PostgreSQL nos testes.
+CREATE INDEX idx_user_stories_jira ON user_stories (projeto_id, jira_issue_key);
@@ -0,0 +1,6 @@
+-- Equivalente às sequências do PostgreSQL; o H2 dos testes sempre começa vazio.
+CREATE SEQUENCE projetos_seq START WITH 1 INCREMENT BY 50;
+
+CREATE SEQUENCE sprints_seq START WITH 1 INCREMENT BY 50;
+
+CREATE SEQUENCE user_stories_seq START WITH 1 INCREMENT BY 50;
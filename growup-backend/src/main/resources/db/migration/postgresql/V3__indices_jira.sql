@@ -0,0 +1,8 @@
+-- Índices parciais por status de sincronização com o Jira: cada um cobre só as linhas
+-- do seu filtro e atende às páginas por keyset (projeto_id, id) e às contagens.
+-- IF NOT EXISTS: bancos anteriores às migrações já podem tê-los (schema-postgresql.sql).
+CREATE INDEX IF NOT EXISTS idx_user_stories_jira_sincronizadas
+    ON user_stories (projeto_id, id) WHERE jira_issue_key IS NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_user_stories_jira_pendentes
+    ON user_stories (projeto_id, id) WHERE jira_issue_key IS NULL;
@@ -0,0 +1,12 @@
+-- Sequências com pool para projetos, sprints e histórias: o Hibernate reserva 50 ids
+-- por chamada (allocationSize) e passa a agrupar os INSERTs em lotes JDBC.
+-- Com o otimizador pooled, o valor lido é o topo do bloco; por isso cada sequência
+-- começa 50 acima do maior id existente.
+CREATE SEQUENCE IF NOT EXISTS projetos_seq INCREMENT BY 50;
+SELECT setval('projetos_seq', COALESCE((SELECT MAX(id) FROM projetos), 0) + 50, false);
+
+CREATE SEQUENCE IF NOT EXISTS sprints_seq INCREMENT BY 50;
+SELECT setval('sprints_seq', COALESCE((SELECT MAX(id) FROM sprints), 0) + 50, false);
+
+CREATE SEQUENCE IF NOT EXISTS user_stories_seq INCREMENT BY 50;
+SELECT setval('user_stories_seq', COALESCE((SELECT MAX(id) FROM user_stories), 0) + 50, false);
@@ -0,0 +1,380 @@
+package com.growup.benchmark;
+
+import com.growup.model.Sprint;
+import com.growup.repository.ProjetoRepository;
+import com.growup.repository.SprintRepository;
+import com.growup.repository.UserStoryRepository;
+import com.growup.service.CacheLeituraService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Mede cada consulta do {@code UserStoryRepository} e do {@code SprintRepository} e cada
+ * endpoint GET por projeto em bases de 1 mil, 100 mil e 1 milhão de histórias, geradas
+ * pelo {@link GeradorMassa}. Os níveis são cumulativos e, a partir de 10 mil, crescem em
+ * número de projetos: o projeto medido mantém o tamanho, então uma consulta que varre a
+ * tabela inteira aparece como crescimento. O número de sprints por projeto também muda
+ * a cada nível, para que cargas por sprint (N+1) mudem o número de comandos SQL. Falha
+ * se o tempo crescer mais que {@code escala.limite} vezes o esperado entre dois níveis,
+ * se o número de comandos aumentar ou se passar de {@code escala.max-comandos}. Roda
+ * apenas com {@code -Pbenchmark}; o relatório vai para {@code target/benchmark/escala.md}.
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "processamento.workers.habilitado=false",
+        "logging.level.com.growup=WARN"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(EscalaBenchmarkTest.Configuracao.class)
+class EscalaBenchmarkTest {
+
+    private static final int HISTORIAS_POR_PROJETO = 10_000;
+    /** Sprints por projeto no primeiro nível; cada nível seguinte soma o mesmo tanto. */
+    private static final int SPRINTS_POR_NIVEL = 10;
+    private static final int REPETICOES = 3;
+    /** Consultas muito rápidas variam alguns ms por ruído; a folga evita falso positivo. */
+    private static final double FOLGA_MS = 2;
+
+    private static final List<Integer> NIVEIS = Arrays.stream(System.getProperty("escala.niveis",
+                    "1000,100000,1000000").split(","))
+            .map(String::strip)
+            .map(Integer::valueOf)
+            .toList();
+    private static final double LIMITE = Double.parseDouble(System.getProperty("escala.limite", "3"));
+    /** Consulta principal mais as cargas de projeto e sprint de tamanho fixo. */
+    private static final int MAX_COMANDOS = Integer.getInteger("escala.max-comandos", 4);
+
+    @DynamicPropertySource
+    static void configurarBanco(DynamicPropertyRegistry registry) {
+        // Por padrão H2 em memória; -Descala.banco.url aponta para um PostgreSQL local (massa via COPY)
+        String banco = System.getProperty("escala.banco.url");
+        registry.add("spring.datasource.url", () -> banco != null ? banco : "jdbc:h2:mem:escala");
+        if (banco != null) {
+            registry.add("spring.datasource.driverClassName", () -> "org.postgresql.Driver");
+            registry.add("spring.datasource.username", () -> System.getProperty("escala.banco.usuario", "postgres"));
+            registry.add("spring.datasource.password", () -> System.getProperty("escala.banco.senha", "postgres"));
+            registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        }
+    }
+
+    @TestConfiguration
+    static class Configuracao {
+        @Bean
+        static MedidorJdbc medidorJdbc() {
+            return new MedidorJdbc();
+        }
+    }
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private DataSource dataSource;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private UserStoryRepository userStoryRepository;
+    @Autowired private SprintRepository sprintRepository;
+    @Autowired private ProjetoRepository projetoRepository;
+    @Autowired private CacheLeituraService cacheLeituraService;
+
+    private final Map<String, Medida> medidas = new LinkedHashMap<>();
+
+    /** Como o trabalho de cada medida deve crescer entre os níveis. */
+    private enum Crescimento {
+        /** Proporcional ao número de histórias do projeto medido. */
+        PROJETO,
+        /** Independente do tamanho da base (páginas e lotes de tamanho fixo). */
+        CONSTANTE
+    }
+
+    @FunctionalInterface
+    private interface Chamada {
+        void executar() throws Exception;
+    }
+
+    private record Medida(Crescimento crescimento, Chamada chamada) {
+    }
+
+    private record Nivel(int historias, int historiasPorProjeto, int sprintsPorProjeto, long geracaoMs) {
+    }
+
+    private record Resultado(double tempoMs, long comandos) {
+    }
+
+    private record Alvo(GeradorMassa.ProjetoGerado projeto, GeradorMassa.ProjetoGerado semHistorias,
+                        Long sprintVazia, List<Long> historiaIds, Long historiaDoMeio) {
+    }
+
+    @Test
+    void consultasEEndpointsCrescemLinearmente() throws Exception {
+        GeradorMassa gerador = new GeradorMassa(dataSource);
+        List<Nivel> niveis = new ArrayList<>();
+        Map<String, List<Resultado>> resultados = new LinkedHashMap<>();
+        int total = 0;
+
+        for (int historias : NIVEIS) {
+            int porProjeto = Math.min(historias, HISTORIAS_POR_PROJETO);
+            int novos = (historias - total + porProjeto - 1) / porProjeto;
+            int sprints = SPRINTS_POR_NIVEL * (niveis.size() + 1);
+            assertTrue(novos > 0, "Os níveis de escala devem ser crescentes: " + NIVEIS);
+
+            long inicio = System.nanoTime();
+            List<GeradorMassa.ProjetoGerado> gerados = gerador.gerar(novos, sprints, porProjeto);
+            long geracaoMs = (System.nanoTime() - inicio) / 1_000_000;
+            total += novos * porProjeto;
+            // Projeto novo a cada nível: mesmo tamanho (a partir de 10 mil), mais sprints
+            GeradorMassa.ProjetoGerado projeto = gerados.get(0);
+            // Atualiza as estatísticas usadas pelo otimizador (H2 e PostgreSQL)
+            jdbcTemplate.execute("ANALYZE");
+
+            registrarMedidas(prepararAlvo(gerador, projeto, sprints));
+            for (Map.Entry<String, Medida> medida : medidas.entrySet()) {
+                resultados.computeIfAbsent(medida.getKey(), nome -> new ArrayList<>()).add(medir(medida.getValue()));
+            }
+            niveis.add(new Nivel(total, porProjeto, sprints, geracaoMs));
+        }
+
+        Set<String> naoCobertas = Stream.of(UserStoryRepository.class, SprintRepository.class)
+                .flatMap(r -> Arrays.stream(r.getDeclaredMethods())
+                        .filter(m -> !m.isSynthetic())
+                        .map(m -> r.getSimpleName() + "." + m.getName()))
+                .filter(nome -> !medidas.containsKey(nome))
+                .collect(Collectors.toCollection(TreeSet::new));
+        assertTrue(naoCobertas.isEmpty(), "Consultas sem medição de escala: " + naoCobertas);
+
+        List<String> alertas = verificarCrescimento(niveis, resultados);
+        String relatorio = relatorio(niveis, resultados, alertas);
+        Path arquivo = Path.of("target", "benchmark", "escala.md");
+        Files.createDirectories(arquivo.getParent());
+        Files.writeString(arquivo, relatorio);
+        log.info("Relatório gravado em {}", arquivo.toAbsolutePath());
+
+        assertTrue(alertas.isEmpty(), "Alertas de escala:\n" + String.join("\n", alertas));
+    }
+
+    /**
+     * Sprint vazia e projeto sem histórias (só com sprints) para as exclusões, que rodam
+     * com rollback; ids do projeto medido para as alocações e as páginas a partir do meio.
+     */
+    private Alvo prepararAlvo(GeradorMassa gerador, GeradorMassa.ProjetoGerado projeto, int sprints) {
+        GeradorMassa.ProjetoGerado semHistorias = gerador.gerar(1, sprints, 0).get(0);
+        Long sprintVazia = sprintRepository.save(Sprint.builder()
+                .titulo("Vazia")
+                .periodo("01/01 - 07/01")
+                .projeto(projetoRepository.findById(projeto.id()).orElseThrow())
+                .build()).getId();
+        List<Long> historiaIds = jdbcTemplate.queryForList(
+                "SELECT id FROM user_stories WHERE projeto_id = ? AND sprint_id IS NULL ORDER BY id LIMIT 100",
+                Long.class, projeto.id());
+        Long historiaDoMeio = jdbcTemplate.queryForObject(
+                "SELECT (MIN(id) + MAX(id)) / 2 FROM user_stories WHERE projeto_id = ?", Long.class, projeto.id());
+        return new Alvo(projeto, semHistorias, sprintVazia, historiaIds, historiaDoMeio);
+    }
+
+    private void registrarMedidas(Alvo a) {
+        Long projetoId = a.projeto().id();
+        Long sprintId = a.projeto().sprintIds().get(0);
+        LocalDateTime agora = LocalDateTime.now();
+        PageRequest pagina = PageRequest.of(0, 101);
+        medidas.clear();
+
+        consulta(UserStoryRepository.class, "findByProjetoId", Crescimento.PROJETO,
+                () -> userStoryRepository.findByProjetoId(projetoId));
+        consulta(UserStoryRepository.class, "findBySprintId", Crescimento.PROJETO,
+                () -> userStoryRepository.findBySprintId(sprintId));
+        consulta(UserStoryRepository.class, "findByProjetoIdAndSprintIsNull", Crescimento.PROJETO,
+                () -> userStoryRepository.findByProjetoIdAndSprintIsNull(projetoId));
+        consulta(UserStoryRepository.class, "findResumosByProjetoId", Crescimento.PROJETO,
+                () -> userStoryRepository.findResumosByProjetoId(projetoId));
+        consulta(UserStoryRepository.class, "findResumosNaoAlocadosByProjetoId", Crescimento.PROJETO,
+                () -> userStoryRepository.findResumosNaoAlocadosByProjetoId(projetoId));
+        consulta(UserStoryRepository.class, "findPaginaResumos", Crescimento.CONSTANTE,
+                () -> userStoryRepository.findPaginaResumos(projetoId, a.historiaDoMeio(), true, pagina));
+        consulta(UserStoryRepository.class, "findPaginaSincronizadas", Crescimento.CONSTANTE,
+                () -> userStoryRepository.findPaginaSincronizadas(projetoId, a.historiaDoMeio(), pagina));
+        consulta(UserStoryRepository.class, "findPaginaNaoSincronizadas", Crescimento.CONSTANTE,
+                () -> userStoryRepository.findPaginaNaoSincronizadas(projetoId, a.historiaDoMeio(), pagina));
+        consulta(UserStoryRepository.class, "findSincronizacaoResumo", Crescimento.PROJETO,
+                () -> userStoryRepository.findSincronizacaoResumo(projetoId));
+        consulta(UserStoryRepository.class, "streamResumos", Crescimento.PROJETO, () -> {
+            try (Stream<?> resumos = userStoryRepository.streamResumos(projetoId, false)) {
+                resumos.count();
+            }
+        });
+        consulta(UserStoryRepository.class, "alocarEmSprint", Crescimento.CONSTANTE,
+                () -> userStoryRepository.alocarEmSprint(sprintId, a.historiaIds(), agora));
+        consulta(UserStoryRepository.class, "desalocarDeSprint", Crescimento.CONSTANTE,
+                () -> userStoryRepository.desalocarDeSprint(sprintId, a.historiaIds(), agora));
+        consulta(UserStoryRepository.class, "desalocarTodasDaSprint", Crescimento.PROJETO,
+                () -> userStoryRepository.desalocarTodasDaSprint(sprintId, agora));
+        consulta(UserStoryRepository.class, "excluirLotePorProjeto", Crescimento.CONSTANTE,
+                () -> userStoryRepository.excluirLotePorProjeto(projetoId, 500));
+
+        consulta(SprintRepository.class, "findByProjetoId", Crescimento.CONSTANTE,
+                () -> sprintRepository.findByProjetoId(projetoId));
+        consulta(SprintRepository.class, "findResumosByProjetoId", Crescimento.PROJETO,
+                () -> sprintRepository.findResumosByProjetoId(projetoId));
+        consulta(SprintRepository.class, "excluir", Crescimento.CONSTANTE,
+                () -> sprintRepository.excluir(a.sprintVazia()));
+        consulta(SprintRepository.class, "excluirPorProjeto", Crescimento.CONSTANTE,
+                () -> sprintRepository.excluirPorProjeto(a.semHistorias().id()));
+
+        endpoint("/projetos/" + projetoId + "/historias", Crescimento.PROJETO);
+        endpoint("/projetos/" + projetoId + "/historias/nao-alocadas", Crescimento.PROJETO);
+        endpoint("/projetos/" + projetoId + "/historias/pagina", Crescimento.CONSTANTE);
+        endpoint("/projetos/" + projetoId + "/historias/nao-alocadas/pagina", Crescimento.CONSTANTE);
+        endpoint("/projetos/" + projetoId + "/historias/stream", Crescimento.PROJETO);
+        endpoint("/projetos/" + projetoId + "/historias/nao-alocadas/stream", Crescimento.PROJETO);
+        endpoint("/projetos/" + projetoId + "/roadmap", Crescimento.PROJETO);
+        endpoint("/sprints/projeto/" + projetoId, Crescimento.PROJETO);
+        endpoint("/jira/projetos/" + projetoId + "/historias?sincronizadas=true", Crescimento.CONSTANTE);
+        endpoint("/jira/projetos/" + projetoId + "/historias?sincronizadas=false", Crescimento.CONSTANTE);
+        endpoint("/jira/projetos/" + projetoId + "/sincronizacao", Crescimento.PROJETO);
+    }
+
+    /** Consultas de escrita incluídas: tudo roda em uma transação desfeita ao final. */
+    private void consulta(Class<?> repositorio, String metodo, Crescimento crescimento, Runnable chamada) {
+        medidas.put(repositorio.getSimpleName() + "." + metodo, new Medida(crescimento, () ->
+                transactionTemplate.executeWithoutResult(status -> {
+                    chamada.run();
+                    status.setRollbackOnly();
+                })));
+    }
+
+    /** Os endpoints de stream respondem de forma assíncrona e precisam do despacho final. */
+    private void endpoint(String caminho, Crescimento crescimento) {
+        medidas.put("GET " + caminho.replaceAll("/\\d+", "/{id}"), new Medida(crescimento, () -> {
+            MvcResult resultado = mockMvc.perform(get("/api" + caminho).contextPath("/api")).andReturn();
+            if (resultado.getRequest().isAsyncStarted()) {
+                resultado = mockMvc.perform(asyncDispatch(resultado)).andReturn();
+            }
+            assertEquals(200, resultado.getResponse().getStatus(), caminho);
+        }));
+    }
+
+    /**
+     * Mediana de {@value #REPETICOES} execuções após um aquecimento, sempre sem cache de
+     * leitura. Os contadores do {@link MedidorJdbc} também somam o SQL de tarefas agendadas;
+     * o menor número de comandos entre as execuções é o da chamada medida.
+     */
+    private Resultado medir(Medida medida) throws Exception {
+        cacheLeituraService.limpar();
+        medida.chamada().executar();
+
+        double[] tempos = new double[REPETICOES];
+        long comandos = Long.MAX_VALUE;
+        for (int i = 0; i < REPETICOES; i++) {
+            cacheLeituraService.limpar();
+            MedidorJdbc.zerar();
+            long inicio = System.nanoTime();
+            medida.chamada().executar();
+            tempos[i] = (System.nanoTime() - inicio) / 1_000_000.0;
+            comandos = Math.min(comandos, MedidorJdbc.medicao().comandos());
+        }
+        Arrays.sort(tempos);
+        return new Resultado(tempos[REPETICOES / 2], comandos);
+    }
+
+    /**
+     * Entre dois níveis, o tempo pode crescer na proporção do tamanho do projeto medido
+     * (ou ficar estável, para {@link Crescimento#CONSTANTE}) vezes {@link #LIMITE}, mais
+     * {@link #FOLGA_MS}. O número de comandos não pode crescer nem passar de
+     * {@link #MAX_COMANDOS}, em nenhum nível.
+     */
+    private List<String> verificarCrescimento(List<Nivel> niveis, Map<String, List<Resultado>> resultados) {
+        List<String> alertas = new ArrayList<>();
+        for (Map.Entry<String, List<Resultado>> entrada : resultados.entrySet()) {
+            Crescimento crescimento = medidas.get(entrada.getKey()).crescimento();
+            List<Resultado> porNivel = entrada.getValue();
+            for (int i = 0; i < porNivel.size(); i++) {
+                if (porNivel.get(i).comandos() > MAX_COMANDOS) {
+                    alertas.add(String.format("%s: %d comandos SQL com %d histórias e %d sprints no projeto "
+                                    + "(máximo %d)", entrada.getKey(), porNivel.get(i).comandos(),
+                            niveis.get(i).historiasPorProjeto(), niveis.get(i).sprintsPorProjeto(), MAX_COMANDOS));
+                }
+            }
+            for (int i = 1; i < porNivel.size(); i++) {
+                Resultado anterior = porNivel.get(i - 1);
+                Resultado atual = porNivel.get(i);
+                double esperado = crescimento == Crescimento.PROJETO
+                        ? (double) niveis.get(i).historiasPorProjeto() / niveis.get(i - 1).historiasPorProjeto()
+                        : 1;
+                double maximo = anterior.tempoMs() * esperado * LIMITE + FOLGA_MS;
+                if (atual.tempoMs() > maximo) {
+                    alertas.add(String.format(Locale.ROOT, "%s: %.1f ms -> %.1f ms entre %d e %d histórias "
+                                    + "(máximo %.1f ms)", entrada.getKey(), anterior.tempoMs(), atual.tempoMs(),
+                            niveis.get(i - 1).historias(), niveis.get(i).historias(), maximo));
+                }
+                if (atual.comandos() > anterior.comandos()) {
+                    alertas.add(String.format("%s: %d -> %d comandos SQL entre %d e %d histórias",
+                            entrada.getKey(), anterior.comandos(), atual.comandos(),
+                            niveis.get(i - 1).historias(), niveis.get(i).historias()));
+                }
+            }
+        }
+        return alertas;
+    }
+
+    private String relatorio(List<Nivel> niveis, Map<String, List<Resultado>> resultados, List<String> alertas) {
+        StringBuilder relatorio = new StringBuilder("| Consulta / endpoint | Crescimento |");
+        StringBuilder separador = new StringBuilder("|---|---|");
+        for (Nivel nivel : niveis) {
+            relatorio.append(String.format(" %d histórias (%d/projeto, %d sprints) |",
+                    nivel.historias(), nivel.historiasPorProjeto(), nivel.sprintsPorProjeto()));
+            separador.append("---:|");
+        }
+        relatorio.append('\n').append(separador).append('\n');
+        for (Map.Entry<String, List<Resultado>> entrada : resultados.entrySet()) {
+            relatorio.append("| `").append(entrada.getKey()).append("` | ")
+                    .append(medidas.get(entrada.getKey()).crescimento()).append(" |");
+            for (Resultado resultado : entrada.getValue()) {
+                relatorio.append(String.format(Locale.ROOT, " %.1f ms (%d SQL) |", resultado.tempoMs(), resultado.comandos()));
+            }
+            relatorio.append('\n');
+        }
+        relatorio.append("\nGeração da massa:");
+        for (Nivel nivel : niveis) {
+            relatorio.append(String.format(" %d histórias em %d ms;", nivel.historias(), nivel.geracaoMs()));
+        }
+        relatorio.append('\n');
+        if (!alertas.isEmpty()) {
+            relatorio.append("\nAlertas:\n");
+            alertas.forEach(alerta -> relatorio.append("- ").append(alerta).append('\n'));
+        }
+        return relatorio.toString();
+    }
+}
@@ -0,0 +1,228 @@
+package com.growup.benchmark;
+
+import com.growup.model.UserStory;
+import org.postgresql.PGConnection;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Gera massa de dados sintética direto por JDBC, sem passar pelo Hibernate: N projetos,
+ * cada um com M sprints e K histórias. Metade das histórias fica alocada nas sprints e
+ * uma em cada dez tem chave do Jira. No PostgreSQL as histórias vão por {@code COPY};
+ * nos demais bancos (H2 dos testes), por INSERTs em lotes. Os ids saem das mesmas
+ * sequências das entidades, em blocos de {@value #TAMANHO_BLOCO_IDS}, para não colidir
+ * com os que o Hibernate gerar depois. Só para benchmarks.
+ */
+public class GeradorMassa {
+
+    /** {@code allocationSize} das entidades: cada valor lido da sequência é o topo de um bloco. */
+    private static final int TAMANHO_BLOCO_IDS = 50;
+    private static final int TAMANHO_LOTE = 1_000;
+
+    private final DataSource dataSource;
+
+    public GeradorMassa(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    public record ProjetoGerado(Long id, List<Long> sprintIds, int historias) {
+    }
+
+    /** Cada projeto é gravado em uma transação própria. */
+    public List<ProjetoGerado> gerar(int projetos, int sprintsPorProjeto, int historiasPorProjeto) {
+        try (Connection conexao = dataSource.getConnection()) {
+            boolean postgres = "PostgreSQL".equals(conexao.getMetaData().getDatabaseProductName());
+            boolean autoCommit = conexao.getAutoCommit();
+            conexao.setAutoCommit(false);
+            try {
+                Ids idsProjetos = new Ids(conexao, "projetos_seq", postgres);
+                Ids idsSprints = new Ids(conexao, "sprints_seq", postgres);
+                Ids idsHistorias = new Ids(conexao, "user_stories_seq", postgres);
+                Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+
+                List<ProjetoGerado> gerados = new ArrayList<>(projetos);
+                for (int p = 0; p < projetos; p++) {
+                    Long projetoId = idsProjetos.proximo();
+                    inserirProjeto(conexao, projetoId, agora);
+                    List<Long> sprintIds = inserirSprints(conexao, idsSprints, projetoId, sprintsPorProjeto, agora);
+                    if (postgres) {
+                        copiarHistorias(conexao, idsHistorias, projetoId, sprintIds, historiasPorProjeto, agora);
+                    } else {
+                        inserirHistorias(conexao, idsHistorias, projetoId, sprintIds, historiasPorProjeto, agora);
+                    }
+                    conexao.commit();
+                    gerados.add(new ProjetoGerado(projetoId, sprintIds, historiasPorProjeto));
+                }
+                return gerados;
+            } catch (SQLException | IOException e) {
+                conexao.rollback();
+                throw new IllegalStateException("Erro ao gerar massa de dados", e);
+            } finally {
+                conexao.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Erro ao gerar massa de dados", e);
+        }
+    }
+
+    private void inserirProjeto(Connection conexao, Long projetoId, Timestamp agora) throws SQLException {
+        try (PreparedStatement insert = conexao.prepareStatement("INSERT INTO projetos "
+                + "(id, nome, descricao, contexto_adicional, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)")) {
+            insert.setLong(1, projetoId);
+            insert.setString(2, "Projeto " + projetoId);
+            insert.setString(3, "Descrição do projeto " + projetoId);
+            insert.setString(4, "Contexto adicional do projeto " + projetoId);
+            insert.setTimestamp(5, agora);
+            insert.setTimestamp(6, agora);
+            insert.executeUpdate();
+        }
+    }
+
+    private List<Long> inserirSprints(Connection conexao, Ids ids, Long projetoId, int sprints, Timestamp agora)
+            throws SQLException {
+        List<Long> sprintIds = new ArrayList<>(sprints);
+        try (PreparedStatement insert = conexao.prepareStatement("INSERT INTO sprints "
+                + "(id, titulo, periodo, projeto_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)")) {
+            for (int s = 1; s <= sprints; s++) {
+                Long sprintId = ids.proximo();
+                insert.setLong(1, sprintId);
+                insert.setString(2, "Semana " + s);
+                insert.setString(3, "Período " + s);
+                insert.setLong(4, projetoId);
+                insert.setTimestamp(5, agora);
+                insert.setTimestamp(6, agora);
+                insert.addBatch();
+                sprintIds.add(sprintId);
+            }
+            insert.executeBatch();
+        }
+        return sprintIds;
+    }
+
+    private void inserirHistorias(Connection conexao, Ids ids, Long projetoId, List<Long> sprintIds, int historias,
+                                  Timestamp agora) throws SQLException {
+        try (PreparedStatement insert = conexao.prepareStatement("INSERT INTO user_stories (id, papel, acao, "
+                + "beneficio, prioridade, estimativa, projeto_id, sprint_id, jira_issue_key, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < historias; i++) {
+                long id = ids.proximo();
+                Long sprintId = sprint(sprintIds, i);
+                insert.setLong(1, id);
+                insert.setString(2, papel(i));
+                insert.setString(3, acao(i));
+                insert.setString(4, beneficio(i));
+                insert.setString(5, prioridade(i));
+                insert.setString(6, estimativa(i));
+                insert.setLong(7, projetoId);
+                if (sprintId == null) {
+                    insert.setNull(8, Types.BIGINT);
+                } else {
+                    insert.setLong(8, sprintId);
+                }
+                insert.setString(9, jiraIssueKey(i, id));
+                insert.setTimestamp(10, agora);
+                insert.setTimestamp(11, agora);
+                insert.addBatch();
+                if ((i + 1) % TAMANHO_LOTE == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+    }
+
+    /** Campo vazio sem aspas é NULL no CSV do COPY; os valores gerados não têm vírgulas nem aspas. */
+    private void copiarHistorias(Connection conexao, Ids ids, Long projetoId, List<Long> sprintIds, int historias,
+                                 Timestamp agora) throws SQLException, IOException {
+        StringBuilder csv = new StringBuilder(historias * 128);
+        for (int i = 0; i < historias; i++) {
+            long id = ids.proximo();
+            Long sprintId = sprint(sprintIds, i);
+            String jiraIssueKey = jiraIssueKey(i, id);
+            csv.append(id).append(',')
+                    .append(papel(i)).append(',')
+                    .append(acao(i)).append(',')
+                    .append(beneficio(i)).append(',')
+                    .append(prioridade(i)).append(',')
+                    .append(estimativa(i)).append(',')
+                    .append(projetoId).append(',')
+                    .append(sprintId == null ? "" : sprintId).append(',')
+                    .append(jiraIssueKey == null ? "" : jiraIssueKey).append(',')
+                    .append(agora).append(',')
+                    .append(agora).append('\n');
+        }
+        conexao.unwrap(PGConnection.class).getCopyAPI().copyIn("COPY user_stories (id, papel, acao, beneficio, "
+                + "prioridade, estimativa, projeto_id, sprint_id, jira_issue_key, created_at, updated_at) "
+                + "FROM STDIN WITH (FORMAT csv)", new StringReader(csv.toString()));
+    }
+
+    private static Long sprint(List<Long> sprintIds, int indice) {
+        return indice % 2 == 0 && !sprintIds.isEmpty() ? sprintIds.get((indice / 2) % sprintIds.size()) : null;
+    }
+
+    private static String papel(int indice) {
+        return "usuário " + (indice % 7);
+    }
+
+    private static String acao(int indice) {
+        return "executar a ação número " + indice;
+    }
+
+    private static String beneficio(int indice) {
+        return "obter o benefício " + indice;
+    }
+
+    private static String prioridade(int indice) {
+        return UserStory.Prioridade.values()[indice % 3].name();
+    }
+
+    private static String estimativa(int indice) {
+        return (indice % 8 + 1) + " tarefas";
+    }
+
+    private static String jiraIssueKey(int indice, long id) {
+        return indice % 10 == 0 ? "GROW-" + id : null;
+    }
+
+    /**
+     * Reserva ids como o otimizador pooled do Hibernate: para cada valor lido da
+     * sequência, usa os {@value #TAMANHO_BLOCO_IDS} ids que terminam nele. O primeiro
+     * valor de uma sequência nova (menor que o bloco) é descartado.
+     */
+    private static final class Ids {
+        private final PreparedStatement proximoValor;
+        private long proximo = 1;
+        private long fimBloco = 0;
+
+        Ids(Connection conexao, String sequencia, boolean postgres) throws SQLException {
+            this.proximoValor = conexao.prepareStatement(postgres
+                    ? "SELECT nextval('" + sequencia + "')"
+                    : "SELECT NEXT VALUE FOR " + sequencia);
+        }
+
+        long proximo() throws SQLException {
+            while (proximo > fimBloco) {
+                try (ResultSet rs = proximoValor.executeQuery()) {
+                    rs.next();
+                    long topo = rs.getLong(1);
+                    if (topo >= TAMANHO_BLOCO_IDS) {
+                        proximo = topo - TAMANHO_BLOCO_IDS + 1;
+                        fimBloco = topo;
+                    }
+                }
+            }
+            return proximo++;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.growup.benchmark;
+
+import com.growup.model.Projeto;
+import com.growup.model.UserStory;
+import com.growup.repository.ProjetoRepository;
+import com.growup.repository.UserStoryRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Mede a gravação de 10 mil histórias geradas: uma a uma, como acontecia com ids
+ * IDENTITY (batch desativado), e pela ingestão em lote ({@code inserirEmLote}), com
+ * ids de sequência com pool e INSERTs agrupados. Roda apenas com {@code -Pbenchmark};
+ * o relatório vai para {@code target/benchmark/ingestao.md}.
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:ingestao",
+        "processamento.workers.habilitado=false",
+        "logging.level.com.growup=INFO"
+})
+@ActiveProfiles("test")
+@Import(IngestaoBenchmarkTest.Configuracao.class)
+class IngestaoBenchmarkTest {
+
+    private static final int TOTAL_HISTORIAS = 10_000;
+    private static final int REPETICOES = 3;
+
+    @TestConfiguration
+    static class Configuracao {
+        @Bean
+        static MedidorJdbc medidorJdbc() {
+            return new MedidorJdbc();
+        }
+    }
+
+    @Autowired
+    private ProjetoRepository projetoRepository;
+
+    @Autowired
+    private UserStoryRepository userStoryRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void compararInsercaoUmaAUmaComLote() throws IOException {
+        Resultado umaAUma = medir(historias -> transactionTemplate.executeWithoutResult(status -> {
+            // Equivale ao comportamento com IDENTITY: um INSERT (e uma ida ao banco) por história
+            entityManager.unwrap(Session.class).setJdbcBatchSize(1);
+            userStoryRepository.saveAll(historias);
+        }));
+        Resultado emLote = medir(historias -> userStoryRepository.inserirEmLote(historias));
+
+        String relatorio = String.format("""
+                | Gravação de %d histórias | Comandos | Tempo médio (ms) | Histórias/s |
+                |---|---:|---:|---:|
+                | Uma a uma (`saveAll`, sem batch) | %d | %d | %d |
+                | Em lote (`inserirEmLote`, batch de 50) | %d | %d | %d |
+                """, TOTAL_HISTORIAS,
+                umaAUma.medicao.comandos(), umaAUma.tempoMs, umaAUma.porSegundo(),
+                emLote.medicao.comandos(), emLote.tempoMs, emLote.porSegundo());
+        Path arquivo = Path.of("target", "benchmark", "ingestao.md");
+        Files.createDirectories(arquivo.getParent());
+        Files.writeString(arquivo, relatorio);
+        log.info("Relatório gravado em {}", arquivo.toAbsolutePath());
+
+        assertEquals((long) TOTAL_HISTORIAS * (REPETICOES + 1) * 2,
+                jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_stories", Long.class));
+        assertTrue(emLote.medicao.comandos() * 10 < umaAUma.medicao.comandos());
+    }
+
+    private Resultado medir(Consumer<List<UserStory>> gravacao) {
+        gravacao.accept(gerarHistorias()); // aquecimento
+
+        long total = 0;
+        MedidorJdbc.Medicao medicao = null;
+        for (int i = 0; i < REPETICOES; i++) {
+            List<UserStory> historias = gerarHistorias();
+            MedidorJdbc.zerar();
+            long inicio = System.nanoTime();
+            gravacao.accept(historias);
+            total += System.nanoTime() - inicio;
+            medicao = MedidorJdbc.medicao();
+        }
+        return new Resultado(medicao, total / 1_000_000 / REPETICOES);
+    }
+
+    private List<UserStory> gerarHistorias() {
+        Projeto projeto = projetoRepository.save(Projeto.builder().nome("Projeto Ingestão").build());
+        List<UserStory> historias = new ArrayList<>(TOTAL_HISTORIAS);
+        for (int i = 0; i < TOTAL_HISTORIAS; i++) {
+            historias.add(UserStory.builder()
+                    .papel("usuário " + (i % 7))
+                    .acao("executar a ação número " + i)
+                    .beneficio("obter o benefício " + i)
+                    .prioridade(UserStory.Prioridade.values()[i % 3])
+                    .estimativa("3 tarefas")
+                    .projeto(projeto)
+                    .build());
+        }
+        return historias;
+    }
+
+    private record Resultado(MedidorJdbc.Medicao medicao, long tempoMs) {
+        long porSegundo() {
+            return tempoMs == 0 ? 0 : TOTAL_HISTORIAS * 1_000L / tempoMs;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.growup.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Roda os microbenchmarks JMH (classes {@code *Benchmark}) com o profiler de GC, que
+ * acrescenta a taxa de alocação ({@code gc.alloc.rate.norm}, bytes por operação). Roda
+ * apenas com {@code -Pbenchmark}; o resultado vai para {@code target/benchmark/jmh.json}
+ * ou para o arquivo em {@code -Djmh.resultado}. {@code -Djmh.incluir} filtra os
+ * benchmarks por expressão regular (ex. {@code -Djmh.incluir=PromptBenchmark}).
+ */
+@Tag("benchmark")
+class JmhBenchmarkTest {
+
+    @Test
+    void executarMicrobenchmarks() throws Exception {
+        Path resultado = Path.of(System.getProperty("jmh.resultado", "target/benchmark/jmh.json"));
+        Files.createDirectories(resultado.toAbsolutePath().getParent());
+
+        Options opcoes = new OptionsBuilder()
+                .include(System.getProperty("jmh.incluir", "Benchmark"))
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(resultado.toString())
+                .shouldFailOnError(true)
+                .build();
+        Collection<RunResult> resultados = new Runner(opcoes).run();
+
+        assertFalse(resultados.isEmpty());
+        assertTrue(Files.size(resultado) > 0);
+    }
+}
@@ -0,0 +1,128 @@
+package com.growup.benchmark;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Envolve o {@link DataSource} da aplicação para contar o que de fato é lido do banco:
+ * comandos executados, linhas percorridas nos {@link ResultSet}s e bytes dos valores
+ * lidos (texto em UTF-8; números e datas pelo tamanho binário). Só para benchmarks.
+ */
+public class MedidorJdbc implements BeanPostProcessor {
+
+    private static final AtomicLong comandos = new AtomicLong();
+    private static final AtomicLong linhas = new AtomicLong();
+    private static final AtomicLong bytes = new AtomicLong();
+
+    public record Medicao(long comandos, long linhas, long bytes) {
+    }
+
+    public static void zerar() {
+        comandos.set(0);
+        linhas.set(0);
+        bytes.set(0);
+    }
+
+    public static Medicao medicao() {
+        return new Medicao(comandos.get(), linhas.get(), bytes.get());
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            return envolver(dataSource, DataSource.class, (alvo, metodo, args) -> {
+                Object resultado = metodo.invoke(alvo, args);
+                return resultado instanceof Connection conexao ? envolverConexao(conexao) : resultado;
+            });
+        }
+        return bean;
+    }
+
+    private static Connection envolverConexao(Connection conexao) {
+        return envolver(conexao, Connection.class, (alvo, metodo, args) -> {
+            Object resultado = metodo.invoke(alvo, args);
+            return resultado instanceof Statement comando ? envolverComando(comando) : resultado;
+        });
+    }
+
+    private static Statement envolverComando(Statement comando) {
+        Class<Statement> tipo = tipoDoComando(comando);
+        return envolver(comando, tipo, (alvo, metodo, args) -> {
+            if (metodo.getName().startsWith("execute")) {
+                comandos.incrementAndGet();
+            }
+            Object resultado = metodo.invoke(alvo, args);
+            return resultado instanceof ResultSet rs ? envolverResultado(rs) : resultado;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<Statement> tipoDoComando(Statement comando) {
+        if (comando instanceof CallableStatement) {
+            return (Class<Statement>) (Class<?>) CallableStatement.class;
+        }
+        if (comando instanceof PreparedStatement) {
+            return (Class<Statement>) (Class<?>) PreparedStatement.class;
+        }
+        return Statement.class;
+    }
+
+    private static ResultSet envolverResultado(ResultSet resultSet) {
+        return envolver(resultSet, ResultSet.class, (alvo, metodo, args) -> {
+            Object resultado = metodo.invoke(alvo, args);
+            String nome = metodo.getName();
+            if (nome.equals("next") && Boolean.TRUE.equals(resultado)) {
+                linhas.incrementAndGet();
+            } else if (nome.startsWith("get") && args != null && args.length >= 1 && resultado != null
+                    && !nome.equals("getMetaData") && !nome.equals("getStatement")) {
+                bytes.addAndGet(tamanho(resultado));
+            }
+            return resultado;
+        });
+    }
+
+    private static long tamanho(Object valor) {
+        if (valor instanceof String texto) {
+            return texto.getBytes(StandardCharsets.UTF_8).length;
+        }
+        if (valor instanceof byte[] binario) {
+            return binario.length;
+        }
+        if (valor instanceof Integer || valor instanceof Float) {
+            return 4;
+        }
+        if (valor instanceof Boolean) {
+            return 1;
+        }
+        return 8; // Long, Double, datas e timestamps
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T envolver(T alvo, Class<T> tipo, Interceptador interceptador) {
+        InvocationHandler handler = (proxy, metodo, args) -> {
+            try {
+                return interceptador.invocar(alvo, metodo, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+        return (T) Proxy.newProxyInstance(MedidorJdbc.class.getClassLoader(), new Class<?>[]{tipo}, handler);
+    }
+
+    @FunctionalInterface
+    private interface Interceptador {
+        Object invocar(Object alvo, Method metodo, Object[] args) throws Throwable;
+    }
+}
@@ -0,0 +1,159 @@
+package com.growup.benchmark;
+
+import com.growup.dto.UserStoryDTO;
+import com.growup.model.Projeto;
+import com.growup.repository.ProjetoRepository;
+import com.growup.repository.UserStoryRepository;
+import com.growup.service.UserStoryService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compara a listagem de histórias por entidades ({@code findByProjetoId}, com
+ * {@code projeto} e {@code sprint} EAGER) com a listagem por projeção usada pelos
+ * endpoints, em um projeto de 50 mil histórias. Roda apenas com {@code -Pbenchmark};
+ * o relatório vai para {@code target/benchmark/projecoes.md}.
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:benchmark",
+        "processamento.workers.habilitado=false",
+        "logging.level.com.growup=INFO"
+})
+@ActiveProfiles("test")
+@Import(ProjecoesBenchmarkTest.Configuracao.class)
+class ProjecoesBenchmarkTest {
+
+    private static final int TOTAL_HISTORIAS = 50_000;
+    private static final int TOTAL_SPRINTS = 20;
+    private static final int REPETICOES = 3;
+
+    @TestConfiguration
+    static class Configuracao {
+        @Bean
+        static MedidorJdbc medidorJdbc() {
+            return new MedidorJdbc();
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ProjetoRepository projetoRepository;
+
+    @Autowired
+    private UserStoryRepository userStoryRepository;
+
+    @Autowired
+    private UserStoryService userStoryService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void compararEntidadesComProjecoes() throws IOException {
+        Long projetoId = popularProjeto();
+
+        Resultado entidades = medir(() -> transactionTemplate.execute(status ->
+                userStoryRepository.findByProjetoId(projetoId).stream()
+                        .map(h -> UserStoryDTO.builder()
+                                .id(h.getId())
+                                .papel(h.getPapel())
+                                .acao(h.getAcao())
+                                .beneficio(h.getBeneficio())
+                                .prioridade(h.getPrioridade().toString())
+                                .estimativa(h.getEstimativa())
+                                .sprintId(h.getSprint() != null ? h.getSprint().getId() : null)
+                                .jiraIssueKey(h.getJiraIssueKey())
+                                .build())
+                        .toList()));
+        Resultado projecoes = medir(() -> userStoryService.listarHistoriasPorProjeto(projetoId));
+
+        String relatorio = String.format("""
+                | Listagem (%d histórias, %d sprints) | Comandos | Linhas lidas | Bytes lidos | Tempo médio (ms) |
+                |---|---:|---:|---:|---:|
+                | Entidades (`findByProjetoId`) | %d | %d | %d | %d |
+                | Projeção (`findResumosByProjetoId`) | %d | %d | %d | %d |
+                """, TOTAL_HISTORIAS, TOTAL_SPRINTS,
+                entidades.medicao.comandos(), entidades.medicao.linhas(), entidades.medicao.bytes(), entidades.tempoMs,
+                projecoes.medicao.comandos(), projecoes.medicao.linhas(), projecoes.medicao.bytes(), projecoes.tempoMs);
+        Path arquivo = Path.of("target", "benchmark", "projecoes.md");
+        Files.createDirectories(arquivo.getParent());
+        Files.writeString(arquivo, relatorio);
+        log.info("Relatório gravado em {}", arquivo.toAbsolutePath());
+
+        assertEquals(TOTAL_HISTORIAS, entidades.quantidade);
+        assertEquals(TOTAL_HISTORIAS, projecoes.quantidade);
+        assertEquals(1, projecoes.medicao.comandos());
+        assertTrue(projecoes.medicao.linhas() < entidades.medicao.linhas());
+        assertTrue(projecoes.medicao.bytes() < entidades.medicao.bytes());
+    }
+
+    private Resultado medir(Supplier<List<UserStoryDTO>> listagem) {
+        listagem.get(); // aquecimento
+
+        long inicio = System.nanoTime();
+        MedidorJdbc.Medicao medicao = null;
+        int quantidade = 0;
+        for (int i = 0; i < REPETICOES; i++) {
+            MedidorJdbc.zerar();
+            quantidade = listagem.get().size();
+            medicao = MedidorJdbc.medicao();
+        }
+        long tempoMs = (System.nanoTime() - inicio) / 1_000_000 / REPETICOES;
+        return new Resultado(medicao, quantidade, tempoMs);
+    }
+
+    private Long popularProjeto() {
+        Projeto projeto = projetoRepository.save(Projeto.builder()
+                .nome("Projeto Benchmark")
+                .descricao("Descrição longa do projeto. ".repeat(40))
+                .contextoAdicional("Contexto adicional do projeto. ".repeat(40))
+                .build());
+
+        List<Long> sprintIds = new ArrayList<>();
+        for (int i = 1; i <= TOTAL_SPRINTS; i++) {
+            jdbcTemplate.update("INSERT INTO sprints (titulo, periodo, projeto_id, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?)", "Semana " + i, "Período " + i, projeto.getId(),
+                    Timestamp.valueOf(LocalDateTime.now()), Timestamp.valueOf(LocalDateTime.now()));
+        }
+        sprintIds.addAll(jdbcTemplate.queryForList("SELECT id FROM sprints WHERE projeto_id = ?", Long.class, projeto.getId()));
+
+        List<Object[]> linhas = new ArrayList<>();
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+        for (int i = 0; i < TOTAL_HISTORIAS; i++) {
+            // Metade das histórias alocada em sprints, metade no backlog
+            Long sprintId = i % 2 == 0 ? sprintIds.get((i / 2) % sprintIds.size()) : null;
+            linhas.add(new Object[]{"usuário " + (i % 7), "executar a ação número " + i, "obter o benefício " + i,
+                    "MEDIA", "3 tarefas", projeto.getId(), sprintId, agora, agora});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO user_stories (papel, acao, beneficio, prioridade, estimativa, "
+                + "projeto_id, sprint_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", linhas);
+        return projeto.getId();
+    }
+
+    private record Resultado(MedidorJdbc.Medicao medicao, int quantidade, long tempoMs) {
+    }
+}
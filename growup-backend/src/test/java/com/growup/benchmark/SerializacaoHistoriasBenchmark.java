@@ -0,0 +1,69 @@
+package com.growup.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.growup.dto.UserStoryDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialização de listas de {@code UserStoryDTO} com o ObjectMapper configurado como
+ * o do Spring: para um {@code byte[]} (resposta inteira em memória) e direto para um
+ * stream (como na exportação). Executado por {@code JmhBenchmarkTest}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializacaoHistoriasBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int quantidade;
+
+    private ObjectMapper objectMapper;
+    private List<UserStoryDTO> historias;
+
+    @Setup
+    public void preparar() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        historias = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            historias.add(UserStoryDTO.builder()
+                    .id((long) i)
+                    .papel("usuário " + (i % 7))
+                    .acao("executar a ação número " + i)
+                    .beneficio("obter o benefício " + i)
+                    .prioridade(i % 3 == 0 ? "ALTA" : "MEDIA")
+                    .estimativa("3 tarefas")
+                    .sprintId(i % 2 == 0 ? (long) (i % 20) : null)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public byte[] paraBytes() throws IOException {
+        return objectMapper.writeValueAsBytes(historias);
+    }
+
+    @Benchmark
+    public void paraStream() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), historias);
+    }
+}
@@ -0,0 +1,396 @@
+package com.growup.carga;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.growup.model.Sprint;
+import com.growup.repository.ProjetoRepository;
+import com.growup.repository.SprintRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Teste de carga ponta a ponta: sobe a aplicação em uma porta local, com o Jira e a IA
+ * substituídos por {@link ServidorSimulado}s, e dispara tráfego misto (uploads,
+ * listagens do quadro, alocações em sprint e sincronizações com o Jira) a partir de
+ * {@code carga.usuarios} usuários simultâneos. Mede vazão e percentis de latência por
+ * endpoint, grava o relatório em {@code target/carga/} e falha se algum endpoint piorou
+ * além de {@code carga.tolerancia} em relação a {@code src/test/resources/carga/baseline.json}.
+ * Roda apenas com {@code -Pcarga}.
+ */
+@Slf4j
+@Tag("carga")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "processamento.workers.habilitado=false",
+        "logging.level.com.growup=WARN"
+})
+@AutoConfigureObservability
+@ActiveProfiles("test")
+class CargaHttpTest {
+
+    private static final Path BASELINE = Path.of("src", "test", "resources", "carga", "baseline.json");
+    private static final Path DIRETORIO_RELATORIO = Path.of("target", "carga");
+    private static final int PROJETOS_INICIAIS = 20;
+    private static final int SPRINTS_POR_PROJETO = 2;
+    private static final int HISTORIAS_POR_SINCRONIZACAO = 5;
+
+    private static final ObjectMapper JSON = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static ServidorSimulado jira;
+    private static ServidorSimulado ia;
+
+    @DynamicPropertySource
+    static void configurar(DynamicPropertyRegistry registry) throws IOException {
+        AtomicLong issues = new AtomicLong();
+        jira = new ServidorSimulado("Jira",
+                Duration.ofMillis(Long.getLong("carga.jira.latencia-ms", 80)), decimal("carga.jira.erros", 0.02))
+                .rota("/rest/api/3/issue/bulk", 201, corpo -> criarIssuesEmLote(corpo, issues))
+                .rota("/rest/api/3/issue", 201, corpo -> issue(issues.incrementAndGet()))
+                .iniciar();
+        ia = new ServidorSimulado("IA",
+                Duration.ofMillis(Long.getLong("carga.ia.latencia-ms", 400)), decimal("carga.ia.erros", 0.02))
+                .rota("/v1/chat/completions", 200, corpo -> completarChat())
+                .iniciar();
+        registry.add("jira.api.url", jira::url);
+        registry.add("ai.api.url", () -> ia.url() + "/v1/chat/completions");
+
+        // Por padrão H2 em memória; -Dcarga.banco.url aponta para um PostgreSQL local
+        String banco = System.getProperty("carga.banco.url");
+        registry.add("spring.datasource.url", () -> banco != null ? banco : "jdbc:h2:mem:carga");
+        if (banco != null) {
+            registry.add("spring.datasource.driverClassName", () -> "org.postgresql.Driver");
+            registry.add("spring.datasource.username", () -> System.getProperty("carga.banco.usuario", "postgres"));
+            registry.add("spring.datasource.password", () -> System.getProperty("carga.banco.senha", "postgres"));
+            registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        }
+    }
+
+    @AfterAll
+    static void pararServidores() {
+        jira.parar();
+        ia.parar();
+    }
+
+    @LocalServerPort
+    private int porta;
+
+    @Autowired
+    private ProjetoRepository projetoRepository;
+
+    @Autowired
+    private SprintRepository sprintRepository;
+
+    private final HttpClient cliente = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final List<Long> projetos = new CopyOnWriteArrayList<>();
+    private final Map<Long, List<Long>> historiasPorProjeto = new ConcurrentHashMap<>();
+    private final Map<Long, List<Long>> sprintsPorProjeto = new HashMap<>();
+    private final AtomicLong documentos = new AtomicLong();
+
+    @Test
+    void trafegoMistoNaoRegrideEmRelacaoAoBaseline() throws Exception {
+        int usuarios = Integer.getInteger("carga.usuarios", 16);
+        Duration aquecimento = Duration.ofSeconds(Long.getLong("carga.aquecimento-s", 10));
+        Duration duracao = Duration.ofSeconds(Long.getLong("carga.duracao-s", 60));
+
+        preparar();
+        executar(usuarios, aquecimento, new ConcurrentHashMap<>());
+        Map<String, Medicoes> medicoes = new ConcurrentHashMap<>();
+        long inicio = System.nanoTime();
+        executar(usuarios, duracao, medicoes);
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+
+        Map<String, ResultadoEndpoint> resultados = new TreeMap<>();
+        medicoes.forEach((endpoint, medicao) -> resultados.put(endpoint, medicao.resumir(segundos)));
+        gravarRelatorio(resultados, usuarios, segundos);
+
+        if (Boolean.getBoolean("carga.atualizar-baseline")) {
+            JSON.writeValue(BASELINE.toFile(), resultados);
+            return;
+        }
+        assertTrue(Files.exists(BASELINE), "Sem baseline: rode com -Dcarga.atualizar-baseline=true");
+        Map<String, ResultadoEndpoint> baseline = JSON.readValue(BASELINE.toFile(), new TypeReference<>() { });
+        List<String> regressoes = comparar(resultados, baseline);
+        assertTrue(regressoes.isEmpty(), "Regressões em relação ao baseline:\n" + String.join("\n", regressoes));
+    }
+
+    /**
+     * Projetos com histórias e sprints, para as listagens e alocações terem alvo desde o
+     * início. As sprints vão direto pelo repositório: {@code POST /sprints} não recebe o
+     * projeto.
+     */
+    private void preparar() throws Exception {
+        for (int i = 0; i < PROJETOS_INICIAIS; i++) {
+            assertEquals(201, upload().statusCode());
+        }
+        for (Long projetoId : projetos) {
+            List<Long> sprints = new ArrayList<>();
+            for (int i = 1; i <= SPRINTS_POR_PROJETO; i++) {
+                sprints.add(sprintRepository.save(Sprint.builder()
+                        .titulo("Sprint " + i)
+                        .periodo("Semana " + i)
+                        .projeto(projetoRepository.findById(projetoId).orElseThrow())
+                        .build()).getId());
+            }
+            sprintsPorProjeto.put(projetoId, sprints);
+        }
+    }
+
+    private void executar(int usuarios, Duration duracao, Map<String, Medicoes> medicoes) throws Exception {
+        long fim = System.nanoTime() + duracao.toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(usuarios);
+        try {
+            List<Future<?>> futuros = new ArrayList<>();
+            for (int i = 0; i < usuarios; i++) {
+                futuros.add(executor.submit(() -> {
+                    while (System.nanoTime() < fim) {
+                        executarOperacao(medicoes);
+                    }
+                }));
+            }
+            for (Future<?> futuro : futuros) {
+                futuro.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Mistura de tráfego: 10% uploads, 50% listagens do quadro (histórias, roadmap e
+     * sprints), 25% alocações em sprint e 15% sincronizações com o Jira.
+     */
+    private void executarOperacao(Map<String, Medicoes> medicoes) {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        int sorteio = aleatorio.nextInt(100);
+        Long projeto = sortear(projetos);
+        if (sorteio < 10) {
+            medir(medicoes, "POST /projetos/upload", this::upload);
+        } else if (sorteio < 35) {
+            medir(medicoes, "GET /projetos/{projetoId}/historias",
+                    () -> enviar("GET", "/projetos/" + projeto + "/historias", null));
+        } else if (sorteio < 50) {
+            medir(medicoes, "GET /projetos/{projetoId}/roadmap",
+                    () -> enviar("GET", "/projetos/" + projeto + "/roadmap", null));
+        } else if (sorteio < 60) {
+            medir(medicoes, "GET /sprints/projeto/{projetoId}",
+                    () -> enviar("GET", "/sprints/projeto/" + projeto, null));
+        } else if (sorteio < 85) {
+            Long comSprints = projetos.get(aleatorio.nextInt(PROJETOS_INICIAIS));
+            String caminho = "/sprints/" + sortear(sprintsPorProjeto.get(comSprints))
+                    + "/alocar-historia/" + sortear(historiasPorProjeto.get(comSprints));
+            medir(medicoes, "POST /sprints/{sprintId}/alocar-historia/{historiaId}", () -> enviar("POST", caminho, null));
+        } else {
+            List<Long> ids = new ArrayList<>();
+            for (int i = 0; i < HISTORIAS_POR_SINCRONIZACAO; i++) {
+                ids.add(sortear(historiasPorProjeto.get(projeto)));
+            }
+            medir(medicoes, "POST /jira/sincronizar/paralelo", () -> enviar("POST", "/jira/sincronizar/paralelo",
+                    "{\"historiaIds\":" + ids + ",\"jiraProjectKey\":\"CARGA\"}"));
+        }
+    }
+
+    /** Cada upload tem conteúdo próprio, para não ser respondido pelo cache da IA. */
+    private HttpResponse<String> upload() throws Exception {
+        long numero = documentos.incrementAndGet();
+        HttpResponse<String> resposta = enviar("POST", "/projetos/upload", "{\"nomeProjeto\":\"Carga " + numero
+                + "\",\"conteudoDocumento\":\"Documento " + numero + ". Como um cliente, eu quero acompanhar meus"
+                + " pedidos para saber quando chegam. Como um gerente, eu quero ver relatórios de vendas.\"}");
+        if (resposta.statusCode() == 201) {
+            JsonNode projeto = JSON.readTree(resposta.body());
+            List<Long> historias = new ArrayList<>();
+            projeto.path("historias").forEach(historia -> historias.add(historia.path("id").asLong()));
+            historiasPorProjeto.put(projeto.path("id").asLong(), historias);
+            projetos.add(projeto.path("id").asLong());
+        }
+        return resposta;
+    }
+
+    private void medir(Map<String, Medicoes> medicoes, String endpoint, Requisicao requisicao) {
+        long inicio = System.nanoTime();
+        boolean erro;
+        try {
+            erro = requisicao.enviar().statusCode() >= 400;
+        } catch (Exception e) {
+            erro = true;
+        }
+        medicoes.computeIfAbsent(endpoint, chave -> new Medicoes()).adicionar(System.nanoTime() - inicio, erro);
+    }
+
+    private HttpResponse<String> enviar(String metodo, String caminho, String corpo) throws Exception {
+        HttpRequest.Builder requisicao = HttpRequest.newBuilder(URI.create("http://localhost:" + porta + "/api" + caminho))
+                .timeout(Duration.ofSeconds(60))
+                .header("Content-Type", "application/json")
+                .method(metodo, corpo == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(corpo));
+        return cliente.send(requisicao.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * Um endpoint regride se o p95 passou do baseline em mais de {@code carga.tolerancia}
+     * (mais {@code carga.folga-ms}, para endpoints de poucos milissegundos), se a vazão
+     * caiu mais que a tolerância ou se a taxa de erros passou de {@code carga.max-erros}.
+     */
+    private static List<String> comparar(Map<String, ResultadoEndpoint> resultados, Map<String, ResultadoEndpoint> baseline) {
+        double tolerancia = decimal("carga.tolerancia", 0.5);
+        double folgaMs = decimal("carga.folga-ms", 5);
+        double maxErros = decimal("carga.max-erros", 0.01);
+
+        List<String> regressoes = new ArrayList<>();
+        resultados.forEach((endpoint, atual) -> {
+            double taxaErros = (double) atual.erros() / atual.requisicoes();
+            if (taxaErros > maxErros) {
+                regressoes.add(String.format(Locale.ROOT, "%s: %.1f%% de erros (máximo %.1f%%)",
+                        endpoint, taxaErros * 100, maxErros * 100));
+            }
+            ResultadoEndpoint referencia = baseline.get(endpoint);
+            if (referencia == null) {
+                return;
+            }
+            double limiteP95 = referencia.p95Ms() * (1 + tolerancia) + folgaMs;
+            if (atual.p95Ms() > limiteP95) {
+                regressoes.add(String.format(Locale.ROOT, "%s: p95 de %.1f ms (baseline %.1f ms, limite %.1f ms)",
+                        endpoint, atual.p95Ms(), referencia.p95Ms(), limiteP95));
+            }
+            double vazaoMinima = referencia.reqPorSegundo() * (1 - tolerancia);
+            if (atual.reqPorSegundo() < vazaoMinima) {
+                regressoes.add(String.format(Locale.ROOT, "%s: %.1f req/s (baseline %.1f, mínimo %.1f)",
+                        endpoint, atual.reqPorSegundo(), referencia.reqPorSegundo(), vazaoMinima));
+            }
+        });
+        return regressoes;
+    }
+
+    private static void gravarRelatorio(Map<String, ResultadoEndpoint> resultados, int usuarios, double segundos)
+            throws IOException {
+        StringBuilder relatorio = new StringBuilder(String.format(Locale.ROOT,
+                "Carga: %d usuários por %.0f s%n%n", usuarios, segundos));
+        relatorio.append("| Endpoint | Requisições | Erros | req/s | p50 (ms) | p95 (ms) | p99 (ms) | Máx. (ms) |\n");
+        relatorio.append("|---|---:|---:|---:|---:|---:|---:|---:|\n");
+        resultados.forEach((endpoint, r) -> relatorio.append(String.format(Locale.ROOT,
+                "| `%s` | %d | %d | %.1f | %.1f | %.1f | %.1f | %.1f |%n", endpoint,
+                r.requisicoes(), r.erros(), r.reqPorSegundo(), r.p50Ms(), r.p95Ms(), r.p99Ms(), r.maxMs())));
+        for (ServidorSimulado servidor : List.of(jira, ia)) {
+            relatorio.append(String.format("%n%s simulado: %d requisições, %d erros injetados",
+                    servidor.nome(), servidor.requisicoes(), servidor.errosInjetados()));
+        }
+
+        Files.createDirectories(DIRETORIO_RELATORIO);
+        Files.writeString(DIRETORIO_RELATORIO.resolve("relatorio.md"), relatorio + System.lineSeparator());
+        log.info("Relatório de carga gravado em {}", DIRETORIO_RELATORIO.resolve("relatorio.md").toAbsolutePath());
+        JSON.writeValue(DIRETORIO_RELATORIO.resolve("resultado.json").toFile(), resultados);
+    }
+
+    private static Long sortear(List<Long> ids) {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+
+    private static double decimal(String propriedade, double padrao) {
+        String valor = System.getProperty(propriedade);
+        return valor == null ? padrao : Double.parseDouble(valor);
+    }
+
+    private static String criarIssuesEmLote(String corpo, AtomicLong issues) {
+        try {
+            int quantidade = JSON.readTree(corpo).path("issueUpdates").size();
+            List<String> criadas = new ArrayList<>(quantidade);
+            for (int i = 0; i < quantidade; i++) {
+                criadas.add(issue(issues.incrementAndGet()));
+            }
+            return "{\"issues\":[" + String.join(",", criadas) + "],\"errors\":[]}";
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String issue(long numero) {
+        return "{\"id\":\"" + (10_000 + numero) + "\",\"key\":\"CARGA-" + numero
+                + "\",\"self\":\"http://localhost/rest/api/3/issue/" + (10_000 + numero) + "\"}";
+    }
+
+    private static String completarChat() {
+        String historias = "cliente|acompanhar meus pedidos|saber quando chegam|ALTA|3 tarefas\\n"
+                + "gerente|ver relatórios de vendas|tomar decisões|MEDIA|5 tarefas";
+        return "{\"object\":\"chat.completion\",\"choices\":[{\"index\":0,\"message\":{\"role\":\"assistant\","
+                + "\"content\":\"" + historias + "\"},\"finish_reason\":\"stop\"}]}";
+    }
+
+    @FunctionalInterface
+    private interface Requisicao {
+        HttpResponse<String> enviar() throws Exception;
+    }
+
+    /** Latências de um endpoint, guardadas inteiras para percentis exatos. */
+    private static class Medicoes {
+        private long[] latencias = new long[1024];
+        private int total;
+        private long erros;
+
+        synchronized void adicionar(long nanos, boolean erro) {
+            if (total == latencias.length) {
+                latencias = Arrays.copyOf(latencias, total * 2);
+            }
+            latencias[total++] = nanos;
+            if (erro) {
+                erros++;
+            }
+        }
+
+        synchronized ResultadoEndpoint resumir(double segundos) {
+            long[] ordenadas = Arrays.copyOf(latencias, total);
+            Arrays.sort(ordenadas);
+            return new ResultadoEndpoint(total, erros, arredondar(total / segundos),
+                    percentil(ordenadas, 0.50), percentil(ordenadas, 0.95), percentil(ordenadas, 0.99),
+                    arredondar(ordenadas[total - 1] / 1e6));
+        }
+
+        private static double percentil(long[] ordenadas, double percentil) {
+            int indice = (int) Math.ceil(percentil * ordenadas.length) - 1;
+            return arredondar(ordenadas[Math.max(indice, 0)] / 1e6);
+        }
+
+        private static double arredondar(double valor) {
+            return Math.round(valor * 100) / 100.0;
+        }
+    }
+
+    record ResultadoEndpoint(long requisicoes, long erros, double reqPorSegundo,
+                             double p50Ms, double p95Ms, double p99Ms, double maxMs) {
+    }
+}
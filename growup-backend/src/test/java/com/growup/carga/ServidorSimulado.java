@@ -0,0 +1,98 @@
+package com.growup.carga;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.UnaryOperator;
+
+/**
+ * Servidor HTTP local que substitui uma integração nos testes de carga. Cada resposta
+ * espera a latência configurada (variando ±50%) e, com a probabilidade de
+ * {@code taxaErros}, responde {@code 503} em vez do corpo da rota.
+ */
+class ServidorSimulado {
+
+    private final String nome;
+    private final Duration latencia;
+    private final double taxaErros;
+    private final HttpServer servidor;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final AtomicLong requisicoes = new AtomicLong();
+    private final AtomicLong errosInjetados = new AtomicLong();
+
+    ServidorSimulado(String nome, Duration latencia, double taxaErros) throws IOException {
+        this.nome = nome;
+        this.latencia = latencia;
+        this.taxaErros = taxaErros;
+        this.servidor = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        this.servidor.setExecutor(executor);
+    }
+
+    /** Registra uma rota; {@code resposta} recebe o corpo da requisição e devolve o da resposta. */
+    ServidorSimulado rota(String caminho, int status, UnaryOperator<String> resposta) {
+        servidor.createContext(caminho, exchange -> {
+            requisicoes.incrementAndGet();
+            String corpo = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            esperar();
+            if (ThreadLocalRandom.current().nextDouble() < taxaErros) {
+                errosInjetados.incrementAndGet();
+                responder(exchange, 503, "{\"errorMessages\":[\"Serviço indisponível (simulado)\"]}");
+            } else {
+                responder(exchange, status, resposta.apply(corpo));
+            }
+        });
+        return this;
+    }
+
+    ServidorSimulado iniciar() {
+        servidor.start();
+        return this;
+    }
+
+    void parar() {
+        servidor.stop(0);
+        executor.shutdownNow();
+    }
+
+    String url() {
+        return "http://localhost:" + servidor.getAddress().getPort();
+    }
+
+    String nome() {
+        return nome;
+    }
+
+    long requisicoes() {
+        return requisicoes.get();
+    }
+
+    long errosInjetados() {
+        return errosInjetados.get();
+    }
+
+    private void esperar() {
+        long nanos = latencia.toNanos();
+        if (nanos > 0) {
+            LockSupport.parkNanos(nanos / 2 + ThreadLocalRandom.current().nextLong(nanos + 1));
+        }
+    }
+
+    private static void responder(HttpExchange exchange, int status, String corpo) throws IOException {
+        byte[] bytes = corpo.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream saida = exchange.getResponseBody()) {
+            saida.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.growup.config;
+
+import com.growup.dto.PoolHttpDTO;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testa o pool e os timeouts do cliente HTTP contra um servidor local com um endpoint
+ * rápido e um que só responde quando liberado pelo teste.
+ */
+class WebClientConfigTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RegistroPoolsHttp registro = new RegistroPoolsHttp(meterRegistry);
+    private final CountDownLatch liberarLentas = new CountDownLatch(1);
+    private HttpServer servidor;
+    private ConnectionProvider pool;
+    private String url;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        servidor = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        servidor.setExecutor(Executors.newCachedThreadPool());
+        servidor.createContext("/rapido", exchange -> responder(exchange, "ok"));
+        servidor.createContext("/lento", exchange -> {
+            aguardar(liberarLentas);
+            responder(exchange, "lento");
+        });
+        servidor.start();
+        url = "http://localhost:" + servidor.getAddress().getPort();
+    }
+
+    @AfterEach
+    void tearDown() {
+        liberarLentas.countDown();
+        if (pool != null) {
+            pool.dispose();
+        }
+        servidor.stop(0);
+    }
+
+    @Test
+    void testPoolRegistraMetricasPorDestino() {
+        WebClient client = criarCliente(new ClienteHttpProperties());
+
+        assertEquals("ok", client.get().uri(url + "/rapido").retrieve().bodyToMono(String.class).block());
+
+        // A conexão volta ao pool de forma assíncrona, logo após o corpo ser lido
+        PoolHttpDTO pool = aguardarPool(p -> p.getEmUso() == 0 && p.getOciosas() == 1);
+        assertEquals(1, registro.listar().size());
+        assertEquals("teste", pool.getNome());
+        assertEquals(1, pool.getAbertas());
+        assertEquals(50, pool.getMaxConexoes());
+    }
+
+    @Test
+    void testRespostaLentaFalhaPorTimeout() {
+        ClienteHttpProperties config = new ClienteHttpProperties();
+        config.setTimeoutResposta(Duration.ofMillis(200));
+        WebClient client = criarCliente(config);
+
+        long inicio = System.nanoTime();
+        assertThrows(Exception.class,
+                () -> client.get().uri(url + "/lento").retrieve().bodyToMono(String.class).block());
+        assertTrue(Duration.ofNanos(System.nanoTime() - inicio).toMillis() < 5_000);
+    }
+
+    @Test
+    void testPoolSaturadoRecusaAlemDoLimiteDePendentes() {
+        ClienteHttpProperties config = new ClienteHttpProperties();
+        config.setMaxConexoes(1);
+        config.setMaxPendentes(1);
+        WebClient client = criarCliente(config);
+
+        Disposable emUso = client.get().uri(url + "/lento").retrieve().bodyToMono(String.class).subscribe();
+        Disposable pendente = client.get().uri(url + "/lento").retrieve().bodyToMono(String.class).subscribe();
+        try {
+            PoolHttpDTO saturado = aguardarPool(p -> p.getEmUso() == 1 && p.getPendentes() == 1);
+            assertEquals(1, saturado.getAbertas());
+            assertEquals(1, saturado.getMaxPendentes());
+
+            // Com a fila de espera cheia, a terceira requisição falha sem esperar conexão
+            long inicio = System.nanoTime();
+            assertThrows(Exception.class,
+                    () -> client.get().uri(url + "/rapido").retrieve().bodyToMono(String.class).block());
+            assertTrue(Duration.ofNanos(System.nanoTime() - inicio).toMillis() < 1_000);
+        } finally {
+            emUso.dispose();
+            pendente.dispose();
+        }
+    }
+
+    private WebClient criarCliente(ClienteHttpProperties config) {
+        pool = WebClientConfig.criarPool("teste", config, registro);
+        return WebClientConfig.criarWebClient(WebClient.builder(), pool, config);
+    }
+
+    private PoolHttpDTO aguardarPool(Predicate<PoolHttpDTO> condicao) {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        PoolHttpDTO ultimo = null;
+        while (System.nanoTime() < limite) {
+            List<PoolHttpDTO> pools = registro.listar();
+            if (!pools.isEmpty()) {
+                ultimo = pools.get(0);
+                if (condicao.test(ultimo)) {
+                    return ultimo;
+                }
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(20));
+        }
+        return fail("Pool não chegou ao estado esperado: " + ultimo);
+    }
+
+    private static void responder(HttpExchange exchange, String corpo) throws IOException {
+        byte[] bytes = corpo.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void aguardar(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.growup.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.growup.dto.JiraSyncRequest;
+import com.growup.dto.JiraSyncResultDTO;
+import com.growup.model.Projeto;
+import com.growup.model.UserStory;
+import com.growup.repository.ProjetoRepository;
+import com.growup.repository.UserStoryRepository;
+import com.growup.service.JiraClient;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:jira")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class JiraControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProjetoRepository projetoRepository;
+
+    @Autowired
+    private UserStoryRepository userStoryRepository;
+
+    @MockBean
+    private JiraClient jiraClient;
+
+    @Test
+    void testJobDeSincronizacaoRetorna202EProgresso() throws Exception {
+        Projeto projeto = projetoRepository.save(Projeto.builder().nome("Projeto Jira").build());
+        UserStory historia = userStoryRepository.save(UserStory.builder()
+                .papel("usuário")
+                .acao("fazer login")
+                .beneficio("acessar conta")
+                .prioridade(UserStory.Prioridade.ALTA)
+                .estimativa("4 tarefas")
+                .projeto(projeto)
+                .build());
+
+        when(jiraClient.criarIssuesEmLote(anyList(), eq("GROWUP")))
+                .thenReturn(Mono.just(List.of(JiraSyncResultDTO.sucesso(historia.getId(), "GROWUP-7"))));
+
+        JiraSyncRequest request = JiraSyncRequest.builder()
+                .historiaIds(List.of(historia.getId(), -1L))
+                .jiraProjectKey("GROWUP")
+                .build();
+
+        String criado = mockMvc.perform(post("/api/jira/jobs").contextPath("/api")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists("Location"))
+                .andExpect(jsonPath("$.total").value(2))
+                .andReturn().getResponse().getContentAsString();
+        long jobId = objectMapper.readTree(criado).get("id").asLong();
+
+        JsonNode job = null;
+        for (int tentativa = 0; tentativa < 50; tentativa++) {
+            String corpo = mockMvc.perform(get("/api/jira/jobs/" + jobId).contextPath("/api"))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            job = objectMapper.readTree(corpo);
+            if ("CONCLUIDO".equals(job.get("status").asText())) {
+                break;
+            }
+            Thread.sleep(100);
+        }
+
+        assertEquals("CONCLUIDO", job.get("status").asText());
+        assertEquals(1, job.get("concluidas").asInt());
+        assertEquals(1, job.get("falhas").asInt());
+        assertEquals(0, job.get("pendentes").asInt());
+        assertEquals("GROWUP-7", userStoryRepository.findById(historia.getId()).orElseThrow().getJiraIssueKey());
+    }
+
+    @Test
+    void testListarHistoriasPorSincronizacaoEContadores() throws Exception {
+        Projeto projeto = projetoRepository.save(Projeto.builder().nome("Projeto Contadores").build());
+        Projeto outro = projetoRepository.save(Projeto.builder().nome("Outro Projeto").build());
+        for (int i = 0; i < 5; i++) {
+            salvarHistoria(projeto, i < 3 ? "GROWUP-" + i : null);
+        }
+        salvarHistoria(outro, "OUTRO-1");
+
+        String primeira = mockMvc.perform(get("/api/jira/projetos/" + projeto.getId() + "/historias")
+                        .contextPath("/api")
+                        .param("limite", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens.length()").value(2))
+                .andExpect(jsonPath("$.itens[0].jiraIssueKey").value("GROWUP-0"))
+                .andExpect(jsonPath("$.next").isNotEmpty())
+                .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(get("/api/jira/projetos/" + projeto.getId() + "/historias")
+                        .contextPath("/api")
+                        .param("limite", "2")
+                        .param("cursor", objectMapper.readTree(primeira).get("next").asText()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens.length()").value(1))
+                .andExpect(jsonPath("$.itens[0].jiraIssueKey").value("GROWUP-2"))
+                .andExpect(jsonPath("$.next").doesNotExist());
+
+        mockMvc.perform(get("/api/jira/projetos/" + projeto.getId() + "/historias")
+                        .contextPath("/api")
+                        .param("sincronizadas", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens.length()").value(2))
+                .andExpect(jsonPath("$.itens[0].jiraIssueKey").doesNotExist());
+
+        mockMvc.perform(get("/api/jira/projetos/" + projeto.getId() + "/sincronizacao").contextPath("/api"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(5))
+                .andExpect(jsonPath("$.sincronizadas").value(3))
+                .andExpect(jsonPath("$.pendentes").value(2));
+
+        mockMvc.perform(get("/api/jira/projetos/999999/sincronizacao").contextPath("/api"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testConsultarJobInexistente() throws Exception {
+        mockMvc.perform(get("/api/jira/jobs/999999").contextPath("/api"))
+                .andExpect(status().isNotFound());
+    }
+
+    private void salvarHistoria(Projeto projeto, String jiraIssueKey) {
+        userStoryRepository.save(UserStory.builder()
+                .papel("usuário")
+                .acao("fazer login")
+                .beneficio("acessar conta")
+                .prioridade(UserStory.Prioridade.MEDIA)
+                .estimativa("2 tarefas")
+                .jiraIssueKey(jiraIssueKey)
+                .projeto(projeto)
+                .build());
+    }
+}
@@ -0,0 +1,83 @@
+package com.growup.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.growup.dto.UploadDocumentoRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Confere os nomes e tags publicados em {@code /api/actuator/prometheus}, que servem de
+ * base para os painéis de SLO: mudar um deles quebra os painéis.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:metricas",
+        "processamento.workers.habilitado=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+class MetricasIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void testPrometheusExpoeMetricasDosEndpointsServicosEBanco() throws Exception {
+        UploadDocumentoRequest request = UploadDocumentoRequest.builder()
+                .nomeProjeto("Projeto Métricas")
+                .conteudoDocumento("Como um usuário, eu quero fazer login")
+                .build();
+        String resposta = mockMvc.perform(post("/api/projetos/upload").contextPath("/api")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        // O mesmo documento de novo: a resposta da IA vem do cache
+        mockMvc.perform(post("/api/projetos/upload").contextPath("/api")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+        JsonNode projeto = objectMapper.readTree(resposta);
+        mockMvc.perform(get("/api/projetos/" + projeto.get("id").asLong() + "/historias").contextPath("/api"))
+                .andExpect(status().isOk());
+
+        String metricas = mockMvc.perform(get("/api/actuator/prometheus").contextPath("/api"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // Latência por endpoint: histograma com o template da URI (sem ids) e percentis
+        assertContem(metricas, "http_server_requests_seconds_bucket{application=\"growup-backend\"");
+        assertContem(metricas, "uri=\"/projetos/{projetoId}/historias\"");
+        assertContem(metricas, "http_server_requests_seconds{application=\"growup-backend\"");
+        assertContem(metricas, "quantile=\"0.99\"");
+        // Serviços e integrações
+        assertContem(metricas, "growup_ia_geracao_seconds_bucket{");
+        assertContem(metricas, "growup_ia_geracao_seconds_count{application=\"growup-backend\",cache=\"hit\",resultado=\"sucesso\"");
+        assertContem(metricas, "growup_historias_geradas_total{application=\"growup-backend\",origem=\"ia\"");
+        assertContem(metricas, "growup_jira_taxa{");
+        assertContem(metricas, "growup_jira_circuito{");
+        // Pool de conexões e estatísticas do Hibernate
+        assertContem(metricas, "hikaricp_connections_active{");
+        assertContem(metricas, "hibernate_statements_total{");
+    }
+
+    private static void assertContem(String metricas, String trecho) {
+        assertTrue(metricas.contains(trecho), "Métrica ausente: " + trecho);
+    }
+}
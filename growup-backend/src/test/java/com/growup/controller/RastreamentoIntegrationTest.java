@@ -0,0 +1,107 @@
+package com.growup.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.growup.dto.UploadDocumentoRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Com limiar zero, toda requisição é "lenta": confere a árvore de spans guardada para
+ * um upload, da requisição HTTP até os comandos SQL, e a exportação para arquivo.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:rastreamento",
+        "processamento.workers.habilitado=false",
+        "rastreamento.lentas.limiar-ms=0"
+})
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+class RastreamentoIntegrationTest {
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+    private static Path arquivo;
+
+    @DynamicPropertySource
+    static void configurarArquivo(DynamicPropertyRegistry registry) throws IOException {
+        arquivo = Files.createTempFile("requisicoes-lentas", ".jsonl");
+        registry.add("rastreamento.lentas.arquivo", arquivo::toString);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void testUploadGuardaArvoreDeSpansComSqlEContextoPropagado() throws Exception {
+        UploadDocumentoRequest request = UploadDocumentoRequest.builder()
+                .nomeProjeto("Projeto Rastreado")
+                .conteudoDocumento("Como um usuário, eu quero fazer login")
+                .build();
+        mockMvc.perform(post("/api/projetos/upload").contextPath("/api")
+                        .header("traceparent", "00-" + TRACE_ID + "-00f067aa0ba902b7-01")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+
+        String resposta = mockMvc.perform(get("/api/admin/rastreamento/lentas").contextPath("/api"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode upload = null;
+        for (JsonNode lenta : objectMapper.readTree(resposta)) {
+            if (TRACE_ID.equals(lenta.path("traceId").asText())) {
+                upload = lenta;
+            }
+        }
+
+        // O trace continua o traceparent recebido
+        assertNotNull(upload, "Trace do upload não foi guardado");
+        assertTrue(upload.path("totalSqls").asInt() >= 2);
+
+        JsonNode controller = buscar(upload.path("raiz"), "upload-controller.upload-documento").orElseThrow();
+        JsonNode service = buscar(controller, "user-story-service.processar-documento").orElseThrow();
+        assertTrue(buscar(service, "a-i-service.gerar-historias").isPresent());
+        JsonNode save = buscar(service, "projeto-repository.save").orElseThrow();
+        assertEquals("repository", save.path("atributos").path("camada").asText());
+        assertTrue(save.path("sqls").asInt() >= 1);
+        assertTrue(buscar(save, "query").isPresent());
+
+        assertTrue(Files.readString(arquivo).contains(TRACE_ID));
+    }
+
+    private static Optional<JsonNode> buscar(JsonNode span, String nome) {
+        List<JsonNode> pendentes = new ArrayList<>();
+        span.path("filhos").forEach(pendentes::add);
+        while (!pendentes.isEmpty()) {
+            JsonNode atual = pendentes.remove(0);
+            if (nome.equals(atual.path("nome").asText())) {
+                return Optional.of(atual);
+            }
+            atual.path("filhos").forEach(pendentes::add);
+        }
+        return Optional.empty();
+    }
+}
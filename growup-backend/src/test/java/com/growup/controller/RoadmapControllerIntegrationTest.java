@@ -0,0 +1,150 @@
+package com.growup.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.growup.dto.AlocacaoEmLoteRequest;
+import com.growup.model.Projeto;
+import com.growup.model.Sprint;
+import com.growup.model.UserStory;
+import com.growup.repository.ProjetoRepository;
+import com.growup.repository.SprintRepository;
+import com.growup.repository.UserStoryRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class RoadmapControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProjetoRepository projetoRepository;
+
+    @Autowired
+    private SprintRepository sprintRepository;
+
+    @Autowired
+    private UserStoryRepository userStoryRepository;
+
+    @Test
+    void testAlocarEDesalocarHistoriasEmLote() throws Exception {
+        Projeto projeto = projetoRepository.save(Projeto.builder().nome("Projeto Sprint").build());
+        Projeto outroProjeto = projetoRepository.save(Projeto.builder().nome("Outro Projeto").build());
+        Sprint sprint = sprintRepository.save(Sprint.builder()
+                .titulo("Semana 1")
+                .periodo("05/11 - 12/11")
+                .projeto(projeto)
+                .build());
+        UserStory h1 = criarHistoria(projeto);
+        UserStory h2 = criarHistoria(projeto);
+        UserStory h3 = criarHistoria(projeto);
+        UserStory deOutroProjeto = criarHistoria(outroProjeto);
+
+        List<Long> ids = List.of(h1.getId(), h2.getId(), h3.getId(), h1.getId(), deOutroProjeto.getId(), -1L);
+        mockMvc.perform(post("/api/sprints/" + sprint.getId() + "/historias/alocar").contextPath("/api")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new AlocacaoEmLoteRequest(ids))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.solicitadas").value(5))
+                .andExpect(jsonPath("$.atualizadas").value(3));
+
+        assertEquals(sprint.getId(), userStoryRepository.findById(h1.getId()).orElseThrow().getSprint().getId());
+        assertNull(userStoryRepository.findById(deOutroProjeto.getId()).orElseThrow().getSprint());
+
+        mockMvc.perform(post("/api/sprints/" + sprint.getId() + "/historias/desalocar").contextPath("/api")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new AlocacaoEmLoteRequest(
+                        List.of(h1.getId(), h2.getId(), deOutroProjeto.getId())))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.atualizadas").value(2));
+
+        assertNull(userStoryRepository.findById(h1.getId()).orElseThrow().getSprint());
+        assertNotNull(userStoryRepository.findById(h3.getId()).orElseThrow().getSprint());
+    }
+
+    @Test
+    void testAlocarEmSprintInexistente() throws Exception {
+        mockMvc.perform(post("/api/sprints/999999/historias/alocar").contextPath("/api")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new AlocacaoEmLoteRequest(List.of(1L)))))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testDeletarSprintMantemHistoriasNoBacklog() throws Exception {
+        Projeto projeto = projetoRepository.save(Projeto.builder().nome("Projeto Exclusão").build());
+        Sprint sprint = sprintRepository.save(Sprint.builder()
+                .titulo("Semana 2")
+                .periodo("12/11 - 19/11")
+                .projeto(projeto)
+                .build());
+        UserStory historia = criarHistoria(projeto);
+        mockMvc.perform(post("/api/sprints/" + sprint.getId() + "/historias/alocar").contextPath("/api")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new AlocacaoEmLoteRequest(List.of(historia.getId())))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(delete("/api/sprints/" + sprint.getId()).contextPath("/api"))
+                .andExpect(status().isNoContent());
+
+        assertFalse(sprintRepository.existsById(sprint.getId()));
+        assertNull(userStoryRepository.findById(historia.getId()).orElseThrow().getSprint());
+    }
+
+    @Test
+    void testListarSprintsCondicionalMudaComAlocacaoEmLote() throws Exception {
+        Projeto projeto = projetoRepository.save(Projeto.builder().nome("Projeto ETag Sprints").build());
+        Sprint sprint = sprintRepository.save(Sprint.builder()
+                .titulo("Semana 3")
+                .periodo("19/11 - 26/11")
+                .projeto(projeto)
+                .build());
+        UserStory historia = criarHistoria(projeto);
+        String url = "/api/sprints/projeto/" + projeto.getId();
+
+        String etag = mockMvc.perform(get(url).contextPath("/api"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].totalHistorias").value(0))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get(url).contextPath("/api").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        // O UPDATE em lote não passa pelo @PreUpdate, mas grava updated_at
+        mockMvc.perform(post("/api/sprints/" + sprint.getId() + "/historias/alocar").contextPath("/api")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new AlocacaoEmLoteRequest(List.of(historia.getId())))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get(url).contextPath("/api").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].totalHistorias").value(1));
+    }
+
+    private UserStory criarHistoria(Projeto projeto) {
+        return userStoryRepository.save(UserStory.builder()
+                .papel("usuário")
+                .acao("fazer login")
+                .beneficio("acessar conta")
+                .prioridade(UserStory.Prioridade.ALTA)
+                .estimativa("4 tarefas")
+                .projeto(projeto)
+                .build());
+    }
+}
@@ -1,15 +1,35 @@
 package com.growup.controller;
 
 import com.growup.dto.UploadDocumentoRequest;
+import com.growup.model.Projeto;
+import com.growup.model.UserStory;
+import com.growup.repository.ProjetoRepository;
+import com.growup.repository.UserStoryRepository;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -24,6 +44,12 @@ class UploadControllerIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private ProjetoRepository projetoRepository;
+
+    @Autowired
+    private UserStoryRepository userStoryRepository;
+
     @Test
     void testUploadDocumento() throws Exception {
         UploadDocumentoRequest request = UploadDocumentoRequest.builder()
@@ -32,7 +58,7 @@ class UploadControllerIntegrationTest {
                 .contextoAdicional("Contexto do projeto")
                 .build();
 
-        mockMvc.perform(post("/api/projetos/upload")
+        mockMvc.perform(post("/api/projetos/upload").contextPath("/api")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isCreated())
@@ -40,17 +66,250 @@ class UploadControllerIntegrationTest {
                 .andExpect(jsonPath("$.totalHistorias").exists());
     }
 
+    @Test
+    void testUploadArquivo() throws Exception {
+        MockMultipartFile arquivo = new MockMultipartFile("arquivo", "spec.md", "text/markdown",
+                "# Especificação\n\nComo um usuário, eu quero fazer login.\n".getBytes(StandardCharsets.UTF_8));
+
+        mockMvc.perform(multipart("/api/projetos/upload/arquivo").file(arquivo).contextPath("/api")
+                .param("nomeProjeto", "Projeto Arquivo")
+                .param("contextoAdicional", "Contexto do projeto"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.nome").value("Projeto Arquivo"))
+                .andExpect(jsonPath("$.totalHistorias").value(3));
+    }
+
+    @Test
+    void testUploadArquivoEmVariosBlocosAplicaFallbackUmaVezPorDocumento() throws Exception {
+        // Acima de upload.documento.tamanho-bloco: o texto é extraído em mais de um bloco
+        StringBuilder conteudo = new StringBuilder("# Especificação\n\n");
+        for (int i = 0; conteudo.length() < 80_000; i++) {
+            conteudo.append("Como um usuário, eu quero consultar o relatório ").append(i).append(".\n\n");
+        }
+        MockMultipartFile arquivo = new MockMultipartFile("arquivo", "spec.md", "text/markdown",
+                conteudo.toString().getBytes(StandardCharsets.UTF_8));
+
+        mockMvc.perform(multipart("/api/projetos/upload/arquivo").file(arquivo).contextPath("/api")
+                .param("nomeProjeto", "Projeto Arquivo Grande"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.totalHistorias").value(3));
+    }
+
+    @Test
+    void testUploadArquivoFormatoNaoSuportado() throws Exception {
+        MockMultipartFile arquivo = new MockMultipartFile("arquivo", "spec.pdf", "application/pdf", new byte[]{1, 2, 3});
+
+        mockMvc.perform(multipart("/api/projetos/upload/arquivo").file(arquivo).contextPath("/api")
+                .param("nomeProjeto", "Projeto PDF"))
+                .andExpect(status().isUnsupportedMediaType());
+    }
+
+    @Test
+    void testUploadDocxSemDocumentoERecusadoSemCriarProjeto() throws Exception {
+        assertDocxRecusado("Projeto DOCX Sem Documento", docx("word/styles.xml", "<w:styles/>"));
+    }
+
+    @Test
+    void testUploadDocxQueNaoEZipERecusadoSemCriarProjeto() throws Exception {
+        assertDocxRecusado("Projeto DOCX Não Zip", "não é um zip".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testUploadDocxComXmlCorrompidoERecusadoERemoveProjeto() throws Exception {
+        // Estrutura válida: o erro só aparece na extração, depois de o projeto ser criado
+        assertDocxRecusado("Projeto DOCX XML Corrompido", docx("word/document.xml", "<w:document><w:body>"));
+    }
+
+    private void assertDocxRecusado(String nomeProjeto, byte[] conteudo) throws Exception {
+        MockMultipartFile arquivo = new MockMultipartFile("arquivo", "spec.docx",
+                "application/vnd.openxmlformats-officedocument.wordprocessingml.document", conteudo);
+
+        mockMvc.perform(multipart("/api/projetos/upload/arquivo").file(arquivo).contextPath("/api")
+                .param("nomeProjeto", nomeProjeto))
+                .andExpect(status().isUnsupportedMediaType());
+
+        assertTrue(projetoRepository.findAll().stream().noneMatch(p -> nomeProjeto.equals(p.getNome())),
+                "Projeto criado para documento recusado");
+    }
+
+    private static byte[] docx(String entrada, String conteudo) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            zip.putNextEntry(new ZipEntry(entrada));
+            zip.write(conteudo.getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        }
+        return bytes.toByteArray();
+    }
+
+    @Test
+    void testUploadDocumentoEmFluxo() throws Exception {
+        UploadDocumentoRequest request = UploadDocumentoRequest.builder()
+                .nomeProjeto("Projeto Stream")
+                .conteudoDocumento("Como um usuário, eu quero fazer login")
+                .contextoAdicional("Contexto do projeto")
+                .build();
+
+        MvcResult resultado = mockMvc.perform(post("/api/projetos/upload/stream").contextPath("/api")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        resultado.getAsyncResult(10_000);
+
+        String eventos = resultado.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertEquals(3, eventos.split("event:historia", -1).length - 1);
+        assertTrue(eventos.indexOf("event:historia") < eventos.indexOf("event:resumo"));
+        assertTrue(eventos.contains("\"nome\":\"Projeto Stream\""));
+        assertTrue(eventos.contains("\"totalHistorias\":3"));
+    }
+
+    @Test
+    void testPaginacaoPorCursorPercorreTodasAsHistorias() throws Exception {
+        Projeto projeto = criarProjetoComHistorias("Projeto Paginado", 5);
+
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        int paginas = 0;
+        do {
+            var requisicao = get("/api/projetos/" + projeto.getId() + "/historias/pagina").contextPath("/api")
+                    .param("limite", "2");
+            if (cursor != null) {
+                requisicao.param("cursor", cursor);
+            }
+            JsonNode pagina = objectMapper.readTree(mockMvc.perform(requisicao)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8));
+            pagina.get("itens").forEach(item -> ids.add(item.get("id").asLong()));
+            cursor = pagina.get("next").isNull() ? null : pagina.get("next").asText();
+            paginas++;
+        } while (cursor != null);
+
+        assertEquals(3, paginas);
+        assertEquals(5, ids.size());
+        assertEquals(ids.stream().sorted().toList(), ids);
+
+        mockMvc.perform(get("/api/projetos/" + projeto.getId() + "/historias/pagina").contextPath("/api")
+                .param("cursor", "invalido"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testStreamDeHistoriasRetornaArrayCompleto() throws Exception {
+        Projeto projeto = criarProjetoComHistorias("Projeto Stream JSON", 7);
+
+        MvcResult resultado = mockMvc.perform(get("/api/projetos/" + projeto.getId() + "/historias/stream")
+                .contextPath("/api"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(resultado)).andExpect(status().isOk());
+
+        JsonNode historias = objectMapper.readTree(resultado.getResponse().getContentAsString(StandardCharsets.UTF_8));
+        assertEquals(7, historias.size());
+        assertEquals("ação 0", historias.get(0).get("acao").asText());
+    }
+
+    @Test
+    void testUploadDocumentoAssincrono() throws Exception {
+        UploadDocumentoRequest request = UploadDocumentoRequest.builder()
+                .nomeProjeto("Projeto Assíncrono")
+                .conteudoDocumento("Como um usuário, eu quero fazer login")
+                .contextoAdicional("Contexto do projeto")
+                .build();
+
+        String corpo = mockMvc.perform(post("/api/projetos/upload/async").contextPath("/api")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.projetoId").exists())
+                .andExpect(jsonPath("$.status").value("PENDENTE"))
+                .andReturn().getResponse().getContentAsString();
+        long jobId = objectMapper.readTree(corpo).get("jobId").asLong();
+
+        String status = "PENDENTE";
+        for (int tentativa = 0; tentativa < 50 && !"CONCLUIDO".equals(status); tentativa++) {
+            Thread.sleep(100);
+            String resposta = mockMvc.perform(get("/api/projetos/processamentos/" + jobId).contextPath("/api"))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            status = objectMapper.readTree(resposta).get("status").asText();
+        }
+
+        assertEquals("CONCLUIDO", status);
+    }
+
     @Test
     void testListarHistorias() throws Exception {
-        mockMvc.perform(get("/api/projetos/1/historias")
+        mockMvc.perform(get("/api/projetos/1/historias").contextPath("/api")
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk());
     }
 
     @Test
     void testListarHistoriasNaoAlocadas() throws Exception {
-        mockMvc.perform(get("/api/projetos/1/historias/nao-alocadas")
+        mockMvc.perform(get("/api/projetos/1/historias/nao-alocadas").contextPath("/api")
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk());
     }
+
+    @Test
+    void testGetCondicionalRetorna304AteAlteracaoNoProjeto() throws Exception {
+        Projeto projeto = criarProjetoComHistorias("Projeto ETag", 3);
+        String url = "/api/projetos/" + projeto.getId() + "/historias";
+
+        String etag = mockMvc.perform(get(url).contextPath("/api"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+
+        mockMvc.perform(get(url).contextPath("/api").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/api/projetos/" + projeto.getId() + "/roadmap").contextPath("/api")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        UserStory historia = userStoryRepository.findByProjetoId(projeto.getId()).get(0);
+        mockMvc.perform(put("/api/historias/" + historia.getId()).contextPath("/api")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"papel\":\"gerente\",\"acao\":\"revisar\",\"beneficio\":\"qualidade\"," +
+                                "\"prioridade\":\"ALTA\",\"estimativa\":\"1 tarefa\"}"))
+                .andExpect(status().isOk());
+
+        String novoEtag = mockMvc.perform(get(url).contextPath("/api").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.papel == 'gerente')]").exists())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(etag, novoEtag);
+
+        // Exclusão muda a contagem, mesmo sem alterar a maior data
+        mockMvc.perform(delete("/api/historias/" + historia.getId()).contextPath("/api"))
+                .andExpect(status().is2xxSuccessful());
+        mockMvc.perform(get(url + "/pagina").contextPath("/api").header(HttpHeaders.IF_NONE_MATCH, novoEtag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens.length()").value(2));
+    }
+
+    @Test
+    void testGetCondicionalDeProjetoInexistenteNaoGeraEtag() throws Exception {
+        mockMvc.perform(get("/api/projetos/999999/roadmap").contextPath("/api").header(HttpHeaders.IF_NONE_MATCH, "*"))
+                .andExpect(status().isNotFound())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+
+    private Projeto criarProjetoComHistorias(String nome, int quantidade) {
+        Projeto projeto = projetoRepository.save(Projeto.builder().nome(nome).build());
+        for (int i = 0; i < quantidade; i++) {
+            userStoryRepository.save(UserStory.builder()
+                    .papel("usuário")
+                    .acao("ação " + i)
+                    .beneficio("benefício")
+                    .prioridade(UserStory.Prioridade.MEDIA)
+                    .estimativa("2 tarefas")
+                    .projeto(projeto)
+                    .build());
+        }
+        return projeto;
+    }
 }
@@ -0,0 +1,213 @@
+package com.growup.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.growup.config.ProtecaoJiraProperties;
+import com.growup.dto.JiraSyncResultDTO;
+import com.growup.model.UserStory;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testa o cliente contra um servidor HTTP local que simula o endpoint de criação em
+ * lote do Jira: a cada requisição, o item na posição 1 é rejeitado e os demais aceitos.
+ */
+class JiraClientImplTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Integer> tamanhosDosLotes = new CopyOnWriteArrayList<>();
+    private final ProtecaoJiraProperties configProtecao = new ProtecaoJiraProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ProtecaoJira protecao;
+    private HttpServer jiraStub;
+    private JiraClientImpl jiraClient;
+    private int proximaIssue = 100;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        jiraStub = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        jiraStub.createContext("/rest/api/3/issue/bulk", this::responderLote);
+        jiraStub.createContext("/rest/api/3/issue", exchange ->
+                responder(exchange, 201, "{\"id\":\"10000\",\"key\":\"GROWUP-1\",\"self\":\"http://jira/10000\"}"));
+        jiraStub.start();
+
+        configProtecao.setEsperaInicial(Duration.ofMillis(10));
+        configProtecao.setEsperaMaxima(Duration.ofSeconds(5));
+        configProtecao.setLimiarFalhas(2);
+        protecao = new ProtecaoJira(configProtecao, meterRegistry);
+        jiraClient = new JiraClientImpl(WebClient.builder().build(), objectMapper, protecao, meterRegistry);
+        ReflectionTestUtils.setField(jiraClient, "jiraApiUrl", "http://localhost:" + jiraStub.getAddress().getPort());
+        ReflectionTestUtils.setField(jiraClient, "jiraEmail", "teste@growup.com");
+        ReflectionTestUtils.setField(jiraClient, "jiraToken", "token");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jiraStub.stop(0);
+    }
+
+    @Test
+    void testCriarIssue() {
+        assertEquals("GROWUP-1", jiraClient.criarIssue(historia(1L), "GROWUP"));
+    }
+
+    @Test
+    void testCriarIssuesEmLoteMapeiaErrosParaAHistoriaCerta() {
+        List<UserStory> historias = List.of(historia(1L), historia(2L), historia(3L));
+
+        List<JiraSyncResultDTO> resultados = jiraClient.criarIssuesEmLote(historias, "GROWUP").block();
+
+        assertEquals(3, resultados.size());
+        assertEquals(1L, resultados.get(0).getHistoriaId());
+        assertEquals("GROWUP-100", resultados.get(0).getJiraIssueKey());
+        assertFalse(resultados.get(1).getSucesso());
+        assertEquals(2L, resultados.get(1).getHistoriaId());
+        assertTrue(resultados.get(1).getErro().contains("summary"));
+        assertEquals(3L, resultados.get(2).getHistoriaId());
+        assertEquals("GROWUP-101", resultados.get(2).getJiraIssueKey());
+    }
+
+    @Test
+    void testCriarIssuesEmLoteDivideEmLotesDeCinquenta() {
+        List<UserStory> historias = LongStream.rangeClosed(1, 120).mapToObj(this::historia).toList();
+
+        List<JiraSyncResultDTO> resultados = jiraClient.criarIssuesEmLote(historias, "GROWUP").block();
+
+        assertEquals(List.of(50, 50, 20), tamanhosDosLotes);
+        assertEquals(120, resultados.size());
+        assertEquals(117, resultados.stream().filter(JiraSyncResultDTO::getSucesso).count());
+        for (int i = 0; i < historias.size(); i++) {
+            assertEquals(historias.get(i).getId(), resultados.get(i).getHistoriaId());
+        }
+    }
+
+    @Test
+    void testCriarIssuesEmLoteFalhaTodasQuandoJiraRecusaRequisicao() {
+        jiraStub.removeContext("/rest/api/3/issue/bulk");
+        jiraStub.createContext("/rest/api/3/issue/bulk", exchange -> responder(exchange, 401, ""));
+
+        List<JiraSyncResultDTO> resultados = jiraClient.criarIssuesEmLote(List.of(historia(1L), historia(2L)), "GROWUP").block();
+
+        assertTrue(resultados.stream().noneMatch(JiraSyncResultDTO::getSucesso));
+        assertTrue(resultados.get(0).getErro().contains("401"));
+    }
+
+    @Test
+    void testRespeitaRetryAfterEReduzTaxaQuandoJiraLimita() {
+        AtomicInteger chamadas = new AtomicInteger();
+        jiraStub.removeContext("/rest/api/3/issue/bulk");
+        jiraStub.createContext("/rest/api/3/issue/bulk", exchange -> {
+            if (chamadas.incrementAndGet() == 1) {
+                exchange.getResponseHeaders().add("Retry-After", "1");
+                responder(exchange, 429, "");
+            } else {
+                responderLote(exchange);
+            }
+        });
+
+        long inicio = System.nanoTime();
+        List<JiraSyncResultDTO> resultados = jiraClient.criarIssuesEmLote(List.of(historia(1L)), "GROWUP").block();
+
+        assertTrue(resultados.get(0).getSucesso());
+        assertEquals(2, chamadas.get());
+        assertTrue(Duration.ofNanos(System.nanoTime() - inicio).toMillis() >= 900);
+        assertEquals(1L, protecao.estatisticas().getRespostasLimitadas());
+        assertEquals(1L, protecao.estatisticas().getNovasTentativas());
+        assertTrue(protecao.estatisticas().getTaxaAtual() < configProtecao.getTaxaInicial());
+    }
+
+    @Test
+    void testCriarIssueRepeteSoFalhasTransitoriasEPropagaOErro() {
+        AtomicInteger chamadas = new AtomicInteger();
+        jiraStub.removeContext("/rest/api/3/issue");
+        jiraStub.createContext("/rest/api/3/issue", exchange -> {
+            chamadas.incrementAndGet();
+            responder(exchange, 503, "");
+        });
+        configProtecao.setLimiarFalhas(10);
+
+        RuntimeException erro = assertThrows(RuntimeException.class, () -> jiraClient.criarIssue(historia(1L), "GROWUP"));
+
+        assertTrue(erro.getMessage().contains("503"));
+        assertEquals(configProtecao.getTentativas(), chamadas.get());
+    }
+
+    @Test
+    void testCircuitoAbreAposFalhasSeguidasERecusaSemChamarJira() {
+        AtomicInteger chamadas = new AtomicInteger();
+        jiraStub.removeContext("/rest/api/3/issue/bulk");
+        jiraStub.createContext("/rest/api/3/issue/bulk", exchange -> {
+            chamadas.incrementAndGet();
+            responder(exchange, 500, "");
+        });
+
+        for (int i = 0; i < 3; i++) {
+            jiraClient.criarIssuesEmLote(List.of(historia(1L)), "GROWUP").block();
+        }
+        List<JiraSyncResultDTO> recusados = jiraClient.criarIssuesEmLote(List.of(historia(2L)), "GROWUP").block();
+
+        // 500 não é repetido (a issue pode ter sido criada): uma chamada por lote até o circuito abrir
+        assertEquals(2, chamadas.get());
+        assertFalse(recusados.get(0).getSucesso());
+        assertTrue(recusados.get(0).getErro().contains("suspensas"));
+        assertEquals("ABERTO", protecao.estatisticas().getCircuito());
+        assertEquals(2L, protecao.estatisticas().getRecusadasPeloCircuito());
+    }
+
+    private void responderLote(HttpExchange exchange) throws IOException {
+        JsonNode issueUpdates = objectMapper.readTree(exchange.getRequestBody()).path("issueUpdates");
+        tamanhosDosLotes.add(issueUpdates.size());
+
+        List<String> issues = new ArrayList<>();
+        for (int i = 0; i < issueUpdates.size(); i++) {
+            if (i != 1) {
+                int numero = proximaIssue++;
+                issues.add("{\"id\":\"" + numero + "\",\"key\":\"GROWUP-" + numero + "\"}");
+            }
+        }
+        String erros = issueUpdates.size() > 1
+                ? "{\"status\":400,\"elementErrors\":{\"errorMessages\":[],\"errors\":{\"summary\":\"obrigatório\"}},\"failedElementNumber\":1}"
+                : "";
+
+        responder(exchange, 201, "{\"issues\":[" + String.join(",", issues) + "],\"errors\":[" + erros + "]}");
+    }
+
+    private void responder(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+
+    private UserStory historia(long id) {
+        return UserStory.builder()
+                .id(id)
+                .papel("usuário")
+                .acao("ação " + id)
+                .beneficio("benefício")
+                .prioridade(UserStory.Prioridade.MEDIA)
+                .estimativa("2 tarefas")
+                .build();
+    }
+}
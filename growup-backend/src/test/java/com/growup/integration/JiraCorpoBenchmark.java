@@ -0,0 +1,60 @@
+package com.growup.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.growup.model.UserStory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Corpo da criação de issue e leitura da chave na resposta do Jira. Executado por
+ * {@code JmhBenchmarkTest}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JiraCorpoBenchmark {
+
+    private static final String RESPOSTA = "{\"id\":\"10042\",\"key\":\"GROW-42\","
+            + "\"self\":\"https://growup.atlassian.net/rest/api/3/issue/10042\"}";
+
+    private JiraClientImpl jiraClient;
+    private UserStory historia;
+
+    @Setup
+    public void preparar() {
+        // Só o ObjectMapper é usado pelos métodos medidos
+        jiraClient = new JiraClientImpl(null, new ObjectMapper(), null, null);
+        historia = UserStory.builder()
+                .id(42L)
+                .papel("gerente de projeto")
+                .acao("acompanhar o andamento das sprints")
+                .beneficio("antecipar atrasos na entrega")
+                .prioridade(UserStory.Prioridade.MEDIA)
+                .estimativa("5 tarefas")
+                .build();
+    }
+
+    @Benchmark
+    public Map<String, Object> construirCorpoRequisicao() {
+        return JiraClientImpl.construirCorpoRequisicao(historia, "GROW");
+    }
+
+    @Benchmark
+    public String extrairIssueKey() {
+        return jiraClient.extrairIssueKey(RESPOSTA);
+    }
+}
@@ -0,0 +1,86 @@
+package com.growup.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Simula um banco criado pelas versões anteriores às migrações ({@code ddl-auto=update}):
+ * o schema da época já existe, com dados, antes de a aplicação subir. O Flyway precisa
+ * marcar a V1 como baseline, aplicar as versões seguintes e o Hibernate validar as
+ * entidades contra o resultado.
+ */
+@SpringBootTest(properties = "processamento.workers.habilitado=false")
+@ActiveProfiles("test")
+class MigracaoBaselineIntegrationTest {
+
+    private static final String URL = "jdbc:h2:mem:baseline;DB_CLOSE_DELAY=-1";
+
+    @DynamicPropertySource
+    static void criarSchemaAnterior(DynamicPropertyRegistry registry) throws SQLException {
+        try (Connection conexao = DriverManager.getConnection(URL, "sa", "");
+             Statement comando = conexao.createStatement()) {
+            comando.execute("create table projetos (id bigint generated by default as identity, "
+                    + "nome varchar(255) not null, descricao text, contexto_adicional text, "
+                    + "jira_project_key varchar(255), created_at timestamp(6), updated_at timestamp(6), "
+                    + "primary key (id))");
+            comando.execute("create table sprints (id bigint generated by default as identity, "
+                    + "titulo varchar(255) not null, periodo varchar(255) not null, projeto_id bigint not null, "
+                    + "created_at timestamp(6), updated_at timestamp(6), primary key (id))");
+            comando.execute("create table user_stories (id bigint generated by default as identity, "
+                    + "papel varchar(255) not null, acao varchar(255) not null, beneficio varchar(255) not null, "
+                    + "prioridade varchar(255) not null, estimativa varchar(255) not null, projeto_id bigint, "
+                    + "sprint_id bigint, jira_issue_key varchar(255), created_at timestamp(6), "
+                    + "updated_at timestamp(6), primary key (id))");
+            comando.execute("alter table sprints add constraint fk_sprints_projeto "
+                    + "foreign key (projeto_id) references projetos");
+            comando.execute("alter table user_stories add constraint fk_user_stories_projeto "
+                    + "foreign key (projeto_id) references projetos");
+            comando.execute("alter table user_stories add constraint fk_user_stories_sprint "
+                    + "foreign key (sprint_id) references sprints");
+            comando.execute("insert into projetos (nome, created_at, updated_at) "
+                    + "values ('Projeto Existente', current_timestamp, current_timestamp)");
+            comando.execute("insert into user_stories (papel, acao, beneficio, prioridade, estimativa, projeto_id) "
+                    + "values ('usuário', 'fazer login', 'acessar o sistema', 'ALTA', '2 tarefas', 1)");
+        }
+        registry.add("spring.datasource.url", () -> URL);
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserStoryRepository userStoryRepository;
+
+    @Test
+    void testBancoAnteriorRecebeBaselineEMigraAteAUltimaVersao() {
+        List<Map<String, Object>> historico = jdbcTemplate.queryForList(
+                "SELECT \"version\", \"type\", \"success\" FROM \"flyway_schema_history\" "
+                        + "WHERE \"version\" IS NOT NULL ORDER BY \"installed_rank\"");
+        assertEquals("1", historico.get(0).get("version"));
+        assertEquals("BASELINE", historico.get(0).get("type"));
+        assertTrue(historico.size() > 1, "Nenhuma migração aplicada após o baseline");
+        historico.forEach(migracao -> assertEquals(true, migracao.get("success"), migracao.toString()));
+
+        // Tabelas criadas depois da V1 precisam existir também em bancos com baseline
+        for (String tabela : List.of("processing_jobs", "jira_sync_jobs", "jira_sync_job_itens", "ai_cache_entries")) {
+            assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + tabela, Integer.class), tabela);
+        }
+
+        // Os dados anteriores continuam acessíveis pelas entidades validadas
+        assertEquals(1, userStoryRepository.findResumosByProjetoId(1L).size());
+    }
+}
@@ -0,0 +1,444 @@
+package com.growup.repository;
+
+import com.growup.model.AICacheEntry;
+import com.growup.model.JiraSyncJob;
+import com.growup.model.JiraSyncJobItem;
+import com.growup.model.ProcessingJob;
+import com.growup.model.Projeto;
+import com.growup.model.Sprint;
+import com.growup.model.UserStory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Executa cada consulta declarada nos repositórios sobre uma massa de dados, captura o
+ * SQL gerado (com os parâmetros) e roda {@code EXPLAIN} sobre ele. Falha se algum plano
+ * fizer varredura completa de tabela, o que indica índice faltando nas migrações. Roda
+ * em H2; {@link PlanoConsultasPostgresIntegrationTest} repete as verificações no
+ * PostgreSQL e confere os índices parciais que só existem lá.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:planos",
+        "processamento.workers.habilitado=false"
+})
+@ActiveProfiles("test")
+class PlanoConsultasIntegrationTest {
+
+    private static final List<Class<?>> REPOSITORIOS = List.of(
+            UserStoryRepository.class, SprintRepository.class, ProjetoRepository.class,
+            ProcessingJobRepository.class, JiraSyncJobRepository.class, JiraSyncJobItemRepository.class,
+            AICacheEntryRepository.class);
+
+    @TestConfiguration
+    static class Configuracao {
+        @Bean
+        static CapturadorSql capturadorSql() {
+            return new CapturadorSql();
+        }
+    }
+
+    @Autowired private UserStoryRepository userStoryRepository;
+    @Autowired private SprintRepository sprintRepository;
+    @Autowired private ProjetoRepository projetoRepository;
+    @Autowired private ProcessingJobRepository processingJobRepository;
+    @Autowired private JiraSyncJobRepository jiraSyncJobRepository;
+    @Autowired private JiraSyncJobItemRepository jiraSyncJobItemRepository;
+    @Autowired private AICacheEntryRepository aiCacheEntryRepository;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private DataSource dataSource;
+
+    /** Consultas que só têm índice próprio no PostgreSQL (índices parciais da V3). */
+    private static final Map<String, String> INDICES_POSTGRESQL = Map.of(
+            "UserStoryRepository.findPaginaSincronizadas", "idx_user_stories_jira_sincronizadas",
+            "UserStoryRepository.findPaginaNaoSincronizadas", "idx_user_stories_jira_pendentes");
+
+    private final Map<String, Runnable> consultas = new LinkedHashMap<>();
+
+    @Test
+    void testConsultasDosRepositoriosUsamIndices() throws SQLException {
+        Massa massa = popular();
+        // Atualiza as estatísticas de seletividade usadas pelo otimizador (H2 e PostgreSQL)
+        jdbcTemplate.execute("ANALYZE");
+        boolean postgres = postgres();
+        registrarConsultas(massa);
+
+        Set<String> naoCobertas = REPOSITORIOS.stream()
+                .flatMap(r -> Arrays.stream(r.getDeclaredMethods())
+                        .filter(m -> !m.isSynthetic())
+                        .map(m -> r.getSimpleName() + "." + m.getName()))
+                .filter(nome -> !consultas.containsKey(nome))
+                .collect(Collectors.toCollection(TreeSet::new));
+        assertTrue(naoCobertas.isEmpty(), "Consultas sem verificação de plano: " + naoCobertas);
+
+        List<String> varreduras = new ArrayList<>();
+        List<String> semIndiceEsperado = new ArrayList<>();
+        for (Map.Entry<String, Runnable> consulta : consultas.entrySet()) {
+            List<CapturadorSql.Comando> comandos = CapturadorSql.capturar(() ->
+                    transactionTemplate.executeWithoutResult(status -> {
+                        consulta.getValue().run();
+                        status.setRollbackOnly();
+                    }));
+            assertFalse(comandos.isEmpty(), "Nenhum SQL capturado para " + consulta.getKey());
+
+            List<String> planos = new ArrayList<>();
+            for (CapturadorSql.Comando comando : comandos) {
+                String plano = explicar(comando, postgres);
+                planos.add(plano);
+                if (plano.contains(postgres ? "Seq Scan" : "tableScan")) {
+                    varreduras.add(consulta.getKey() + "\n  " + plano.replace("\n", "\n  "));
+                }
+            }
+            String indice = INDICES_POSTGRESQL.get(consulta.getKey());
+            if (postgres && indice != null && planos.stream().noneMatch(plano -> plano.contains(indice))) {
+                semIndiceEsperado.add(consulta.getKey() + " (" + indice + ")\n  "
+                        + String.join("\n", planos).replace("\n", "\n  "));
+            }
+        }
+
+        assertTrue(varreduras.isEmpty(), "Varredura completa de tabela em:\n" + String.join("\n", varreduras));
+        assertTrue(semIndiceEsperado.isEmpty(), "Plano sem o índice esperado em:\n"
+                + String.join("\n", semIndiceEsperado));
+    }
+
+    private void registrarConsultas(Massa m) {
+        LocalDateTime agora = LocalDateTime.now();
+        List<Long> ids = List.of(m.historia().getId(), m.historia().getId() + 1);
+        PageRequest pagina = PageRequest.of(0, 51);
+
+        consulta(UserStoryRepository.class, "findByProjetoId", () -> userStoryRepository.findByProjetoId(m.projeto().getId()));
+        consulta(UserStoryRepository.class, "findBySprintId", () -> userStoryRepository.findBySprintId(m.sprint().getId()));
+        consulta(UserStoryRepository.class, "findByProjetoIdAndSprintIsNull",
+                () -> userStoryRepository.findByProjetoIdAndSprintIsNull(m.projeto().getId()));
+        consulta(UserStoryRepository.class, "findResumosByProjetoId",
+                () -> userStoryRepository.findResumosByProjetoId(m.projeto().getId()));
+        consulta(UserStoryRepository.class, "findResumosNaoAlocadosByProjetoId",
+                () -> userStoryRepository.findResumosNaoAlocadosByProjetoId(m.projeto().getId()));
+        consulta(UserStoryRepository.class, "findPaginaResumos",
+                () -> userStoryRepository.findPaginaResumos(m.projeto().getId(), 0L, true, pagina));
+        consulta(UserStoryRepository.class, "findPaginaSincronizadas",
+                () -> userStoryRepository.findPaginaSincronizadas(m.projeto().getId(), 0L, pagina));
+        consulta(UserStoryRepository.class, "findPaginaNaoSincronizadas",
+                () -> userStoryRepository.findPaginaNaoSincronizadas(m.projeto().getId(), 0L, pagina));
+        consulta(UserStoryRepository.class, "findSincronizacaoResumo",
+                () -> userStoryRepository.findSincronizacaoResumo(m.projeto().getId()));
+        consulta(UserStoryRepository.class, "streamResumos", () -> {
+            try (Stream<?> resumos = userStoryRepository.streamResumos(m.projeto().getId(), false)) {
+                resumos.count();
+            }
+        });
+        consulta(UserStoryRepository.class, "alocarEmSprint",
+                () -> userStoryRepository.alocarEmSprint(m.sprint().getId(), ids, agora));
+        consulta(UserStoryRepository.class, "desalocarDeSprint",
+                () -> userStoryRepository.desalocarDeSprint(m.sprint().getId(), ids, agora));
+        consulta(UserStoryRepository.class, "desalocarTodasDaSprint",
+                () -> userStoryRepository.desalocarTodasDaSprint(m.sprint().getId(), agora));
+        consulta(UserStoryRepository.class, "excluirLotePorProjeto",
+                () -> userStoryRepository.excluirLotePorProjeto(m.projeto().getId(), 50));
+
+        consulta(SprintRepository.class, "findByProjetoId", () -> sprintRepository.findByProjetoId(m.projeto().getId()));
+        consulta(SprintRepository.class, "findResumosByProjetoId",
+                () -> sprintRepository.findResumosByProjetoId(m.projeto().getId()));
+        consulta(SprintRepository.class, "excluir", () -> sprintRepository.excluir(m.sprintVazia().getId()));
+        consulta(SprintRepository.class, "excluirPorProjeto",
+                () -> sprintRepository.excluirPorProjeto(m.projetoSemHistorias().getId()));
+
+        consulta(ProjetoRepository.class, "findResumoById", () -> projetoRepository.findResumoById(m.projeto().getId()));
+        consulta(ProjetoRepository.class, "findVersaoById", () -> projetoRepository.findVersaoById(m.projeto().getId()));
+        consulta(ProjetoRepository.class, "excluir", () -> projetoRepository.excluir(m.projetoVazio().getId()));
+
+        consulta(ProcessingJobRepository.class, "travarDisponiveis",
+                () -> processingJobRepository.travarDisponiveis(agora, 5));
+        consulta(ProcessingJobRepository.class, "findFirstByProjetoIdAndTipoAndStatusIn",
+                () -> processingJobRepository.findFirstByProjetoIdAndTipoAndStatusIn(m.projeto().getId(),
+                        ProcessingJob.Tipo.PURGAR_PROJETO,
+                        List.of(ProcessingJob.Status.PENDENTE, ProcessingJob.Status.EM_PROCESSAMENTO)));
+        consulta(ProcessingJobRepository.class, "renovarLease",
+                () -> processingJobRepository.renovarLease(List.of(m.processingJob().getId()), "no-a",
+                        ProcessingJob.Status.EM_PROCESSAMENTO, agora, agora.plusMinutes(1)));
+        consulta(ProcessingJobRepository.class, "finalizar",
+                () -> processingJobRepository.finalizar(m.processingJob().getId(), "no-a",
+                        ProcessingJob.Status.EM_PROCESSAMENTO, ProcessingJob.Status.CONCLUIDO, null, agora));
+        consulta(ProcessingJobRepository.class, "devolverParaFila",
+                () -> processingJobRepository.devolverParaFila(m.processingJob().getId(), "no-a",
+                        ProcessingJob.Status.EM_PROCESSAMENTO, ProcessingJob.Status.PENDENTE, "erro", agora));
+
+        consulta(JiraSyncJobRepository.class, "findIdsByStatus",
+                () -> jiraSyncJobRepository.findIdsByStatus(JiraSyncJob.Status.EM_ANDAMENTO));
+        consulta(JiraSyncJobRepository.class, "reivindicar",
+                () -> jiraSyncJobRepository.reivindicar(m.jiraSyncJob().getId(), "no-a", JiraSyncJob.Status.PENDENTE,
+                        JiraSyncJob.Status.EM_ANDAMENTO, agora));
+        consulta(JiraSyncJobRepository.class, "registrarHeartbeat",
+                () -> jiraSyncJobRepository.registrarHeartbeat(List.of(m.jiraSyncJob().getId()), "no-a",
+                        JiraSyncJob.Status.EM_ANDAMENTO, agora));
+        consulta(JiraSyncJobRepository.class, "finalizar",
+                () -> jiraSyncJobRepository.finalizar(m.jiraSyncJob().getId(), "no-a", JiraSyncJob.Status.EM_ANDAMENTO,
+                        JiraSyncJob.Status.CONCLUIDO, agora, agora));
+        consulta(JiraSyncJobRepository.class, "liberarExpirados",
+                () -> jiraSyncJobRepository.liberarExpirados(JiraSyncJob.Status.EM_ANDAMENTO,
+                        JiraSyncJob.Status.PENDENTE, agora.minusMinutes(5), 3));
+        consulta(JiraSyncJobRepository.class, "falharExpirados",
+                () -> jiraSyncJobRepository.falharExpirados(JiraSyncJob.Status.EM_ANDAMENTO,
+                        JiraSyncJob.Status.FALHA, agora.minusMinutes(5), 3, agora));
+
+        consulta(JiraSyncJobItemRepository.class, "findByJobIdOrderById",
+                () -> jiraSyncJobItemRepository.findByJobIdOrderById(m.jiraSyncJob().getId()));
+        consulta(JiraSyncJobItemRepository.class, "findByJobIdAndHistoriaIdIn",
+                () -> jiraSyncJobItemRepository.findByJobIdAndHistoriaIdIn(m.jiraSyncJob().getId(), ids));
+        consulta(JiraSyncJobItemRepository.class, "findHistoriaIds",
+                () -> jiraSyncJobItemRepository.findHistoriaIds(m.jiraSyncJob().getId(),
+                        JiraSyncJobItem.Status.PENDENTE, PageRequest.of(0, 10)));
+        consulta(JiraSyncJobItemRepository.class, "contarPorStatus",
+                () -> jiraSyncJobItemRepository.contarPorStatus(m.jiraSyncJob().getId()));
+
+        consulta(AICacheEntryRepository.class, "removerExpiradas", () -> aiCacheEntryRepository.removerExpiradas(agora));
+    }
+
+    private void consulta(Class<?> repositorio, String metodo, Runnable chamada) {
+        consultas.put(repositorio.getSimpleName() + "." + metodo, chamada);
+    }
+
+    private boolean postgres() throws SQLException {
+        try (Connection conexao = dataSource.getConnection()) {
+            return "PostgreSQL".equals(conexao.getMetaData().getDatabaseProductName());
+        }
+    }
+
+    /**
+     * No PostgreSQL a massa cabe em poucas páginas e o otimizador preferiria varrer a
+     * tabela mesmo com índice; com {@code enable_seqscan} desligado, um {@code Seq Scan}
+     * no plano só aparece quando nenhum índice serve.
+     */
+    private String explicar(CapturadorSql.Comando comando, boolean postgres) throws SQLException {
+        try (Connection conexao = dataSource.getConnection()) {
+            if (!postgres) {
+                return explicar(conexao, comando);
+            }
+            try (Statement configuracao = conexao.createStatement()) {
+                configuracao.execute("SET enable_seqscan = off");
+                try {
+                    return explicar(conexao, comando);
+                } finally {
+                    configuracao.execute("RESET enable_seqscan");
+                }
+            }
+        }
+    }
+
+    private String explicar(Connection conexao, CapturadorSql.Comando comando) throws SQLException {
+        try (PreparedStatement explain = conexao.prepareStatement("EXPLAIN " + comando.sql())) {
+            for (Map.Entry<Integer, Object> parametro : comando.parametros().entrySet()) {
+                if (parametro.getValue() == null) {
+                    explain.setNull(parametro.getKey(), Types.NULL);
+                } else {
+                    explain.setObject(parametro.getKey(), parametro.getValue());
+                }
+            }
+            StringBuilder plano = new StringBuilder();
+            try (ResultSet rs = explain.executeQuery()) {
+                while (rs.next()) {
+                    plano.append(rs.getString(1)).append('\n');
+                }
+            }
+            return plano.toString().strip();
+        }
+    }
+
+    private record Massa(Projeto projeto, Projeto projetoSemHistorias, Projeto projetoVazio, Sprint sprint,
+                         Sprint sprintVazia, UserStory historia, ProcessingJob processingJob, JiraSyncJob jiraSyncJob) {
+    }
+
+    private Massa popular() {
+        List<Projeto> projetos = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            projetos.add(Projeto.builder().nome("Projeto " + i).descricao("Descrição " + i).build());
+        }
+        projetos = projetoRepository.saveAll(projetos);
+        Projeto projetoSemHistorias = projetoRepository.save(Projeto.builder().nome("Sem histórias").build());
+        Projeto projetoVazio = projetoRepository.save(Projeto.builder().nome("Vazio").build());
+
+        List<Sprint> sprints = new ArrayList<>();
+        for (Projeto projeto : projetos) {
+            for (int s = 0; s < 4; s++) {
+                sprints.add(Sprint.builder().titulo("Semana " + s).periodo("01/01 - 07/01").projeto(projeto).build());
+            }
+        }
+        sprints.add(Sprint.builder().titulo("Semana 1").periodo("01/01 - 07/01").projeto(projetoSemHistorias).build());
+        sprints = sprintRepository.saveAll(sprints);
+        Sprint sprintVazia = sprintRepository.save(Sprint.builder()
+                .titulo("Vazia").periodo("01/01 - 07/01").projeto(projetos.get(0)).build());
+
+        // Agrupadas por projeto, como num upload: intercaladas, cada projeto ocuparia todas as
+        // páginas da tabela e o PostgreSQL trocaria os índices por projeto por bitmap scans
+        List<UserStory> historias = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            int indiceProjeto = i * projetos.size() / 2_000;
+            historias.add(UserStory.builder()
+                    .papel("usuário")
+                    .acao("ação " + i)
+                    .beneficio("benefício " + i)
+                    .prioridade(UserStory.Prioridade.values()[i % 3])
+                    .estimativa("2 tarefas")
+                    .projeto(projetos.get(indiceProjeto))
+                    .sprint(i % 3 == 0 ? sprints.get(indiceProjeto * 4 + i % 4) : null)
+                    .jiraIssueKey(i % 4 == 0 ? "GROWUP-" + i : null)
+                    .build());
+        }
+        historias = userStoryRepository.saveAll(historias);
+
+        List<ProcessingJob> jobs = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            jobs.add(ProcessingJob.builder()
+                    .tipo(ProcessingJob.Tipo.PROCESSAR_DOCUMENTO)
+                    .status(i % 20 == 0 ? ProcessingJob.Status.PENDENTE : ProcessingJob.Status.CONCLUIDO)
+                    .projetoId(projetos.get(i % projetos.size()).getId())
+                    .tentativas(1)
+                    .build());
+        }
+        jobs = processingJobRepository.saveAll(jobs);
+
+        List<JiraSyncJob> jiraJobs = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            jiraJobs.add(JiraSyncJob.builder()
+                    .jiraProjectKey("GROWUP")
+                    .status(i % 10 == 0 ? JiraSyncJob.Status.EM_ANDAMENTO : JiraSyncJob.Status.CONCLUIDO)
+                    .total(20)
+                    .executor(i % 10 == 0 ? "no-a" : null)
+                    .tentativas(1)
+                    .build());
+        }
+        jiraJobs = jiraSyncJobRepository.saveAll(jiraJobs);
+
+        List<JiraSyncJobItem> itens = new ArrayList<>();
+        for (JiraSyncJob job : jiraJobs) {
+            for (int i = 0; i < 20; i++) {
+                itens.add(JiraSyncJobItem.builder()
+                        .jobId(job.getId())
+                        .historiaId(historias.get(i).getId())
+                        .status(JiraSyncJobItem.Status.SUCESSO)
+                        .build());
+            }
+        }
+        jiraSyncJobItemRepository.saveAll(itens);
+
+        List<AICacheEntry> entradas = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            entradas.add(AICacheEntry.builder()
+                    .chave(String.format("%064d", i))
+                    .resposta("[]")
+                    .expiraEm(LocalDateTime.now().plusDays(i))
+                    .build());
+        }
+        aiCacheEntryRepository.saveAll(entradas);
+
+        return new Massa(projetos.get(0), projetoSemHistorias, projetoVazio, sprints.get(0), sprintVazia,
+                historias.get(0), jobs.get(0), jiraJobs.get(0));
+    }
+
+    /**
+     * Envolve o {@link DataSource} para registrar o SQL e os parâmetros de cada comando
+     * preparado executado pela thread que está capturando.
+     */
+    static class CapturadorSql implements BeanPostProcessor {
+
+        record Comando(String sql, Map<Integer, Object> parametros) {
+        }
+
+        private static final ThreadLocal<List<Comando>> capturados = new ThreadLocal<>();
+
+        static List<Comando> capturar(Runnable chamada) {
+            List<Comando> comandos = new ArrayList<>();
+            capturados.set(comandos);
+            try {
+                chamada.run();
+            } finally {
+                capturados.remove();
+            }
+            return comandos;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof DataSource ds) {
+                return envolver(ds, DataSource.class, (alvo, metodo, args) -> {
+                    Object resultado = metodo.invoke(alvo, args);
+                    return resultado instanceof Connection conexao ? envolverConexao(conexao) : resultado;
+                });
+            }
+            return bean;
+        }
+
+        private static Connection envolverConexao(Connection conexao) {
+            return envolver(conexao, Connection.class, (alvo, metodo, args) -> {
+                Object resultado = metodo.invoke(alvo, args);
+                if (resultado instanceof PreparedStatement comando && metodo.getName().startsWith("prepare")) {
+                    return envolverComando(comando, (String) args[0]);
+                }
+                return resultado;
+            });
+        }
+
+        private static PreparedStatement envolverComando(PreparedStatement comando, String sql) {
+            Map<Integer, Object> parametros = new TreeMap<>();
+            return envolver(comando, PreparedStatement.class, (alvo, metodo, args) -> {
+                String nome = metodo.getName();
+                if (nome.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer indice) {
+                    parametros.put(indice, nome.equals("setNull") ? null : args[1]);
+                } else if (nome.startsWith("execute") && capturados.get() != null) {
+                    capturados.get().add(new Comando(sql, new TreeMap<>(parametros)));
+                }
+                return metodo.invoke(alvo, args);
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T envolver(T alvo, Class<T> tipo, Interceptador interceptador) {
+            InvocationHandler handler = (proxy, metodo, args) -> {
+                try {
+                    return interceptador.invocar(alvo, metodo, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            };
+            return (T) Proxy.newProxyInstance(tipo.getClassLoader(), new Class<?>[]{tipo}, handler);
+        }
+
+        @FunctionalInterface
+        private interface Interceptador {
+            Object invocar(Object alvo, Method metodo, Object[] args) throws Throwable;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.growup.repository;
+
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * {@link PlanoConsultasIntegrationTest} no PostgreSQL, onde existem os índices parciais
+ * de {@code postgresql/V3__indices_jira.sql}. Usa {@code -Dplanos.banco.url} (banco
+ * vazio, criado só para o teste) ou, sem ele, um contêiner do Testcontainers. Sem
+ * nenhum dos dois, o teste é ignorado.
+ */
+@EnabledIf("postgresDisponivel")
+@Import(PlanoConsultasIntegrationTest.Configuracao.class)
+class PlanoConsultasPostgresIntegrationTest extends PlanoConsultasIntegrationTest {
+
+    private static final String URL = System.getProperty("planos.banco.url");
+
+    static boolean postgresDisponivel() {
+        return URL != null || DockerClientFactory.instance().isDockerAvailable();
+    }
+
+    @DynamicPropertySource
+    static void configurarBanco(DynamicPropertyRegistry registry) {
+        if (URL != null) {
+            registry.add("spring.datasource.url", () -> URL);
+            registry.add("spring.datasource.username", () -> System.getProperty("planos.banco.usuario", "postgres"));
+            registry.add("spring.datasource.password", () -> System.getProperty("planos.banco.senha", "postgres"));
+        } else {
+            // Encerrado pelo Testcontainers ao fim da JVM
+            PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+            postgres.start();
+            registry.add("spring.datasource.url", postgres::getJdbcUrl);
+            registry.add("spring.datasource.username", postgres::getUsername);
+            registry.add("spring.datasource.password", postgres::getPassword);
+        }
+        registry.add("spring.datasource.driverClassName", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+    }
+}
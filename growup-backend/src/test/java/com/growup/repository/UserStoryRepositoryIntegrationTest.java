@@ -0,0 +1,66 @@
+package com.growup.repository;
+
+import com.growup.model.Projeto;
+import com.growup.model.UserStory;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:inserirlote",
+        "processamento.workers.habilitado=false"
+})
+@ActiveProfiles("test")
+class UserStoryRepositoryIntegrationTest {
+
+    @Autowired
+    private UserStoryRepository userStoryRepository;
+
+    @Autowired
+    private ProjetoRepository projetoRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void testInserirEmLoteDesanexaApenasAsHistoriasInseridas() {
+        Long projetoId = projetoRepository.save(Projeto.builder().nome("Projeto Lote").build()).getId();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Projeto projeto = projetoRepository.findById(projetoId).orElseThrow();
+            projeto.setDescricao("Alterada antes da ingestão");
+
+            // Mais de um lote de hibernate.jdbc.batch_size, com um lote incompleto no fim
+            List<UserStory> historias = new ArrayList<>();
+            for (int i = 0; i < 120; i++) {
+                historias.add(UserStory.builder()
+                        .papel("usuário")
+                        .acao("ação " + i)
+                        .beneficio("benefício")
+                        .prioridade(UserStory.Prioridade.MEDIA)
+                        .estimativa("2 tarefas")
+                        .projeto(projeto)
+                        .build());
+            }
+            List<UserStory> salvas = userStoryRepository.inserirEmLote(historias);
+
+            assertTrue(entityManager.contains(projeto), "Projeto do chamador foi desanexado");
+            assertTrue(salvas.stream().allMatch(h -> h.getId() != null));
+            assertTrue(salvas.stream().noneMatch(entityManager::contains));
+        });
+
+        assertEquals("Alterada antes da ingestão", projetoRepository.findById(projetoId).orElseThrow().getDescricao());
+        assertEquals(120, userStoryRepository.findResumosByProjetoId(projetoId).size());
+    }
+}
@@ -0,0 +1,117 @@
+package com.growup.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.growup.dto.CacheEstatisticasDTO;
+import com.growup.model.AICacheEntry;
+import com.growup.model.UserStory;
+import com.growup.repository.AICacheEntryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AICacheServiceTest {
+
+    @Mock
+    private AICacheEntryRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AICacheService aiCacheService;
+
+    private final AtomicInteger chamadasIA = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        aiCacheService = new AICacheService(repository, new ObjectMapper(), transactionManager);
+        ReflectionTestUtils.setField(aiCacheService, "maxEntradasMemoria", 10);
+        ReflectionTestUtils.setField(aiCacheService, "ttlMinutos", 60L);
+        aiCacheService.iniciar();
+    }
+
+    @Test
+    void testSegundaChamadaUsaCacheEmMemoria() {
+        when(repository.findById(anyString())).thenReturn(Optional.empty());
+
+        List<UserStory> primeira = aiCacheService.obter("Documento  do projeto\n", false, this::gerar);
+        List<UserStory> segunda = aiCacheService.obter("Documento do projeto", false, this::gerar);
+
+        assertEquals(1, chamadasIA.get());
+        assertEquals(primeira.get(0).getAcao(), segunda.get(0).getAcao());
+        assertNotSame(primeira.get(0), segunda.get(0));
+        verify(repository, times(1)).findById(anyString());
+        verify(repository, times(1)).save(any(AICacheEntry.class));
+
+        CacheEstatisticasDTO estatisticas = aiCacheService.estatisticas();
+        assertEquals(1, estatisticas.getHitsMemoria());
+        assertEquals(1, estatisticas.getMisses());
+        assertEquals(0.5, estatisticas.getTaxaAcerto());
+    }
+
+    @Test
+    void testEntradaPersistidaSobreviveAoRestart() {
+        ArgumentCaptor<AICacheEntry> gravada = ArgumentCaptor.forClass(AICacheEntry.class);
+        aiCacheService.obter("Documento", true, this::gerar);
+        verify(repository).save(gravada.capture());
+
+        // Nova instância, sem nada em memória, lendo a entrada gravada pela anterior
+        setUp();
+        when(repository.findById(gravada.getValue().getChave())).thenReturn(Optional.of(gravada.getValue()));
+
+        List<UserStory> historias = aiCacheService.obter("Documento", false, this::gerar);
+
+        assertEquals(1, chamadasIA.get());
+        assertEquals("fazer login", historias.get(0).getAcao());
+        assertEquals(UserStory.Prioridade.ALTA, historias.get(0).getPrioridade());
+        assertEquals(1, aiCacheService.estatisticas().getHitsPersistente());
+    }
+
+    @Test
+    void testEntradaExpiradaEIgnorarCacheGeramNovamente() {
+        when(repository.findById(anyString())).thenReturn(Optional.of(AICacheEntry.builder()
+                .chave(AICacheService.gerarChave("Documento"))
+                .resposta("[]")
+                .expiraEm(LocalDateTime.now().minusMinutes(1))
+                .build()));
+
+        aiCacheService.obter("Documento", false, this::gerar);
+        aiCacheService.obter("Documento", true, this::gerar);
+
+        assertEquals(2, chamadasIA.get());
+        assertEquals(1, aiCacheService.estatisticas().getIgnorados());
+        verify(repository, times(1)).findById(anyString());
+    }
+
+    @Test
+    void testChaveNormalizaEspacosEUnicode() {
+        assertEquals(AICacheService.gerarChave("Ação  do\tusuário "),
+                AICacheService.gerarChave("Ação do usuário"));
+        assertNotEquals(AICacheService.gerarChave("Documento A"), AICacheService.gerarChave("Documento B"));
+    }
+
+    private List<UserStory> gerar() {
+        chamadasIA.incrementAndGet();
+        return List.of(UserStory.builder()
+                .papel("usuário")
+                .acao("fazer login")
+                .beneficio("acessar conta")
+                .prioridade(UserStory.Prioridade.ALTA)
+                .estimativa("4 tarefas")
+                .build());
+    }
+}
@@ -0,0 +1,151 @@
+package com.growup.service;
+
+import com.growup.dto.CacheEstatisticasDTO;
+import com.growup.dto.SprintDTO;
+import com.growup.dto.UserStoryDTO;
+import com.growup.model.Projeto;
+import com.growup.model.Sprint;
+import com.growup.model.UserStory;
+import com.growup.repository.ProjetoRepository;
+import com.growup.repository.SprintRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:cache",
+        "processamento.workers.habilitado=false",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("test")
+class CacheLeituraIntegrationTest {
+
+    @Autowired
+    private CacheLeituraService cacheLeituraService;
+
+    @Autowired
+    private UserStoryService userStoryService;
+
+    @Autowired
+    private SprintService sprintService;
+
+    @Autowired
+    private ProjetoRepository projetoRepository;
+
+    @Autowired
+    private SprintRepository sprintRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Projeto projeto;
+    private Sprint sprint;
+    private List<UserStory> historias;
+
+    @BeforeEach
+    void setUp() {
+        cacheLeituraService.limpar();
+        projeto = projetoRepository.save(Projeto.builder().nome("Projeto Cache").build());
+        sprint = sprintService.criarSprint(Sprint.builder()
+                .titulo("Semana 1")
+                .periodo("05/11 - 12/11")
+                .projeto(projeto)
+                .build());
+        historias = userStoryService.salvarHistorias(projeto.getId(),
+                userStoryService.gerarHistorias("documento", "contexto"));
+    }
+
+    @Test
+    void testListagemServidaDoCacheAteAEscrita() {
+        CacheEstatisticasDTO antes = estatisticas("historias-por-projeto");
+        List<UserStoryDTO> primeira = userStoryService.listarHistoriasPorProjeto(projeto.getId());
+        assertSame(primeira, userStoryService.listarHistoriasPorProjeto(projeto.getId()));
+        assertEquals(antes.getHitsMemoria() + 1, estatisticas("historias-por-projeto").getHitsMemoria());
+
+        UserStoryDTO original = primeira.get(0);
+        userStoryService.atualizarHistoria(original.getId(), UserStoryDTO.builder()
+                .papel("auditor")
+                .acao(original.getAcao())
+                .beneficio(original.getBeneficio())
+                .prioridade(original.getPrioridade())
+                .estimativa(original.getEstimativa())
+                .build());
+
+        List<UserStoryDTO> depois = userStoryService.listarHistoriasPorProjeto(projeto.getId());
+        assertNotSame(primeira, depois);
+        assertEquals("auditor", depois.get(0).getPapel());
+        assertEquals(antes.getMisses() + 2, estatisticas("historias-por-projeto").getMisses());
+    }
+
+    @Test
+    void testProjetoESprintLidosDoSegundoNivel() {
+        Statistics estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estatisticas.clear();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            assertTrue(projetoRepository.findById(projeto.getId()).isPresent());
+            assertTrue(sprintRepository.findById(sprint.getId()).isPresent());
+        });
+
+        assertTrue(estatisticas.getDomainDataRegionStatistics("projetos").getHitCount() >= 1);
+        assertEquals(1L, estatisticas.getDomainDataRegionStatistics("sprints").getHitCount());
+        assertEquals(0L, estatisticas.getPrepareStatementCount());
+        assertTrue(cacheLeituraService.estatisticas().stream()
+                .anyMatch(e -> e.getNome().equals("hibernate:projetos") && e.getTaxaAcerto() == 1.0));
+    }
+
+    @Test
+    void testAlocacaoEmLoteInvalidaSoOProjeto() {
+        Projeto outro = projetoRepository.save(Projeto.builder().nome("Outro Projeto").build());
+        assertEquals(0, sprintService.listarResumosPorProjeto(projeto.getId()).get(0).getTotalHistorias());
+        sprintService.listarResumosPorProjeto(outro.getId());
+        long hits = estatisticas("sprints-por-projeto").getHitsMemoria();
+
+        sprintService.alocarHistoriasEmLote(sprint.getId(), historias.stream().map(UserStory::getId).toList());
+
+        List<SprintDTO> resumos = sprintService.listarResumosPorProjeto(projeto.getId());
+        assertEquals(historias.size(), resumos.get(0).getTotalHistorias());
+        sprintService.listarResumosPorProjeto(outro.getId());
+        assertEquals(hits + 1, estatisticas("sprints-por-projeto").getHitsMemoria());
+        // O UPDATE nativo declara a tabela afetada e não esvazia as regiões do segundo nível
+        assertTrue(entityManagerFactory.getCache().contains(Projeto.class, projeto.getId()));
+        assertTrue(entityManagerFactory.getCache().contains(Sprint.class, sprint.getId()));
+    }
+
+    @Test
+    void testInvalidacaoDeOutraInstancia() {
+        userStoryService.listarHistoriasPorProjeto(projeto.getId());
+        assertTrue(entityManagerFactory.getCache().contains(Projeto.class, projeto.getId()));
+
+        cacheLeituraService.aoReceberInvalidacao(projeto.getId().toString());
+
+        assertEquals(0L, estatisticas("historias-por-projeto").getTamanho());
+        assertFalse(entityManagerFactory.getCache().contains(Projeto.class, projeto.getId()));
+        assertFalse(entityManagerFactory.getCache().contains(Sprint.class, sprint.getId()));
+
+        cacheLeituraService.aoReceberInvalidacao("inválida");
+        cacheLeituraService.aoReceberInvalidacao(CanalInvalidacaoCache.TODOS);
+        assertEquals(0L, estatisticas("sprints-por-projeto").getTamanho());
+    }
+
+    private CacheEstatisticasDTO estatisticas(String nome) {
+        return cacheLeituraService.estatisticas().stream()
+                .filter(e -> e.getNome().equals(nome))
+                .findFirst()
+                .orElseThrow();
+    }
+}
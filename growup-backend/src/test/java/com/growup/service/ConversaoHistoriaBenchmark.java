@@ -0,0 +1,60 @@
+package com.growup.service;
+
+import com.growup.dto.UserStoryDTO;
+import com.growup.model.Sprint;
+import com.growup.model.UserStory;
+import com.growup.repository.projecao.HistoriaResumo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversão de uma história para {@code UserStoryDTO}, a partir da entidade e da
+ * projeção {@code HistoriaResumo}. Executado por {@code JmhBenchmarkTest}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConversaoHistoriaBenchmark {
+
+    private UserStory historia;
+    private HistoriaResumo resumo;
+
+    @Setup
+    public void preparar() {
+        historia = UserStory.builder()
+                .id(42L)
+                .papel("gerente de projeto")
+                .acao("acompanhar o andamento das sprints")
+                .beneficio("antecipar atrasos na entrega")
+                .prioridade(UserStory.Prioridade.ALTA)
+                .estimativa("5 tarefas")
+                .sprint(Sprint.builder().id(7L).build())
+                .jiraIssueKey("GROW-42")
+                .build();
+        resumo = new HistoriaResumo(42L, historia.getPapel(), historia.getAcao(), historia.getBeneficio(),
+                historia.getPrioridade(), historia.getEstimativa(), 7L, historia.getJiraIssueKey());
+    }
+
+    @Benchmark
+    public UserStoryDTO converterEntidade() {
+        return UserStoryService.converterParaDTO(historia);
+    }
+
+    @Benchmark
+    public UserStoryDTO converterProjecao() {
+        return UserStoryService.converterParaDTO(resumo);
+    }
+}
@@ -0,0 +1,45 @@
+package com.growup.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DocumentoSegmentadorTest {
+
+    private final DocumentoSegmentador segmentador = new DocumentoSegmentador();
+
+    @Test
+    void testSecoesRespeitamOrcamentoEParagrafos() {
+        StringBuilder documento = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            documento.append("Requisito ").append(i).append(": como usuário eu quero acessar o sistema.\n\n");
+        }
+
+        List<String> secoes = segmentador.segmentar(documento.toString(), 100);
+
+        assertTrue(secoes.size() > 1);
+        assertTrue(secoes.stream().allMatch(s -> DocumentoSegmentador.contarTokens(s) <= 100));
+        assertTrue(secoes.get(0).startsWith("Requisito 0:"));
+        assertTrue(secoes.get(secoes.size() - 1).endsWith("Requisito 199: como usuário eu quero acessar o sistema."));
+    }
+
+    @Test
+    void testParagrafoMaiorQueOrcamentoEDivididoEmFrases() {
+        String paragrafo = "O sistema deve permitir login. ".repeat(50).strip();
+
+        List<String> secoes = segmentador.segmentar(paragrafo, 40);
+
+        assertTrue(secoes.size() > 1);
+        assertTrue(secoes.stream().allMatch(s -> DocumentoSegmentador.contarTokens(s) <= 40));
+        assertTrue(secoes.stream().allMatch(s -> s.endsWith("login.")));
+        assertEquals(paragrafo, String.join(" ", secoes));
+    }
+
+    @Test
+    void testDocumentoVazio() {
+        assertTrue(segmentador.segmentar("  \n\n ", 100).isEmpty());
+        assertEquals(List.of("Curto."), segmentador.segmentar("Curto.", 100));
+    }
+}
@@ -0,0 +1,72 @@
+package com.growup.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExtratorTextoDocumentoTest {
+
+    private final ExtratorTextoDocumento extrator = new ExtratorTextoDocumento();
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    void testExtrairTextoEmBlocosLimitados() throws IOException {
+        Path arquivo = diretorio.resolve("spec.md");
+        try (var writer = Files.newBufferedWriter(arquivo, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < 2_000; i++) {
+                writer.write("Parágrafo " + i + ": como usuário eu quero acessar o sistema.\n");
+            }
+        }
+
+        List<String> blocos = new ArrayList<>();
+        extrator.extrair(arquivo, ExtratorTextoDocumento.Formato.TEXTO, 4_000, blocos::add);
+
+        assertTrue(blocos.size() > 1);
+        assertTrue(blocos.stream().allMatch(b -> b.length() <= 4_000));
+        // Os cortes acontecem em quebras de linha, sem perder conteúdo
+        assertTrue(blocos.stream().allMatch(b -> b.endsWith("\n")));
+        assertEquals(Files.readString(arquivo), String.join("", blocos));
+    }
+
+    @Test
+    void testExtrairDocx() throws IOException {
+        Path arquivo = diretorio.resolve("spec.docx");
+        try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(arquivo))) {
+            zip.putNextEntry(new ZipEntry("word/document.xml"));
+            OutputStream out = zip;
+            out.write(("<?xml version=\"1.0\" encoding=\"UTF-8\"?>" +
+                    "<w:document xmlns:w=\"http://schemas.openxmlformats.org/wordprocessingml/2006/main\"><w:body>" +
+                    "<w:p><w:r><w:t>Como gerente,</w:t></w:r><w:r><w:t xml:space=\"preserve\"> quero relatórios</w:t></w:r></w:p>" +
+                    "<w:p><w:r><w:t>Login obrigatório</w:t></w:r></w:p>" +
+                    "</w:body></w:document>").getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        }
+
+        List<String> blocos = new ArrayList<>();
+        extrator.extrair(arquivo, ExtratorTextoDocumento.Formato.DOCX, 1_000, blocos::add);
+
+        assertEquals(List.of("Como gerente, quero relatórios\nLogin obrigatório\n"), blocos);
+    }
+
+    @Test
+    void testDetectarFormato() {
+        assertEquals(ExtratorTextoDocumento.Formato.TEXTO, ExtratorTextoDocumento.detectarFormato("spec.md", null));
+        assertEquals(ExtratorTextoDocumento.Formato.TEXTO, ExtratorTextoDocumento.detectarFormato("spec", "text/plain"));
+        assertEquals(ExtratorTextoDocumento.Formato.DOCX, ExtratorTextoDocumento.detectarFormato("Spec.DOCX", null));
+        assertThrows(IllegalArgumentException.class,
+                () -> ExtratorTextoDocumento.detectarFormato("spec.pdf", "application/pdf"));
+    }
+}
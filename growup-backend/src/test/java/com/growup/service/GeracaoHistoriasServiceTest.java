@@ -0,0 +1,167 @@
+package com.growup.service;
+
+import com.growup.model.UserStory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GeracaoHistoriasServiceTest {
+
+    private static final Pattern SECAO = Pattern.compile("Seção (\\d+) de");
+
+    @Mock
+    private AIService aiService;
+
+    private GeracaoHistoriasService geracaoHistoriasService;
+
+    @BeforeEach
+    void setUp() {
+        geracaoHistoriasService = new GeracaoHistoriasService(aiService, new DocumentoSegmentador());
+        ReflectionTestUtils.setField(geracaoHistoriasService, "tokensPorSecao", 50);
+        ReflectionTestUtils.setField(geracaoHistoriasService, "concorrencia", 3);
+        geracaoHistoriasService.iniciarExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        geracaoHistoriasService.encerrarExecutor();
+    }
+
+    @Test
+    void testSecoesSaoGeradasEmParaleloRespeitandoLimite() {
+        AtomicInteger emAndamento = new AtomicInteger();
+        AtomicInteger maximo = new AtomicInteger();
+        when(aiService.gerarHistorias(anyString(), anyBoolean())).thenAnswer(inv -> {
+            maximo.accumulateAndGet(emAndamento.incrementAndGet(), Math::max);
+            Thread.sleep(50);
+            emAndamento.decrementAndGet();
+            Matcher secao = SECAO.matcher(inv.getArgument(0));
+            assertTrue(secao.find());
+            return List.of(historia("usuário", "executar passo " + secao.group(1), UserStory.Prioridade.MEDIA));
+        });
+
+        List<UserStory> historias = geracaoHistoriasService.gerar(documento(10), "Contexto", false);
+
+        int secoes = historias.size();
+        assertTrue(secoes > 3);
+        verify(aiService, times(secoes)).gerarHistorias(anyString(), eq(false));
+        assertTrue(maximo.get() > 1);
+        assertTrue(maximo.get() <= 3);
+        // Ordem determinística: mesma prioridade, ordenado pela seção de origem
+        assertEquals("executar passo 1", historias.get(0).getAcao());
+        assertEquals("executar passo " + secoes, historias.get(secoes - 1).getAcao());
+    }
+
+    @Test
+    void testReduzirRemoveDuplicatasEPriorizaDeFormaDeterministica() {
+        List<List<UserStory>> porSecao = List.of(
+                List.of(historia("usuário", "Fazer login", UserStory.Prioridade.MEDIA),
+                        historia("gerente", "ver relatórios", UserStory.Prioridade.BAIXA)),
+                List.of(historia("Usuário", "fazer  login.", UserStory.Prioridade.ALTA),
+                        historia("vendedor", "registrar vendas", UserStory.Prioridade.BAIXA)),
+                List.of(historia("gerente", "Ver relatórios", UserStory.Prioridade.BAIXA)));
+
+        List<UserStory> historias = GeracaoHistoriasService.reduzir(porSecao);
+
+        assertEquals(3, historias.size());
+        assertEquals("Fazer login", historias.get(0).getAcao());
+        assertEquals(UserStory.Prioridade.ALTA, historias.get(0).getPrioridade());
+        // Entre as de prioridade BAIXA, a que apareceu em mais seções vem primeiro
+        assertEquals("ver relatórios", historias.get(1).getAcao());
+        assertEquals("registrar vendas", historias.get(2).getAcao());
+    }
+
+    @Test
+    void testSecoesConcluidasEmOrdemInversaProduzemOMesmoResultado() {
+        int secoes = new DocumentoSegmentador().segmentar(documento(4), 50).size();
+        assertTrue(secoes > 1);
+        // Todas as seções em paralelo, cada uma só termina depois da seguinte
+        geracaoHistoriasService.encerrarExecutor();
+        ReflectionTestUtils.setField(geracaoHistoriasService, "concorrencia", secoes);
+        geracaoHistoriasService.iniciarExecutor();
+        List<CountDownLatch> concluidas = new ArrayList<>();
+        for (int i = 0; i <= secoes; i++) {
+            concluidas.add(new CountDownLatch(i == secoes ? 0 : 1));
+        }
+        when(aiService.gerarHistorias(anyString(), anyBoolean())).thenAnswer(inv -> {
+            Matcher matcher = SECAO.matcher(inv.getArgument(0));
+            assertTrue(matcher.find());
+            int secao = Integer.parseInt(matcher.group(1));
+            assertTrue(concluidas.get(secao).await(5, TimeUnit.SECONDS));
+            concluidas.get(secao - 1).countDown();
+            UserStory login = historia("usuário", "fazer login", UserStory.Prioridade.BAIXA);
+            login.setBeneficio("benefício da seção " + secao);
+            login.setEstimativa(secao + " tarefas");
+            return List.of(login, historia("usuário", "executar passo " + secao, UserStory.Prioridade.MEDIA));
+        });
+        List<UserStory> entregues = new ArrayList<>();
+
+        List<UserStory> historias = geracaoHistoriasService.gerar(documento(4), "Contexto", false, entregues::addAll);
+
+        assertEquals(secoes + 1, historias.size());
+        assertEquals("executar passo 1", historias.get(0).getAcao());
+        UserStory login = historias.get(historias.size() - 1);
+        assertEquals("fazer login", login.getAcao());
+        // Campos da ocorrência da seção 1, mantendo a instância entregue primeiro
+        assertEquals("benefício da seção 1", login.getBeneficio());
+        assertEquals("1 tarefas", login.getEstimativa());
+        assertSame(entregues.stream().filter(h -> h.getAcao().equals("fazer login")).findFirst().orElseThrow(), login);
+        assertEquals(historias.size(), entregues.size());
+    }
+
+    @Test
+    void testSecaoComFalhaEDescartadaEFalhaTotalEPropagada() {
+        when(aiService.gerarHistorias(anyString(), anyBoolean())).thenAnswer(inv -> {
+            String prompt = inv.getArgument(0);
+            if (prompt.contains("Seção 1 de")) {
+                throw new IllegalStateException("IA indisponível");
+            }
+            return List.of(historia("usuário", "fazer login", UserStory.Prioridade.ALTA));
+        });
+
+        List<UserStory> historias = geracaoHistoriasService.gerar(documento(4), "Contexto", false);
+        assertEquals(1, historias.size());
+
+        reset(aiService);
+        when(aiService.gerarHistorias(anyString(), anyBoolean())).thenThrow(new IllegalStateException("IA indisponível"));
+        assertThrows(RuntimeException.class, () -> geracaoHistoriasService.gerar(documento(4), "Contexto", false));
+    }
+
+    private String documento(int paragrafos) {
+        StringBuilder documento = new StringBuilder();
+        for (int i = 0; i < paragrafos; i++) {
+            documento.append("Requisito ").append(i).append(": ")
+                    .append("como usuário eu quero acessar o sistema e consultar os pedidos. ".repeat(3))
+                    .append("\n\n");
+        }
+        return documento.toString();
+    }
+
+    private UserStory historia(String papel, String acao, UserStory.Prioridade prioridade) {
+        return UserStory.builder()
+                .papel(papel)
+                .acao(acao)
+                .beneficio("benefício")
+                .prioridade(prioridade)
+                .estimativa("2 tarefas")
+                .build();
+    }
+}
@@ -0,0 +1,169 @@
+package com.growup.service;
+
+import com.growup.dto.JiraSyncResultDTO;
+import com.growup.model.Projeto;
+import com.growup.model.UserStory;
+import com.growup.repository.UserStoryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JiraServiceTest {
+
+    @Mock
+    private UserStoryRepository userStoryRepository;
+
+    @Mock
+    private JiraClient jiraClient;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private CacheLeituraService cacheLeituraService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private JiraService jiraService;
+
+    private UserStory historia1;
+    private UserStory historia2;
+
+    @BeforeEach
+    void setUp() {
+        jiraService = new JiraService(userStoryRepository, jiraClient, new TransactionTemplate(transactionManager),
+                cacheLeituraService, meterRegistry);
+        ReflectionTestUtils.setField(jiraService, "concorrencia", 4);
+        ReflectionTestUtils.setField(jiraService, "tamanhoLote", 50);
+
+        Projeto projeto = Projeto.builder().id(10L).nome("Projeto Teste").build();
+
+        historia1 = UserStory.builder()
+                .id(1L)
+                .papel("usuário")
+                .acao("fazer login")
+                .beneficio("acessar conta")
+                .prioridade(UserStory.Prioridade.ALTA)
+                .estimativa("4 tarefas")
+                .projeto(projeto)
+                .build();
+
+        historia2 = UserStory.builder()
+                .id(2L)
+                .papel("gerente")
+                .acao("ver relatórios")
+                .beneficio("decidir")
+                .prioridade(UserStory.Prioridade.MEDIA)
+                .estimativa("2 tarefas")
+                .projeto(projeto)
+                .build();
+    }
+
+    @Test
+    void testSincronizarHistoriasEmParaleloReportaResultadoPorHistoria() {
+        when(userStoryRepository.findAllById(List.of(1L, 2L, 3L))).thenReturn(List.of(historia1, historia2));
+        when(userStoryRepository.findAllById(List.of(1L))).thenReturn(List.of(historia1));
+        when(jiraClient.criarIssuesEmLote(List.of(historia1, historia2), "GROWUP"))
+                .thenReturn(Mono.just(List.of(
+                        JiraSyncResultDTO.sucesso(1L, "GROWUP-1"),
+                        JiraSyncResultDTO.falha(2L, "Jira indisponível"))));
+
+        List<JiraSyncResultDTO> resultados = jiraService.sincronizarHistoriasEmParalelo(List.of(1L, 2L, 3L), "GROWUP");
+
+        assertEquals(3, resultados.size());
+        assertTrue(resultados.get(0).getSucesso());
+        assertEquals("GROWUP-1", resultados.get(0).getJiraIssueKey());
+        assertFalse(resultados.get(1).getSucesso());
+        assertEquals("Jira indisponível", resultados.get(1).getErro());
+        assertFalse(resultados.get(2).getSucesso());
+        assertEquals("GROWUP-1", historia1.getJiraIssueKey());
+        assertNull(historia2.getJiraIssueKey());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void testSincronizarHistoriasEmParaleloMarcaFalhaQuandoLoteInteiroFalha() {
+        when(userStoryRepository.findAllById(List.of(1L))).thenReturn(List.of(historia1));
+        when(jiraClient.criarIssuesEmLote(List.of(historia1), "GROWUP"))
+                .thenReturn(Mono.error(new RuntimeException("Timeout")));
+
+        List<JiraSyncResultDTO> resultados = jiraService.sincronizarHistoriasEmParalelo(List.of(1L), "GROWUP");
+
+        assertFalse(resultados.get(0).getSucesso());
+        assertEquals("Timeout", resultados.get(0).getErro());
+        verify(transactionManager, never()).commit(any());
+    }
+
+    @Test
+    void testSincronizarHistoriasEmParaleloGravaEmLotes() {
+        ReflectionTestUtils.setField(jiraService, "tamanhoLote", 1);
+        when(userStoryRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(historia1, historia2));
+        when(userStoryRepository.findAllById(List.of(1L))).thenReturn(List.of(historia1));
+        when(userStoryRepository.findAllById(List.of(2L))).thenReturn(List.of(historia2));
+        when(jiraClient.criarIssuesEmLote(List.of(historia1, historia2), "GROWUP"))
+                .thenReturn(Mono.just(List.of(
+                        JiraSyncResultDTO.sucesso(1L, "GROWUP-1"),
+                        JiraSyncResultDTO.sucesso(2L, "GROWUP-2"))));
+
+        List<JiraSyncResultDTO> resultados = jiraService.sincronizarHistoriasEmParalelo(List.of(1L, 2L), "GROWUP");
+
+        assertTrue(resultados.stream().allMatch(JiraSyncResultDTO::getSucesso));
+        assertEquals("GROWUP-1", historia1.getJiraIssueKey());
+        assertEquals("GROWUP-2", historia2.getJiraIssueKey());
+        verify(transactionManager, times(2)).commit(any());
+        verify(userStoryRepository, never()).save(any(UserStory.class));
+        verify(cacheLeituraService, times(2)).invalidarProjeto(10L);
+    }
+
+    @Test
+    void testSincronizarHistoriasComJiraRetornaFalhasEmVezDeOmiti() {
+        when(userStoryRepository.findById(1L)).thenReturn(Optional.of(historia1));
+        when(userStoryRepository.findById(2L)).thenReturn(Optional.of(historia2));
+        when(jiraClient.criarIssue(historia1, "GROWUP")).thenReturn("GROWUP-1");
+        when(jiraClient.criarIssue(historia2, "GROWUP"))
+                .thenThrow(new RuntimeException("Erro ao sincronizar com Jira: Jira limitou as requisições (HTTP 429)"));
+
+        List<JiraSyncResultDTO> resultados = jiraService.sincronizarHistoriasComJira(List.of(1L, 2L), "GROWUP");
+
+        assertTrue(resultados.get(0).getSucesso());
+        assertEquals("GROWUP-1", resultados.get(0).getJiraIssueKey());
+        assertFalse(resultados.get(1).getSucesso());
+        assertTrue(resultados.get(1).getErro().contains("429"));
+        assertNull(historia2.getJiraIssueKey());
+        verify(userStoryRepository).save(historia1);
+        verify(userStoryRepository, never()).save(historia2);
+        // Só a chave criada é gravada, em uma transação curta após a chamada ao Jira
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void testSincronizarHistoriasComJiraNaoSeguraTransacaoDuranteChamadaAoJira() {
+        when(userStoryRepository.findById(1L)).thenReturn(Optional.of(historia1));
+        when(jiraClient.criarIssue(historia1, "GROWUP")).thenAnswer(inv -> {
+            verify(transactionManager, never()).getTransaction(any());
+            return "GROWUP-1";
+        });
+        when(userStoryRepository.save(historia1)).thenThrow(new RuntimeException("banco indisponível"));
+
+        List<JiraSyncResultDTO> resultados = jiraService.sincronizarHistoriasComJira(List.of(1L), "GROWUP");
+
+        assertFalse(resultados.get(0).getSucesso());
+        assertTrue(resultados.get(0).getErro().contains("GROWUP-1 criada, mas não gravada"));
+        verify(transactionManager).rollback(any());
+        verify(cacheLeituraService, never()).invalidarProjeto(any());
+    }
+}
@@ -0,0 +1,134 @@
+package com.growup.service;
+
+import com.growup.dto.JiraSyncResultDTO;
+import com.growup.model.JiraSyncJob;
+import com.growup.model.JiraSyncJobItem;
+import com.growup.repository.JiraSyncJobItemRepository;
+import com.growup.repository.JiraSyncJobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(properties = {
+        "processamento.workers.habilitado=false",
+        "spring.datasource.url=jdbc:h2:mem:jirajobs",
+        "jira.jobs.intervalo-retomada-ms=3600000",
+        "jira.jobs.heartbeat-ms=3600000",
+        "jira.jobs.max-tentativas=3"
+})
+@ActiveProfiles("test")
+class JiraSyncJobServiceIntegrationTest {
+
+    @Autowired
+    private JiraSyncJobService jiraSyncJobService;
+
+    @Autowired
+    private JiraSyncJobRepository jobRepository;
+
+    @Autowired
+    private JiraSyncJobItemRepository itemRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private JiraService jiraService;
+
+    @BeforeEach
+    void setUp() {
+        itemRepository.deleteAll();
+        jobRepository.deleteAll();
+    }
+
+    @Test
+    void testJobLiberadoParaOutroNoNaoGravaResultadosEInterrompe() {
+        JiraSyncJob job = criarJob(JiraSyncJob.Status.PENDENTE, 0, LocalDateTime.now());
+        when(jiraService.sincronizarHistoriasEmParalelo(anyList(), anyString(), any())).thenAnswer(invocacao -> {
+            // Enquanto as chamadas ao Jira demoravam, o job expirou e foi assumido por outro nó
+            jdbcTemplate.update("UPDATE jira_sync_jobs SET locked_by = 'outro-no' WHERE id = ?", job.getId());
+            List<JiraSyncResultDTO> resultados = List.of(JiraSyncResultDTO.builder()
+                    .historiaId(1L).sucesso(true).jiraIssueKey("GROWUP-1").build());
+            Consumer<List<JiraSyncResultDTO>> aoGravarLote = invocacao.getArgument(2);
+            aoGravarLote.accept(resultados);
+            return resultados;
+        });
+
+        jiraSyncJobService.processar(job.getId());
+
+        JiraSyncJob depois = jobRepository.findById(job.getId()).orElseThrow();
+        assertEquals(JiraSyncJob.Status.EM_ANDAMENTO, depois.getStatus());
+        assertEquals("outro-no", depois.getExecutor());
+        assertTrue(itemRepository.findByJobIdOrderById(job.getId()).stream()
+                .allMatch(item -> item.getStatus() == JiraSyncJobItem.Status.PENDENTE));
+    }
+
+    @Test
+    void testErroRepetidoEncerraJobEmFalhaAposMaximoDeTentativas() {
+        JiraSyncJob job = criarJob(JiraSyncJob.Status.PENDENTE, 0, LocalDateTime.now());
+        when(jiraService.sincronizarHistoriasEmParalelo(anyList(), anyString(), any()))
+                .thenThrow(new IllegalStateException("Jira recusou o projeto"));
+
+        jiraSyncJobService.processar(job.getId());
+        JiraSyncJob aposPrimeira = jobRepository.findById(job.getId()).orElseThrow();
+        assertEquals(JiraSyncJob.Status.PENDENTE, aposPrimeira.getStatus());
+        assertEquals(1, aposPrimeira.getTentativas());
+        assertNull(aposPrimeira.getExecutor());
+
+        jiraSyncJobService.processar(job.getId());
+        jiraSyncJobService.processar(job.getId());
+        JiraSyncJob aposUltima = jobRepository.findById(job.getId()).orElseThrow();
+        assertEquals(JiraSyncJob.Status.FALHA, aposUltima.getStatus());
+        assertEquals(3, aposUltima.getTentativas());
+        assertNotNull(aposUltima.getConcluidoEm());
+
+        // Em FALHA o job não é mais reivindicado
+        jiraSyncJobService.processar(job.getId());
+        assertEquals(3, jobRepository.findById(job.getId()).orElseThrow().getTentativas());
+    }
+
+    @Test
+    void testJobExpiradoSemTentativasRestantesFalhaEmVezDeVoltarParaFila() {
+        LocalDateTime expirado = LocalDateTime.now().minusHours(1);
+        JiraSyncJob esgotado = criarJob(JiraSyncJob.Status.EM_ANDAMENTO, 3, expirado);
+        JiraSyncJob retomavel = criarJob(JiraSyncJob.Status.EM_ANDAMENTO, 1, expirado);
+        when(jiraService.sincronizarHistoriasEmParalelo(anyList(), anyString(), any()))
+                .thenThrow(new IllegalStateException("Jira indisponível"));
+
+        jiraSyncJobService.retomarJobs();
+
+        assertEquals(JiraSyncJob.Status.FALHA, jobRepository.findById(esgotado.getId()).orElseThrow().getStatus());
+        assertNotEquals(JiraSyncJob.Status.FALHA,
+                jobRepository.findById(retomavel.getId()).orElseThrow().getStatus());
+    }
+
+    private JiraSyncJob criarJob(JiraSyncJob.Status status, int tentativas, LocalDateTime atualizadoEm) {
+        JiraSyncJob job = jobRepository.save(JiraSyncJob.builder()
+                .jiraProjectKey("GROWUP")
+                .status(status)
+                .total(1)
+                .tentativas(tentativas)
+                .executor(status == JiraSyncJob.Status.EM_ANDAMENTO ? "no-parado" : null)
+                .build());
+        jdbcTemplate.update("UPDATE jira_sync_jobs SET updated_at = ? WHERE id = ?", atualizadoEm, job.getId());
+        itemRepository.save(JiraSyncJobItem.builder()
+                .jobId(job.getId())
+                .historiaId(1L)
+                .status(JiraSyncJobItem.Status.PENDENTE)
+                .build());
+        return job;
+    }
+}
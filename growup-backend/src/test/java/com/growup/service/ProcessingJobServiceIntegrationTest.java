@@ -0,0 +1,200 @@
+package com.growup.service;
+
+import com.growup.dto.ProcessamentoDTO;
+import com.growup.dto.UploadDocumentoRequest;
+import com.growup.model.ProcessingJob;
+import com.growup.model.Projeto;
+import com.growup.model.Sprint;
+import com.growup.model.UserStory;
+import com.growup.repository.ProcessingJobRepository;
+import com.growup.repository.ProjetoRepository;
+import com.growup.repository.SprintRepository;
+import com.growup.repository.UserStoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "processamento.workers.habilitado=false",
+        "spring.datasource.url=jdbc:h2:mem:processamento",
+        "processamento.purga.tamanho-lote=2"
+})
+@ActiveProfiles("test")
+class ProcessingJobServiceIntegrationTest {
+
+    @Autowired
+    private ProcessingJobService processingJobService;
+
+    @Autowired
+    private UserStoryService userStoryService;
+
+    @Autowired
+    private ProcessingJobRepository processingJobRepository;
+
+    @Autowired
+    private UserStoryRepository userStoryRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PurgaProjetoService purgaProjetoService;
+
+    @Autowired
+    private ProjetoRepository projetoRepository;
+
+    @Autowired
+    private SprintRepository sprintRepository;
+
+    @BeforeEach
+    void setUp() {
+        processingJobRepository.deleteAll();
+    }
+
+    @Test
+    void testNosConcorrentesNaoReivindicamOMesmoJob() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            processingJobService.enfileirarDocumento(request("Projeto " + i));
+        }
+
+        CountDownLatch travados = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        CompletableFuture<List<ProcessingJob>> noA = CompletableFuture.supplyAsync(() ->
+                transactionTemplate.execute(status -> {
+                    List<ProcessingJob> jobs = processingJobService.reivindicar("no-a", 2);
+                    travados.countDown();
+                    aguardar(liberar);
+                    return jobs;
+                }));
+
+        assertTrue(travados.await(10, TimeUnit.SECONDS));
+        // Enquanto o nó A mantém as linhas travadas, o nó B deve pulá-las sem bloquear
+        List<ProcessingJob> jobsB = processingJobService.reivindicar("no-b", 5);
+        liberar.countDown();
+        List<ProcessingJob> jobsA = noA.get(10, TimeUnit.SECONDS);
+
+        assertEquals(2, jobsA.size());
+        assertEquals(3, jobsB.size());
+        Set<Long> ids = new HashSet<>();
+        jobsA.forEach(j -> ids.add(j.getId()));
+        jobsB.forEach(j -> ids.add(j.getId()));
+        assertEquals(5, ids.size());
+        assertTrue(processingJobService.reivindicar("no-c", 5).isEmpty());
+    }
+
+    @Test
+    void testLeaseExpiradoPermiteQueOutroNoAssumaEDescartaResultadoAntigo() {
+        ProcessamentoDTO enfileirado = processingJobService.enfileirarDocumento(request("Projeto Lease"));
+        ProcessingJob doNoA = processingJobService.reivindicar("no-a", 1).get(0);
+
+        transactionTemplate.executeWithoutResult(status -> processingJobRepository.findById(enfileirado.getJobId())
+                .ifPresent(j -> j.setLeaseExpiraEm(LocalDateTime.now().minusSeconds(1))));
+
+        ProcessingJob doNoB = processingJobService.reivindicar("no-b", 1).get(0);
+        assertEquals(doNoA.getId(), doNoB.getId());
+        assertEquals(2, doNoB.getTentativas());
+
+        long antes = userStoryRepository.count();
+        assertFalse(processingJobService.concluirComHistorias(doNoA, "no-a",
+                userStoryService.gerarHistorias("documento", "contexto")));
+        assertEquals(antes, userStoryRepository.count());
+
+        assertTrue(processingJobService.concluirComHistorias(doNoB, "no-b",
+                userStoryService.gerarHistorias("documento", "contexto")));
+        assertEquals(antes + 3, userStoryRepository.count());
+        assertEquals("CONCLUIDO", processingJobService.buscar(doNoB.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void testFalhaDevolveJobParaFilaAteLimiteDeTentativas() {
+        ProcessamentoDTO enfileirado = processingJobService.enfileirarDocumento(request("Projeto Falha"));
+
+        for (int tentativa = 1; tentativa <= 3; tentativa++) {
+            ProcessingJob job = processingJobService.reivindicar("no-a", 1).get(0);
+            processingJobService.registrarFalha(job, "no-a", "IA indisponível");
+        }
+
+        ProcessamentoDTO resultado = processingJobService.buscar(enfileirado.getJobId()).orElseThrow();
+        assertEquals("FALHA", resultado.getStatus());
+        assertEquals("IA indisponível", resultado.getErro());
+        assertTrue(processingJobService.reivindicar("no-a", 1).isEmpty());
+    }
+
+    @Test
+    void testLeaseExpiradoContaComoTentativaEFinalizaJobNoLimite() {
+        ProcessamentoDTO enfileirado = processingJobService.enfileirarDocumento(request("Projeto Nó Derrubado"));
+
+        // Cada nó que reivindica o job para de responder antes de concluí-lo
+        for (int tentativa = 1; tentativa <= 3; tentativa++) {
+            ProcessingJob job = processingJobService.reivindicar("no-" + tentativa, 1).get(0);
+            assertEquals(tentativa, job.getTentativas());
+            transactionTemplate.executeWithoutResult(status -> processingJobRepository.findById(enfileirado.getJobId())
+                    .ifPresent(j -> j.setLeaseExpiraEm(LocalDateTime.now().minusSeconds(1))));
+        }
+
+        assertTrue(processingJobService.reivindicar("no-4", 1).isEmpty());
+        ProcessamentoDTO resultado = processingJobService.buscar(enfileirado.getJobId()).orElseThrow();
+        assertEquals("FALHA", resultado.getStatus());
+        assertEquals(3, resultado.getTentativas());
+        assertEquals("Lease expirou após 3 tentativas", resultado.getErro());
+        assertNotNull(resultado.getConcluidoEm());
+    }
+
+    @Test
+    void testPurgaRemoveProjetoEmLotes() {
+        Projeto projeto = projetoRepository.save(Projeto.builder().nome("Projeto Purga").build());
+        Sprint sprint = sprintRepository.save(Sprint.builder()
+                .titulo("Semana 1")
+                .periodo("05/11 - 12/11")
+                .projeto(projeto)
+                .build());
+        List<UserStory> historias = userStoryService.salvarHistorias(projeto.getId(),
+                userStoryService.gerarHistorias("documento", "contexto"));
+        transactionTemplate.executeWithoutResult(status -> userStoryRepository.alocarEmSprint(sprint.getId(),
+                List.of(historias.get(0).getId()), LocalDateTime.now()));
+
+        ProcessamentoDTO purga = processingJobService.enfileirarPurga(projeto.getId()).orElseThrow();
+        assertEquals("PURGAR_PROJETO", purga.getTipo());
+        // Uma segunda exclusão reaproveita o job pendente
+        assertEquals(purga.getJobId(), processingJobService.enfileirarPurga(projeto.getId()).orElseThrow().getJobId());
+
+        ProcessingJob job = processingJobService.reivindicar("no-a", 1).get(0);
+        purgaProjetoService.purgar(job.getProjetoId());
+        assertTrue(processingJobService.concluir(job, "no-a"));
+
+        assertFalse(projetoRepository.existsById(projeto.getId()));
+        assertFalse(sprintRepository.existsById(sprint.getId()));
+        assertTrue(userStoryRepository.findResumosByProjetoId(projeto.getId()).isEmpty());
+        assertEquals("CONCLUIDO", processingJobService.buscar(purga.getJobId()).orElseThrow().getStatus());
+        assertTrue(processingJobService.enfileirarPurga(projeto.getId()).isEmpty());
+    }
+
+    private UploadDocumentoRequest request(String nome) {
+        return UploadDocumentoRequest.builder()
+                .nomeProjeto(nome)
+                .conteudoDocumento("Como um usuário, eu quero fazer login")
+                .contextoAdicional("Contexto")
+                .build();
+    }
+
+    private static void aguardar(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
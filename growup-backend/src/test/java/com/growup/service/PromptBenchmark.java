@@ -0,0 +1,50 @@
+package com.growup.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Montagem do prompt de geração para documentos de 10 KB a 10 MB. Executado por
+ * {@code JmhBenchmarkTest}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PromptBenchmark {
+
+    private static final String LINHA = "Como um cliente, eu quero acompanhar meus pedidos para saber quando chegam.\n";
+
+    @Param({"10", "1024", "10240"})
+    private int tamanhoKb;
+
+    private String documento;
+
+    @Setup
+    public void preparar() {
+        int tamanho = tamanhoKb * 1024;
+        StringBuilder conteudo = new StringBuilder(tamanho + LINHA.length());
+        while (conteudo.length() < tamanho) {
+            conteudo.append(LINHA);
+        }
+        documento = conteudo.toString();
+    }
+
+    @Benchmark
+    public String construirPrompt() {
+        return GeracaoHistoriasService.construirPrompt(documento, "Aplicativo de entregas", 1, 1);
+    }
+}
@@ -0,0 +1,114 @@
+package com.growup.service;
+
+import com.growup.dto.RoadmapDTO;
+import com.growup.model.Projeto;
+import com.growup.model.Sprint;
+import com.growup.model.UserStory;
+import com.growup.repository.ProjetoRepository;
+import com.growup.repository.SprintRepository;
+import com.growup.repository.UserStoryRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:roadmap",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("test")
+class RoadmapServiceIntegrationTest {
+
+    @Autowired
+    private RoadmapService roadmapService;
+
+    @Autowired
+    private ProjetoRepository projetoRepository;
+
+    @Autowired
+    private SprintRepository sprintRepository;
+
+    @Autowired
+    private UserStoryRepository userStoryRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics estatisticas;
+
+    @BeforeEach
+    void setUp() {
+        estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void testRoadmapAgrupaHistoriasPorSprintEBacklog() {
+        Projeto projeto = projetoRepository.save(Projeto.builder().nome("Projeto Roadmap").build());
+        Sprint sprint = criarSprint(projeto, 1);
+        criarHistoria(projeto, sprint, "fazer login");
+        criarHistoria(projeto, sprint, "ver relatórios");
+        criarHistoria(projeto, null, "exportar dados");
+
+        RoadmapDTO roadmap = roadmapService.montarRoadmap(projeto.getId()).orElseThrow();
+
+        assertEquals("Projeto Roadmap", roadmap.getNome());
+        assertEquals(3, roadmap.getTotalHistorias());
+        assertEquals(1, roadmap.getSprints().size());
+        assertEquals(2, roadmap.getSprints().get(0).getTotalHistorias());
+        assertEquals(2, roadmap.getSprints().get(0).getHistorias().size());
+        assertEquals(1, roadmap.getBacklog().size());
+        assertEquals("exportar dados", roadmap.getBacklog().get(0).getAcao());
+        assertTrue(roadmapService.montarRoadmap(-1L).isEmpty());
+    }
+
+    @Test
+    void testQuantidadeDeConsultasNaoCresceComSprints() {
+        Projeto projeto = projetoRepository.save(Projeto.builder().nome("Projeto Escala").build());
+        for (int i = 1; i <= 2; i++) {
+            criarHistoria(projeto, criarSprint(projeto, i), "história " + i);
+        }
+        long comDuasSprints = contarConsultas(projeto.getId());
+
+        for (int i = 3; i <= 20; i++) {
+            Sprint sprint = criarSprint(projeto, i);
+            criarHistoria(projeto, sprint, "história " + i);
+            criarHistoria(projeto, sprint, "outra história " + i);
+        }
+        long comVinteSprints = contarConsultas(projeto.getId());
+
+        assertEquals(3, comDuasSprints);
+        assertEquals(comDuasSprints, comVinteSprints);
+    }
+
+    private long contarConsultas(Long projetoId) {
+        estatisticas.clear();
+        roadmapService.montarRoadmap(projetoId).orElseThrow();
+        return estatisticas.getPrepareStatementCount();
+    }
+
+    private Sprint criarSprint(Projeto projeto, int numero) {
+        return sprintRepository.save(Sprint.builder()
+                .titulo("Semana " + numero)
+                .periodo("0" + numero + "/11")
+                .projeto(projeto)
+                .build());
+    }
+
+    private void criarHistoria(Projeto projeto, Sprint sprint, String acao) {
+        userStoryRepository.save(UserStory.builder()
+                .papel("usuário")
+                .acao(acao)
+                .beneficio("benefício")
+                .prioridade(UserStory.Prioridade.MEDIA)
+                .estimativa("2 tarefas")
+                .projeto(projeto)
+                .sprint(sprint)
+                .build());
+    }
+}
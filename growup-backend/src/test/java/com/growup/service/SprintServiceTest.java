@@ -12,6 +12,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -29,6 +30,9 @@ class SprintServiceTest {
     @Mock
     private UserStoryRepository userStoryRepository;
 
+    @Mock
+    private CacheLeituraService cacheLeituraService;
+
     @InjectMocks
     private SprintService sprintService;
 
@@ -72,6 +76,7 @@ class SprintServiceTest {
         assertNotNull(resultado);
         assertEquals("Semana 1", resultado.getTitulo());
         verify(sprintRepository).save(any(Sprint.class));
+        verify(cacheLeituraService).invalidarProjeto(1L);
     }
 
     @Test
@@ -94,6 +99,7 @@ class SprintServiceTest {
         sprintService.alocarHistoriaEmSprint(1L, 1L);
 
         verify(userStoryRepository).save(any(UserStory.class));
+        verify(cacheLeituraService).invalidarProjeto(1L);
     }
 
     @Test
@@ -108,11 +114,13 @@ class SprintServiceTest {
 
     @Test
     void testDeletarSprint() {
-        sprint.setHistorias(List.of(historia));
         when(sprintRepository.findById(1L)).thenReturn(Optional.of(sprint));
 
         sprintService.deletarSprint(1L);
 
-        verify(sprintRepository).delete(any(Sprint.class));
+        verify(userStoryRepository).desalocarTodasDaSprint(eq(1L), any(LocalDateTime.class));
+        verify(sprintRepository).excluir(1L);
+        verify(sprintRepository, never()).delete(any(Sprint.class));
+        verify(cacheLeituraService).invalidarProjeto(1L);
     }
 }
@@ -6,16 +6,21 @@ import com.growup.model.Projeto;
 import com.growup.model.UserStory;
 import com.growup.repository.ProjetoRepository;
 import com.growup.repository.UserStoryRepository;
+import com.growup.repository.projecao.HistoriaResumo;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -31,7 +36,13 @@ class UserStoryServiceTest {
     private ProjetoRepository projetoRepository;
 
     @Mock
-    private AIService aiService;
+    private GeracaoHistoriasService geracaoHistoriasService;
+
+    @Mock
+    private CacheLeituraService cacheLeituraService;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
 
     @InjectMocks
     private UserStoryService userStoryService;
@@ -67,20 +78,26 @@ class UserStoryServiceTest {
                 .contextoAdicional("Contexto")
                 .build();
 
-        when(projetoRepository.save(any(Projeto.class))).thenReturn(projeto);
-        when(aiService.gerarHistorias(anyString())).thenReturn(List.of(historia));
-        when(userStoryRepository.saveAll(anyList())).thenReturn(List.of(historia));
+        when(projetoRepository.save(any(Projeto.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(geracaoHistoriasService.gerar(anyString(), anyString(), eq(false))).thenReturn(List.of(historia));
+        when(userStoryRepository.inserirEmLote(anyList())).thenReturn(List.of(historia));
 
         Projeto resultado = userStoryService.processarDocumento(request);
 
         assertNotNull(resultado);
         assertEquals("Novo Projeto", resultado.getNome());
-        verify(projetoRepository, times(2)).save(any(Projeto.class));
+        assertEquals(List.of(historia), resultado.getHistorias());
+        // Uma única gravação do projeto; as histórias vão em lote
+        verify(projetoRepository, times(1)).save(any(Projeto.class));
+        verify(userStoryRepository, never()).saveAll(anyList());
+        verify(cacheLeituraService).invalidarProjeto(resultado.getId());
     }
 
     @Test
     void testListarHistoriasPorProjeto() {
-        when(userStoryRepository.findByProjetoId(1L)).thenReturn(List.of(historia));
+        when(userStoryRepository.findResumosByProjetoId(1L)).thenReturn(List.of(resumo()));
+        when(cacheLeituraService.historiasDoProjeto(eq(1L), any()))
+                .thenAnswer(inv -> inv.<Supplier<List<UserStoryDTO>>>getArgument(1).get());
 
         List<UserStoryDTO> resultado = userStoryService.listarHistoriasPorProjeto(1L);
 
@@ -106,23 +123,32 @@ class UserStoryServiceTest {
 
         assertNotNull(resultado);
         verify(userStoryRepository).save(any(UserStory.class));
+        verify(cacheLeituraService).invalidarProjeto(1L);
     }
 
     @Test
     void testDeletarHistoria() {
+        when(userStoryRepository.findById(1L)).thenReturn(Optional.of(historia));
+
         userStoryService.deletarHistoria(1L);
 
-        verify(userStoryRepository).deleteById(1L);
+        verify(userStoryRepository).delete(historia);
+        verify(cacheLeituraService).invalidarProjeto(1L);
     }
 
     @Test
     void testListarHistoriasNaoAlocadas() {
-        when(userStoryRepository.findByProjetoIdAndSprintIsNull(1L))
-                .thenReturn(List.of(historia));
+        when(userStoryRepository.findResumosNaoAlocadosByProjetoId(1L))
+                .thenReturn(List.of(resumo()));
 
         List<UserStoryDTO> resultado = userStoryService.listarHistoriasNaoAlocadas(1L);
 
         assertNotNull(resultado);
         assertEquals(1, resultado.size());
     }
+
+    private HistoriaResumo resumo() {
+        return new HistoriaResumo(historia.getId(), historia.getPapel(), historia.getAcao(), historia.getBeneficio(),
+                historia.getPrioridade(), historia.getEstimativa(), null, null);
+    }
 }